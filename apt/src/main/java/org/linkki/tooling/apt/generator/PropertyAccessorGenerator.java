@@ -0,0 +1,283 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.tooling.apt.generator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.apache.commons.lang3.StringUtils;
+import org.linkki.core.binding.dispatcher.reflection.accessor.GeneratedPropertyAccessor;
+import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessorProvider;
+import org.linkki.tooling.apt.model.AptPmo;
+
+/**
+ * Generates a {@link PropertyAccessorProvider} for a PMO, so that linkki can access the properties of
+ * the PMO without reflection. The generated class is named after the PMO with the suffix
+ * {@value #CLASS_NAME_SUFFIX} and placed in the same package.
+ * <p>
+ * Accessors are generated for the properties that have a public getter and for public methods without
+ * parameters and return value. The same methods are used that linkki would find via reflection, so the
+ * generated accessors behave exactly like reflection based ones. Properties that cannot be accessed by
+ * generated code, for example because their methods declare exceptions, are left out and accessed via
+ * reflection.
+ * <p>
+ * The generated providers are listed in the service file for the {@link java.util.ServiceLoader} that
+ * is written by {@link #writeServiceFile()} at the end of the compilation. Because the file lists the
+ * providers of one compilation, incremental compilation may leave out providers, which only means that
+ * the properties of those PMOs are accessed via reflection.
+ */
+public class PropertyAccessorGenerator {
+
+    public static final String CLASS_NAME_SUFFIX = "_LinkkiPropertyAccessors";
+
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    private final Filer filer;
+    private final Elements elements;
+    private final Types types;
+
+    private final Set<String> generatedProviders = new LinkedHashSet<>();
+
+    public PropertyAccessorGenerator(Filer filer, Elements elements, Types types) {
+        this.filer = filer;
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Generates the {@link PropertyAccessorProvider} for the given PMO. Nothing is generated for
+     * {@link AptPmo#isAbstractType() abstract types}, as the accessors are only used for instances of
+     * exactly the PMO class.
+     * 
+     * @throws IOException if the source file cannot be written
+     */
+    public void generate(AptPmo pmo) throws IOException {
+        TypeElement pmoElement = pmo.getElement();
+        if (pmo.isAbstractType()) {
+            return;
+        }
+        String packageName = getPackageName(pmoElement);
+        String className = getProviderClassName(pmoElement, packageName);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+        if (!generatedProviders.add(qualifiedName)) {
+            return;
+        }
+
+        JavaFileObject sourceFile = filer.createSourceFile(qualifiedName, pmoElement);
+        try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+            writeProvider(writer, packageName, className, pmoElement);
+        }
+    }
+
+    /**
+     * Writes the service file that lists all providers generated since this generator was created.
+     * Does nothing if no provider was generated.
+     * 
+     * @throws IOException if the file cannot be written
+     */
+    public void writeServiceFile() throws IOException {
+        if (generatedProviders.isEmpty()) {
+            return;
+        }
+        FileObject serviceFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                                                      "META-INF/services/"
+                                                              + PropertyAccessorProvider.class.getName());
+        try (Writer writer = serviceFile.openWriter()) {
+            for (String provider : generatedProviders) {
+                writer.write(provider);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private String getPackageName(TypeElement pmoElement) {
+        PackageElement packageElement = elements.getPackageOf(pmoElement);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private String getProviderClassName(TypeElement pmoElement, String packageName) {
+        String binaryName = elements.getBinaryName(pmoElement).toString();
+        String nameInPackage = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return nameInPackage.replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    private void writeProvider(PrintWriter writer, String packageName, String className, TypeElement pmoElement) {
+        String pmoType = types.erasure(pmoElement.asType()).toString();
+        if (!packageName.isEmpty()) {
+            writer.println("package " + packageName + ";");
+            writer.println();
+        }
+        writer.println("/**");
+        writer.println(" * Generated by the linkki annotation processor for {@link " + pmoType + "}.");
+        writer.println(" */");
+        writer.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\", \"deprecation\" })");
+        writer.println("public final class " + className + " implements "
+                + PropertyAccessorProvider.class.getName() + " {");
+        writer.println();
+        writer.println("    @Override");
+        writer.println("    public Class<?> getBoundClass() {");
+        writer.println("        return " + pmoType + ".class;");
+        writer.println("    }");
+        writer.println();
+        writer.println("    @Override");
+        writer.println("    public java.util.Map<String, " + PropertyAccessorProvider.class.getPackage().getName()
+                + ".PropertyAccessor<?, ?>> getPropertyAccessors() {");
+        writer.println("        java.util.Map<String, " + PropertyAccessorProvider.class.getPackage().getName()
+                + ".PropertyAccessor<?, ?>> accessors = new java.util.HashMap<>();");
+        for (Property property : getProperties(pmoElement).values()) {
+            writer.println("        accessors.put(\"" + property.name + "\", " + property.toSource(pmoType) + ");");
+        }
+        writer.println("        return accessors;");
+        writer.println("    }");
+        writer.println();
+        writer.println("}");
+    }
+
+    /**
+     * Collects the properties of the PMO the way
+     * {@link org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessDescriptor
+     * PropertyAccessDescriptor} finds the methods via reflection.
+     */
+    private Map<String, Property> getProperties(TypeElement pmoElement) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(pmoElement)).stream()
+                .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                .filter(m -> !isObjectMethod(m))
+                .collect(Collectors.toList());
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().isEmpty()) {
+                String methodName = method.getSimpleName().toString();
+                if (method.getReturnType().getKind() == TypeKind.VOID) {
+                    properties.computeIfAbsent(methodName, Property::new);
+                } else {
+                    getGetterPropertyName(methodName).ifPresent(p -> properties.computeIfAbsent(p, Property::new));
+                }
+            }
+        }
+        properties.values().forEach(property -> property.resolve(methods));
+        properties.values().removeIf(Property::isInaccessible);
+        return properties;
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        return ((TypeElement)method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    private static Optional<String> getGetterPropertyName(String methodName) {
+        if (methodName.startsWith(GET_PREFIX) && methodName.length() > GET_PREFIX.length()) {
+            return Optional.of(StringUtils.uncapitalize(methodName.substring(GET_PREFIX.length())));
+        } else if (methodName.startsWith(IS_PREFIX) && methodName.length() > IS_PREFIX.length()) {
+            return Optional.of(StringUtils.uncapitalize(methodName.substring(IS_PREFIX.length())));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The methods used to access a property.
+     */
+    private class Property {
+
+        private final String name;
+
+        private Optional<ExecutableElement> getter = Optional.empty();
+
+        private Optional<ExecutableElement> setter = Optional.empty();
+
+        private Optional<ExecutableElement> invoker = Optional.empty();
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        void resolve(List<ExecutableElement> methods) {
+            String capitalizedName = StringUtils.capitalize(name);
+            getter = findGetter(methods, GET_PREFIX + capitalizedName);
+            if (!getter.isPresent()) {
+                getter = findGetter(methods, IS_PREFIX + capitalizedName);
+            }
+            setter = getter.flatMap(g -> findMethod(methods, SET_PREFIX + capitalizedName, 1)
+                    .filter(s -> types.isAssignable(g.getReturnType(), s.getParameters().get(0).asType())));
+            invoker = findMethod(methods, name, 0);
+        }
+
+        private Optional<ExecutableElement> findGetter(List<ExecutableElement> methods, String methodName) {
+            return findMethod(methods, methodName, 0).filter(m -> m.getReturnType().getKind() != TypeKind.VOID);
+        }
+
+        private Optional<ExecutableElement> findMethod(List<ExecutableElement> methods,
+                String methodName,
+                int parameterCount) {
+            return methods.stream()
+                    .filter(m -> m.getSimpleName().contentEquals(methodName))
+                    .filter(m -> m.getParameters().size() == parameterCount)
+                    .findFirst();
+        }
+
+        /**
+         * Generated code cannot call methods that declare exceptions without handling them, so such
+         * properties are left to reflection.
+         */
+        boolean isInaccessible() {
+            return (!getter.isPresent() && !invoker.isPresent())
+                    || getter.map(m -> !m.getThrownTypes().isEmpty()).orElse(false)
+                    || setter.map(m -> !m.getThrownTypes().isEmpty()).orElse(false)
+                    || invoker.map(m -> !m.getThrownTypes().isEmpty()).orElse(false);
+        }
+
+        String toSource(String pmoType) {
+            return "new " + GeneratedPropertyAccessor.class.getName() + "<" + pmoType + ", Object>("
+                    + pmoType + ".class, \"" + name + "\", "
+                    + getter.map(m -> typeName(m.getReturnType()) + ".class").orElse("null") + ", "
+                    + getter.map(m -> "pmo -> pmo." + m.getSimpleName() + "()").orElse("null") + ", "
+                    + setter.map(m -> "(pmo, value) -> pmo." + m.getSimpleName() + "(("
+                            + typeName(m.getParameters().get(0).asType()) + ")value)").orElse("null")
+                    + ", "
+                    + invoker.map(m -> "pmo -> pmo." + m.getSimpleName() + "()").orElse("null") + ")";
+        }
+
+        private String typeName(TypeMirror type) {
+            return types.erasure(type).toString();
+        }
+
+    }
+
+}
@@ -45,6 +45,8 @@ import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.linkki.tooling.apt.generator.PropertyAccessorGenerator;
+import org.linkki.tooling.apt.model.AptPmo;
 import org.linkki.tooling.apt.util.ElementUtils;
 import org.linkki.tooling.apt.util.ModelBuilder;
 import org.linkki.tooling.apt.validator.AspectMethodValidator;
@@ -57,11 +59,16 @@ import org.linkki.tooling.apt.validator.PositionValidator;
 import org.linkki.tooling.apt.validator.PublicModifierValidator;
 import org.linkki.tooling.apt.validator.Validator;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * This {@link Processor} creates a model from the processed class and checks it with a list of
  * {@link Validator Validators}.
+ * <p>
+ * If the option {@value #GENERATE_PROPERTY_ACCESSORS_OPTION} is set to <code>true</code>, the processor
+ * additionally generates a {@link PropertyAccessorGenerator reflection-free property accessor provider}
+ * for every processed PMO.
  */
 @SupportedAnnotationTypes("*")
 @SuppressFBWarnings(value = "NP_NONNULL_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR", justification = "Processor needs a zero args constructor, fields are set in init")
@@ -69,6 +76,9 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
 
     public static final String LINKKI_OPTION_PREFIX = "linkki.apt";
 
+    public static final String GENERATE_PROPERTY_ACCESSORS_OPTION = LINKKI_OPTION_PREFIX
+            + ".generatePropertyAccessors";
+
     private static final Set<ElementKind> SUPPORTED_ELEMENT_KINDS = new HashSet<>(
             asList(ElementKind.CLASS, ElementKind.INTERFACE));
 
@@ -82,6 +92,9 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
 
     private ClassLoader classLoader;
 
+    @CheckForNull
+    private PropertyAccessorGenerator propertyAccessorGenerator;
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latest();
@@ -89,7 +102,7 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
 
     @Override
     public Set<String> getSupportedOptions() {
-        Stream<String> classpathOption = Stream.of("classpath");
+        Stream<String> classpathOption = Stream.of("classpath", GENERATE_PROPERTY_ACCESSORS_OPTION);
 
         Stream<String> validatorOptions = validators.stream()
                 .map(Validator::getClass)
@@ -119,6 +132,10 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
                             new DynamicFieldValidator(options, elementUtils),
                             new AvailableValuesTypeValidator(options, elementUtils),
                             new BoundPropertyValidator(options, types));
+        if (Boolean.parseBoolean(options.get(GENERATE_PROPERTY_ACCESSORS_OPTION))) {
+            propertyAccessorGenerator = new PropertyAccessorGenerator(processingEnvironment.getFiler(), elements,
+                    types);
+        }
     }
 
     private ClassLoader getClassLoader(Map<String, String> options) {
@@ -148,6 +165,7 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
+            writeServiceFile();
             return false;
         }
 
@@ -163,7 +181,9 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
                     .forEach(pmo -> {
                         try {
                             validators.forEach(val -> val.validate(pmo, messager));
-                        } catch (IllegalStateException | IllegalArgumentException | NoSuchElementException t) {
+                            generatePropertyAccessors(pmo);
+                        } catch (IllegalStateException | IllegalArgumentException | NoSuchElementException
+                                | IOException t) {
                             String qualifiedName = pmo.getElement().getQualifiedName().toString();
                             printExceptionInfo(messager, qualifiedName, t);
                         }
@@ -183,6 +203,26 @@ public class LinkkiAnnotationProcessor extends AbstractProcessor {
         return true;
     }
 
+    private void generatePropertyAccessors(AptPmo pmo) throws IOException {
+        PropertyAccessorGenerator generator = propertyAccessorGenerator;
+        if (generator != null) {
+            generator.generate(pmo);
+        }
+    }
+
+    private void writeServiceFile() {
+        PropertyAccessorGenerator generator = propertyAccessorGenerator;
+        if (generator != null) {
+            try {
+                generator.writeServiceFile();
+            } catch (IOException e) {
+                processingEnv.getMessager()
+                        .printMessage(Kind.ERROR, "Cannot write the service file of the generated property accessors:\n"
+                                + ExceptionUtils.getStackTrace(e));
+            }
+        }
+    }
+
     /**
      * Tells whether an {@link Element element} is public.
      * 
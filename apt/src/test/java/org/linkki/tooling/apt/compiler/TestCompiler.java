@@ -78,6 +78,10 @@ public class TestCompiler {
                                it -> it.getValue())));
     }
 
+    public File getOutputDir() {
+        return outputDir;
+    }
+
     public void cleanUp() {
         FileUtils.deleteQuietly(sourceDir);
         FileUtils.deleteQuietly(outputDir);
@@ -0,0 +1,92 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.tooling.apt.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.processing.Processor;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessorProvider;
+import org.linkki.tooling.apt.processor.LinkkiAnnotationProcessor;
+import org.linkki.tooling.apt.validator.BaseAnnotationProcessorTest;
+
+public class PropertyAccessorGeneratorTest extends BaseAnnotationProcessorTest {
+
+    private static final String PMO_FILE = "propertyAccessorGenerator/AccessorPmo.java";
+
+    private static final String PROVIDER_NAME = "AccessorPmo" + PropertyAccessorGenerator.CLASS_NAME_SUFFIX;
+
+    @Test
+    public void testGenerate() throws IOException {
+        addOption("generatePropertyAccessors", "true");
+
+        assertThat(compile(getSourceFiles(PMO_FILE)), is(true));
+
+        assertThat(getOutputFile(PROVIDER_NAME + ".class").exists(), is(true));
+        assertThat(readServiceFile(), is(Collections.singletonList(PROVIDER_NAME)));
+    }
+
+    @Test
+    public void testGenerate_Properties() throws IOException {
+        addOption("generatePropertyAccessors", "true");
+
+        compile(getSourceFiles(PMO_FILE));
+
+        String source = new String(Files.readAllBytes(getOutputFile(PROVIDER_NAME + ".java").toPath()),
+                StandardCharsets.UTF_8);
+        assertThat(source, containsString("accessors.put(\"name\""));
+        assertThat(source, containsString("(pmo, value) -> pmo.setCount((int)value)"));
+        assertThat(source, containsString("accessors.put(\"countVisible\""));
+        assertThat(source, containsString("pmo -> pmo.reset()"));
+        assertThat(source, not(containsString("accessors.put(\"checked\"")));
+    }
+
+    @Test
+    public void testGenerate_NotEnabled() {
+        assertThat(compile(getSourceFiles(PMO_FILE)), is(true));
+
+        assertThat(getOutputFile(PROVIDER_NAME + ".class").exists(), is(false));
+        assertThat(getServiceFile().exists(), is(false));
+    }
+
+    private File getOutputFile(String fileName) {
+        return new File(getCompiler().getOutputDir(), fileName);
+    }
+
+    private File getServiceFile() {
+        return getOutputFile("META-INF/services/" + PropertyAccessorProvider.class.getName());
+    }
+
+    private List<String> readServiceFile() throws IOException {
+        return Files.readAllLines(getServiceFile().toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected Processor createProcessor() {
+        return new LinkkiAnnotationProcessor();
+    }
+
+}
@@ -16,26 +16,32 @@ package org.linkki.core.binding;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
-import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.stream.Stream;
 
+import org.linkki.core.binding.DirtyTracker.Changes;
 import org.linkki.core.binding.descriptor.BindingDescriptor;
 import org.linkki.core.binding.descriptor.aspect.Aspect;
 import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.CachingPropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehavior;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.binding.manager.BindingManager;
 import org.linkki.core.binding.manager.UiUpdateObserver;
+import org.linkki.core.binding.metrics.BindingMetrics;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+import org.linkki.core.binding.refresh.RefreshStrategy;
 import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.ObjectProperty;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
 import org.linkki.core.pmo.ButtonPmo;
@@ -57,10 +63,15 @@ public class BindingContext implements UiUpdateObserver {
 
     private final String name;
     private final PropertyBehaviorProvider behaviorProvider;
+    private final CachingPropertyBehaviorProvider behaviorCache;
     private final Handler afterUpdateHandler;
     private final PropertyDispatcherFactory dispatcherFactory;
+    private final DirtyTracker dirtyTracker;
+    private final BindingContextSettings settings;
 
-    private final Map<Object, WeakReference<Binding>> bindings = new WeakHashMap<>();
+    private final BindingRegistry registry = new BindingRegistry();
+
+    private final Set<Binding> suspendedBindings = Collections.newSetFromMap(new WeakHashMap<>());
 
     private MessageList currentMessages = new MessageList();
 
@@ -125,10 +136,48 @@ public class BindingContext implements UiUpdateObserver {
      */
     public BindingContext(String contextName, PropertyBehaviorProvider behaviorProvider,
             PropertyDispatcherFactory dispatcherFactory, Handler afterUpdateHandler) {
+        this(contextName, behaviorProvider, dispatcherFactory, RefreshStrategy.FULL, afterUpdateHandler);
+    }
+
+    /**
+     * Creates a new binding context with the given name, using the behavior provider to decorate its
+     * bindings and notifying a handler after every UI update. The {@link RefreshStrategy} defines which
+     * bindings are updated when the model changed.
+     * 
+     * @param contextName name of this context that is used as identifier in a
+     *            {@linkplain BindingManager}
+     * @param behaviorProvider used to retrieve all {@link PropertyBehavior PropertyBehaviors} that are
+     *            relevant to this context
+     * @param dispatcherFactory the factory used to create the {@link PropertyDispatcher} chain for any
+     *            property
+     * @param refreshStrategy the {@link RefreshStrategy} that defines which bindings are updated by
+     *            {@link #modelChanged()}
+     * @param afterUpdateHandler a handler that is applied after the UI update. Usually
+     *            {@link BindingManager#afterUpdateUi()}
+     */
+    public BindingContext(String contextName, PropertyBehaviorProvider behaviorProvider,
+            PropertyDispatcherFactory dispatcherFactory, RefreshStrategy refreshStrategy,
+            Handler afterUpdateHandler) {
+        this(contextName, behaviorProvider, dispatcherFactory,
+                new DirtyTracker(requireNonNull(refreshStrategy, "refreshStrategy must not be null")),
+                new BindingContextSettings(), afterUpdateHandler);
+    }
+
+    /**
+     * Creates a new binding context that records the changes of its bindings in the given
+     * {@link DirtyTracker} and uses the given settings. Used by {@link ContainerBinding} to share the
+     * tracker and the settings of its parent.
+     */
+    BindingContext(String contextName, PropertyBehaviorProvider behaviorProvider,
+            PropertyDispatcherFactory dispatcherFactory, DirtyTracker dirtyTracker, BindingContextSettings settings,
+            Handler afterUpdateHandler) {
         this.name = requireNonNull(contextName, "contextName must not be null");
         this.behaviorProvider = requireNonNull(behaviorProvider, "behaviorProvider must not be null");
+        this.behaviorCache = new CachingPropertyBehaviorProvider(behaviorProvider);
         this.afterUpdateHandler = requireNonNull(afterUpdateHandler, "afterUpdateHandler must not be null");
         this.dispatcherFactory = requireNonNull(dispatcherFactory, "dispatcherFactory must not be null");
+        this.dirtyTracker = requireNonNull(dirtyTracker, "dirtyTracker must not be null");
+        this.settings = requireNonNull(settings, "settings must not be null");
     }
 
     /**
@@ -166,8 +215,12 @@ public class BindingContext implements UiUpdateObserver {
         binding.updateFromPmo();
         binding.displayMessages(currentMessages);
 
-        bindings.put(binding.getBoundComponent(), new WeakReference<>(binding));
+        Object component = binding.getBoundComponent();
+        registry.add(binding);
         componentWrapper.registerBinding(binding);
+        if (isRemoveBindingsOnDetach()) {
+            componentWrapper.addDetachHandler(() -> registry.remove(component));
+        }
         return this;
     }
 
@@ -180,21 +233,25 @@ public class BindingContext implements UiUpdateObserver {
     }
 
     private Stream<Binding> getBindingStream() {
-        return bindings.entrySet().stream()
-                .map(this::getExistingBinding);
-    }
-
-    private Binding getExistingBinding(Entry<Object, WeakReference<Binding>> entry) {
-        Object component = entry.getKey();
-        Binding binding = entry.getValue().get();
-        if (binding == null) {
-            System.out.println("****************************************************************************");
-            System.out.println("Binding for component " + component + " was removed too early");
-            System.out.println("****************************************************************************");
-            throw new RuntimeException(
-                    "Binding for component " + component + " was removed too early");
-        }
-        return binding;
+        return registry.stream();
+    }
+
+    /**
+     * Returns the bindings of this context and its nested {@link BindingContext binding contexts}
+     * whose UI component is not {@link UiFramework#isAttached(Object) attached} to a UI anymore.
+     * <p>
+     * Such bindings are still updated with every UI update. They are only released when their
+     * component is garbage collected, which may never happen if the component is referenced by
+     * application code. Use this method to find bindings that should have been removed using
+     * {@link #removeBindingsForComponent(Object)} or {@link #removeBindingsForPmo(Object)}, or
+     * {@link #setRemoveBindingsOnDetach(boolean) remove bindings on detach}.
+     */
+    public List<Binding> getDetachedBindings() {
+        return Stream.concat(getBindingStream()
+                .filter(binding -> !UiFramework.isAttached(binding.getBoundComponent())),
+                             registry.getNestedContexts().stream()
+                                     .flatMap(bc -> bc.getDetachedBindings().stream()))
+                .collect(toList());
     }
 
     /**
@@ -208,14 +265,27 @@ public class BindingContext implements UiUpdateObserver {
      * @param uiComponent that is given to find and remove the bindings that refer to it
      */
     public void removeBindingsForComponent(Object uiComponent) {
-        bindings.remove(uiComponent);
+        List<Object> components = new ArrayList<>();
+        collectComponents(uiComponent, components);
+        removeBindingsForComponents(components);
+    }
+
+    private static void collectComponents(Object uiComponent, List<Object> components) {
+        components.add(uiComponent);
         UiFramework.getChildComponents(uiComponent)
                 .iterator()
-                .forEachRemaining(this::removeBindingsForComponent);
-        getBindingStream()
-                .filter(BindingContext.class::isInstance)
-                .map(BindingContext.class::cast)
-                .forEach(bc -> bc.removeBindingsForComponent(uiComponent));
+                .forEachRemaining(child -> collectComponents(child, components));
+    }
+
+    /**
+     * Removes the bindings of the given components from this context and its nested
+     * {@link BindingContext binding contexts}. The component tree is traversed only once by
+     * {@link #removeBindingsForComponent(Object)}.
+     */
+    private void removeBindingsForComponents(List<Object> components) {
+        registry.removeAll(components);
+        registry.getNestedContexts()
+                .forEach(bc -> bc.removeBindingsForComponents(components));
     }
 
     /**
@@ -242,13 +312,8 @@ public class BindingContext implements UiUpdateObserver {
      * @param pmo that is given to find and remove the bindings that refer to it
      */
     public void removeBindingsForPmo(Object pmo) {
-        bindings.values().removeIf(ref -> {
-            Binding binding = ref.get();
-            return binding != null && binding.getPmo() == pmo;
-        });
-        getBindingStream()
-                .filter(BindingContext.class::isInstance)
-                .map(BindingContext.class::cast)
+        registry.removeByPmo(pmo);
+        registry.getNestedContexts()
                 .forEach(bc -> bc.removeBindingsForPmo(pmo));
 
         if (pmo instanceof PresentationModelObject) {
@@ -270,7 +335,7 @@ public class BindingContext implements UiUpdateObserver {
     public void updateUI() {
         /* inline this code into modelChanged() once updateUI() is removed */
 
-        updateFromPmo();
+        measure(Phase.UPDATE_FROM_PMO, () -> UiFramework.runInUpdateScope(this::updateFromPmo));
 
         // Notify handler that the UI was updated for this context and the messages in all
         // contexts should now be updated
@@ -285,6 +350,10 @@ public class BindingContext implements UiUpdateObserver {
      * {@link Binding Bindings} of this {@link BindingContext} and notify the
      * after-update-handler(provided in the constructor) that the model has changed. This may trigger
      * other {@link UiUpdateObserver observers}.
+     * <p>
+     * If this context uses an {@link RefreshStrategy#isIncremental() incremental}
+     * {@link RefreshStrategy}, only the bindings affected by the values pushed since the last update
+     * are updated.
      * 
      * @see #uiUpdated()
      */
@@ -303,11 +372,119 @@ public class BindingContext implements UiUpdateObserver {
      */
     @Override
     public void uiUpdated() {
-        updateFromPmo();
+        measure(Phase.UPDATE_FROM_PMO, () -> UiFramework.runInUpdateScope(this::updateFromPmo));
     }
 
     void updateFromPmo() {
-        getBindingStream().forEach(binding -> binding.updateFromPmo());
+        updateFromPmo(dirtyTracker.drain());
+    }
+
+    /**
+     * Updates the bindings affected by the given changes. Nested {@link BindingContext binding
+     * contexts} decide themselves which of their bindings are affected.
+     * <p>
+     * The {@link PropertyBehavior PropertyBehaviors} are evaluated anew in every update unless the
+     * {@link PropertyBehaviorProvider} is {@link PropertyBehaviorProvider#isStable() stable}.
+     */
+    void updateFromPmo(Changes changes) {
+        behaviorCache.invalidate();
+        getBindingStream().forEach(binding -> {
+            if (suspendIfHidden(binding)) {
+                return;
+            }
+            if (changes.isAll()) {
+                updateBinding(binding);
+            } else if (binding instanceof BindingContext) {
+                ((BindingContext)binding).updateFromPmo(changes);
+            } else if (changes.affects(binding)) {
+                updateBinding(binding);
+            }
+        });
+        resumeVisibleBindings();
+    }
+
+    /**
+     * Returns <code>true</code> and remembers the binding as suspended if
+     * {@link #setSuspendHiddenBindings(boolean) hidden bindings are suspended} and the binding's
+     * component is {@link UiFramework#isHiddenByParent(Object) hidden by one of its parents}.
+     */
+    private boolean suspendIfHidden(Binding binding) {
+        if (isHidden(binding)) {
+            suspendedBindings.add(binding);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private boolean isHidden(Binding binding) {
+        return settings.isSuspendHiddenBindings() && UiFramework.isHiddenByParent(binding.getBoundComponent());
+    }
+
+    /**
+     * Updates the suspended bindings of this context that are not hidden anymore, or all suspended
+     * bindings if hidden bindings are not suspended anymore. Repeats until no more bindings are
+     * resumed, as updating a binding may show the components of other bindings.
+     */
+    private void resumeVisibleBindings() {
+        boolean resumed = !suspendedBindings.isEmpty();
+        while (resumed) {
+            resumed = false;
+            for (Binding binding : new ArrayList<>(suspendedBindings)) {
+                if (registry.get(binding.getBoundComponent()) != binding) {
+                    suspendedBindings.remove(binding);
+                } else if (!isHidden(binding)) {
+                    updateBinding(binding);
+                    resumed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the bindings of this context and its nested {@link BindingContext binding contexts}
+     * that were {@link #setSuspendHiddenBindings(boolean) suspended} because their components were
+     * hidden and that are visible now. Every update of this context does so as well, this method is
+     * used if components are shown without updating the context, for example when a section is
+     * opened.
+     */
+    public void updateSuspendedBindings() {
+        UiFramework.runInUpdateScope(() -> {
+            behaviorCache.invalidate();
+            resumeVisibleBindings();
+        });
+        registry.getNestedContexts().forEach(BindingContext::updateSuspendedBindings);
+    }
+
+    /**
+     * Updates the binding. A suspended binding is resumed and displays the current messages as well.
+     */
+    private void updateBinding(Binding binding) {
+        boolean resumed = !suspendedBindings.isEmpty() && suspendedBindings.remove(binding);
+        BindingMetrics metrics = settings.getMetrics();
+        if (metrics.isEnabled() && binding instanceof ElementBinding) {
+            long start = System.nanoTime();
+            binding.updateFromPmo();
+            metrics.propertyCompleted(Phase.UPDATE_FROM_PMO, name, binding.getPmo().getClass(),
+                                      ((ElementBinding)binding).getPropertyDispatcher().getProperty(),
+                                      System.nanoTime() - start);
+        } else {
+            binding.updateFromPmo();
+        }
+        if (resumed) {
+            binding.displayMessages(currentMessages);
+        }
+    }
+
+    private void measure(Phase phase, Handler handler) {
+        BindingMetrics metrics = settings.getMetrics();
+        if (metrics.isEnabled()) {
+            long start = System.nanoTime();
+            handler.apply();
+            metrics.phaseCompleted(phase, name, System.nanoTime() - start);
+        } else {
+            handler.apply();
+        }
     }
 
     /**
@@ -333,18 +510,140 @@ public class BindingContext implements UiUpdateObserver {
      */
     public MessageList displayMessages(MessageList messages) {
         currentMessages = messages;
+        behaviorCache.invalidate();
         return getBindingStream()
+                .filter(binding -> !suspendIfHidden(binding))
                 .map(binding -> binding.displayMessages(messages))
                 .flatMap(MessageList::stream)
                 .distinct()
                 .collect(MessageList.collector());
     }
 
+    /**
+     * Updates the bindings that display any of the changed messages with the given message list.
+     * Bindings that are not affected by the changed messages keep their messages.
+     * <p>
+     * This method is used by a {@link BindingManager} after an
+     * {@link org.linkki.core.binding.validation.IncrementalValidationService incremental validation}.
+     * 
+     * @param messages all current messages
+     * @param changedMessages the messages that were added or removed since the last call of
+     *            {@link #displayMessages(MessageList)}
+     */
+    public void displayMessages(MessageList messages, MessageList changedMessages) {
+        requireNonNull(messages, "messages must not be null");
+        requireNonNull(changedMessages, "changedMessages must not be null");
+        currentMessages = messages;
+        behaviorCache.invalidate();
+        getBindingStream().forEach(binding -> {
+            if (suspendIfHidden(binding)) {
+                return;
+            }
+            if (binding instanceof BindingContext) {
+                ((BindingContext)binding).displayMessages(messages, changedMessages);
+            } else if (!(binding instanceof ElementBinding)
+                    || ((ElementBinding)binding).displaysAnyOf(changedMessages)) {
+                binding.displayMessages(messages);
+            }
+        });
+    }
+
+    /**
+     * Returns the properties that were written by the bindings of this context since the last call.
+     * Returns {@link Optional#empty()} if a change with unknown effect happened, for example if a
+     * method was invoked.
+     * <p>
+     * This method is used by a {@link BindingManager} to find out what has to be validated by an
+     * {@link org.linkki.core.binding.validation.IncrementalValidationService incremental validation}.
+     * 
+     * @return the written properties, each referencing the presentation model object of the binding
+     */
+    public Optional<Set<ObjectProperty>> drainWrittenProperties() {
+        return dirtyTracker.drainWrittenProperties();
+    }
 
     public PropertyBehaviorProvider getBehaviorProvider() {
         return behaviorProvider;
     }
 
+    /**
+     * Returns the {@link RefreshStrategy} that defines which bindings are updated when the model
+     * changed.
+     */
+    public RefreshStrategy getRefreshStrategy() {
+        return dirtyTracker.getRefreshStrategy();
+    }
+
+    /**
+     * Returns the {@link BindingMetrics} that are notified about the duration of the updates in this
+     * context. The default is {@link BindingMetrics#NONE}.
+     */
+    public BindingMetrics getMetrics() {
+        return settings.getMetrics();
+    }
+
+    /**
+     * Sets the {@link BindingMetrics} that are notified about the duration of the updates in this
+     * context, including the {@link ContainerBinding ContainerBindings} created by
+     * {@link #bindContainer(Object, BoundProperty, List, ComponentWrapper) bindContainer}.
+     * <p>
+     * The metrics of contexts that are managed by a {@link BindingManager} are usually set using
+     * {@link BindingManager#setMetrics(BindingMetrics)}.
+     */
+    public void setMetrics(BindingMetrics metrics) {
+        settings.setMetrics(metrics);
+    }
+
+    /**
+     * Returns whether bindings are removed from this context when their UI component is detached from
+     * the UI. The default is <code>false</code>.
+     */
+    public boolean isRemoveBindingsOnDetach() {
+        return settings.isRemoveBindingsOnDetach();
+    }
+
+    /**
+     * Defines whether bindings that are added afterwards are removed from this context when their UI
+     * component is {@link ComponentWrapper#addDetachHandler(Handler) detached} from the UI. The setting
+     * applies to the {@link ContainerBinding ContainerBindings} created by
+     * {@link #bindContainer(Object, BoundProperty, List, ComponentWrapper) bindContainer} as well.
+     * <p>
+     * Only enable this setting if detached components are never attached again, as a re-attached
+     * component is not updated anymore. For example, the content of a tab sheet is detached when
+     * another tab is selected.
+     */
+    public void setRemoveBindingsOnDetach(boolean removeBindingsOnDetach) {
+        settings.setRemoveBindingsOnDetach(removeBindingsOnDetach);
+    }
+
+    /**
+     * Returns whether the bindings of components that are hidden by one of their parents are
+     * suspended. The default is <code>false</code>.
+     */
+    public boolean isSuspendHiddenBindings() {
+        return settings.isSuspendHiddenBindings();
+    }
+
+    /**
+     * Defines whether the bindings of components that are {@link UiFramework#isHiddenByParent(Object)
+     * hidden by one of their parents}, like the content of a collapsed section or of a tab that is not
+     * selected, are suspended. The setting applies to the {@link ContainerBinding ContainerBindings}
+     * created by {@link #bindContainer(Object, BoundProperty, List, ComponentWrapper) bindContainer} as
+     * well.
+     * <p>
+     * A suspended binding is neither updated nor displays messages. It is updated once with the first
+     * update of this context after its component is shown again, or by
+     * {@link #updateSuspendedBindings()}. Only enable this setting if components are only shown by
+     * linkki bindings or by components that update the context afterwards, as the content of a shown
+     * component is outdated until then.
+     */
+    public void setSuspendHiddenBindings(boolean suspendHiddenBindings) {
+        settings.setSuspendHiddenBindings(suspendHiddenBindings);
+        if (!suspendHiddenBindings) {
+            updateSuspendedBindings();
+        }
+    }
+
     @Override
     public String toString() {
         return "BindingContext [name=" + name + ", behaviorProvider=" + behaviorProvider + "]";
@@ -401,7 +700,7 @@ public class BindingContext implements UiUpdateObserver {
             ComponentWrapper componentWrapper) {
         Binding elementBinding = createBinding(pmo, boundProperty, aspectDefs, componentWrapper);
         ContainerBinding containerBinding = new ContainerBinding(elementBinding, getBehaviorProvider(),
-                dispatcherFactory, this::modelChanged);
+                dispatcherFactory, dirtyTracker, settings, this::modelChanged);
         add(containerBinding, componentWrapper);
         return containerBinding;
     }
@@ -414,11 +713,16 @@ public class BindingContext implements UiUpdateObserver {
             BoundProperty boundProperty,
             List<LinkkiAspectDefinition> aspectDefinitions,
             ComponentWrapper componentWrapper) {
-        return new ElementBinding(componentWrapper,
-                dispatcherFactory.createDispatcherChain(pmo, boundProperty, getBehaviorProvider()), this::modelChanged,
+        return new ElementBinding(componentWrapper, createDispatcherChain(pmo, boundProperty), this::modelChanged,
                 aspectDefinitions);
     }
 
+    private PropertyDispatcher createDispatcherChain(Object pmo, BoundProperty boundProperty) {
+        PropertyDispatcher dispatcherChain = dispatcherFactory.createDispatcherChain(pmo, boundProperty,
+                                                                                     behaviorCache);
+        return new DirtyTrackingDispatcher(dispatcherChain, dirtyTracker, settings, name);
+    }
+
     /**
      * @deprecated since January 2019. Instead of overwriting this method, provide a
      *             {@link PropertyDispatcherFactory} to
@@ -432,7 +736,7 @@ public class BindingContext implements UiUpdateObserver {
         requireNonNull(bindingDescriptor, "bindingDescriptor must not be null");
 
         return dispatcherFactory.createDispatcherChain(pmo, bindingDescriptor.getBoundProperty(),
-                                                       getBehaviorProvider());
+                                                       behaviorCache);
     }
 
 }
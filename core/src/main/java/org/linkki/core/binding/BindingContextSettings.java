@@ -0,0 +1,56 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import org.linkki.core.binding.metrics.BindingMetrics;
+
+/**
+ * The settings of a {@link BindingContext}. A {@link ContainerBinding} shares the settings of its
+ * parent context, so that changing a setting of the context applies to its containers as well.
+ */
+class BindingContextSettings {
+
+    private BindingMetrics metrics = BindingMetrics.NONE;
+
+    private boolean removeBindingsOnDetach;
+
+    private boolean suspendHiddenBindings;
+
+    BindingMetrics getMetrics() {
+        return metrics;
+    }
+
+    void setMetrics(BindingMetrics metrics) {
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
+    }
+
+    boolean isRemoveBindingsOnDetach() {
+        return removeBindingsOnDetach;
+    }
+
+    void setRemoveBindingsOnDetach(boolean removeBindingsOnDetach) {
+        this.removeBindingsOnDetach = removeBindingsOnDetach;
+    }
+
+    boolean isSuspendHiddenBindings() {
+        return suspendHiddenBindings;
+    }
+
+    void setSuspendHiddenBindings(boolean suspendHiddenBindings) {
+        this.suspendHiddenBindings = suspendHiddenBindings;
+    }
+
+}
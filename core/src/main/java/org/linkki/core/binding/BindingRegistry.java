@@ -0,0 +1,124 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+import org.linkki.util.WeakIdentityMap;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * The bindings of a {@link BindingContext}, indexed by their UI component and by the identity of their
+ * presentation model object. The nested {@link BindingContext BindingContexts}, like {@link ContainerBinding
+ * ContainerBindings}, are indexed as well, so that removals can be delegated to them without looking at
+ * all other bindings.
+ * <p>
+ * The registry only holds weak references. A binding is held by its component and is removed from the
+ * registry when the component is garbage collected. A binding whose reference was cleared before its
+ * component's entry is treated as removed.
+ */
+class BindingRegistry {
+
+    private final Map<Object, WeakReference<Binding>> bindingsByComponent = new WeakHashMap<>();
+
+    private final WeakIdentityMap<Object, Set<Object>> componentsByPmo = new WeakIdentityMap<>();
+
+    private final Set<BindingContext> nestedContexts = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Registers the binding for its {@link Binding#getBoundComponent() component}, replacing any
+     * binding that was registered for the same component.
+     */
+    void add(Binding binding) {
+        Object component = binding.getBoundComponent();
+        remove(component);
+        bindingsByComponent.put(component, new WeakReference<>(binding));
+        componentsByPmo.computeIfAbsent(binding.getPmo(), pmo -> Collections.newSetFromMap(new WeakHashMap<>()))
+                .add(component);
+        if (binding instanceof BindingContext) {
+            nestedContexts.add((BindingContext)binding);
+        }
+    }
+
+    /**
+     * Removes the binding of the given component.
+     */
+    void remove(Object component) {
+        WeakReference<Binding> reference = bindingsByComponent.remove(component);
+        Binding binding = reference != null ? reference.get() : null;
+        if (binding != null) {
+            Set<Object> components = componentsByPmo.get(binding.getPmo());
+            if (components != null) {
+                components.remove(component);
+                if (components.isEmpty()) {
+                    componentsByPmo.remove(binding.getPmo());
+                }
+            }
+            if (binding instanceof BindingContext) {
+                nestedContexts.remove(binding);
+            }
+        }
+    }
+
+    /**
+     * Removes the bindings of the given components.
+     */
+    void removeAll(Collection<?> components) {
+        components.forEach(this::remove);
+    }
+
+    /**
+     * Removes the bindings whose presentation model object is the given object. Only the bindings of
+     * this registry are removed, not the bindings of nested contexts.
+     */
+    void removeByPmo(Object pmo) {
+        Set<Object> components = componentsByPmo.get(pmo);
+        if (components != null) {
+            new ArrayList<>(components).forEach(this::remove);
+        }
+    }
+
+    @CheckForNull
+    Binding get(Object component) {
+        WeakReference<Binding> reference = bindingsByComponent.get(component);
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Returns the registered bindings.
+     */
+    Stream<Binding> stream() {
+        return bindingsByComponent.values().stream()
+                .map(WeakReference::get)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Returns the registered bindings that are {@link BindingContext BindingContexts} themselves.
+     */
+    Collection<BindingContext> getNestedContexts() {
+        return new ArrayList<>(nestedContexts);
+    }
+
+}
@@ -14,8 +14,10 @@
 
 package org.linkki.core.binding;
 
+import org.linkki.core.binding.DirtyTracker.Changes;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.refresh.RefreshStrategy;
 import org.linkki.util.handler.Handler;
 
 /**
@@ -50,8 +52,19 @@ public class ContainerBinding extends BindingContext implements Binding {
      */
     public ContainerBinding(Binding selfBinding, PropertyBehaviorProvider behaviorProvider,
             PropertyDispatcherFactory dispatcherFactory, Handler modelChanged) {
+        this(selfBinding, behaviorProvider, dispatcherFactory, new DirtyTracker(RefreshStrategy.FULL),
+                new BindingContextSettings(), modelChanged);
+    }
+
+    /**
+     * Creates a new {@link ContainerBinding} that records the changes of its child bindings in the
+     * {@link DirtyTracker} and uses the settings of its parent {@link BindingContext}.
+     */
+    ContainerBinding(Binding selfBinding, PropertyBehaviorProvider behaviorProvider,
+            PropertyDispatcherFactory dispatcherFactory, DirtyTracker dirtyTracker, BindingContextSettings settings,
+            Handler modelChanged) {
         super("container for " + selfBinding.getPmo().getClass().getSimpleName(),
-                behaviorProvider, dispatcherFactory, Handler.NOP_HANDLER);
+                behaviorProvider, dispatcherFactory, dirtyTracker, settings, Handler.NOP_HANDLER);
         this.binding = selfBinding;
         this.modelChanged = modelChanged;
     }
@@ -67,6 +80,14 @@ public class ContainerBinding extends BindingContext implements Binding {
         super.updateFromPmo();
     }
 
+    @Override
+    void updateFromPmo(Changes changes) {
+        if (changes.affects(binding)) {
+            binding.updateFromPmo();
+        }
+        super.updateFromPmo(changes);
+    }
+
     @Override
     public Object getBoundComponent() {
         return binding.getBoundComponent();
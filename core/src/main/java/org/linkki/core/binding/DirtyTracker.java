@@ -0,0 +1,180 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.linkki.core.binding.refresh.RefreshStrategy;
+import org.linkki.core.binding.validation.message.ObjectProperty;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Collects the properties written since the last update of a {@link BindingContext} and decides which
+ * bindings are affected by those changes according to the context's {@link RefreshStrategy}.
+ * <p>
+ * Independently of the refresh, the tracker collects the written properties for an incremental
+ * validation until they are {@link #drainWrittenProperties() drained} by the
+ * {@link org.linkki.core.binding.manager.BindingManager BindingManager}.
+ * <p>
+ * A {@link ContainerBinding} shares the tracker of its parent context, so that changes in a container
+ * are handled by the context that triggers the update.
+ */
+class DirtyTracker {
+
+    private final RefreshStrategy refreshStrategy;
+
+    private final Map<Object, Set<String>> changedProperties = new IdentityHashMap<>();
+
+    private boolean unknownChange;
+
+    /**
+     * The maximum number of written properties that are collected for the validation. If more
+     * properties are written before they are drained, the change is treated as unknown so that the
+     * tracker does not grow if nobody drains it.
+     */
+    static final int MAX_WRITTEN_PROPERTIES = 1000;
+
+    private final Set<ObjectProperty> writtenProperties = new LinkedHashSet<>();
+
+    private boolean unknownWrite;
+
+    DirtyTracker(RefreshStrategy refreshStrategy) {
+        this.refreshStrategy = requireNonNull(refreshStrategy, "refreshStrategy must not be null");
+    }
+
+    RefreshStrategy getRefreshStrategy() {
+        return refreshStrategy;
+    }
+
+    boolean isIncremental() {
+        return refreshStrategy.isIncremental();
+    }
+
+    /**
+     * Records that the given property of the given presentation model object was written.
+     */
+    void propertyWritten(@CheckForNull Object pmo, String property) {
+        recordWrite(pmo, property);
+        if (!isIncremental() || unknownChange) {
+            return;
+        }
+        Optional<Set<String>> dependentProperties = pmo == null ? Optional.empty()
+                : refreshStrategy.getDependencies().getDependentProperties(pmo, property);
+        if (dependentProperties.isPresent()) {
+            Set<String> changed = changedProperties.computeIfAbsent(pmo, o -> new HashSet<>());
+            changed.add(property);
+            changed.addAll(dependentProperties.get());
+        } else {
+            unknownChange();
+        }
+    }
+
+    /**
+     * Records a change with unknown effect, for example the invocation of a method.
+     */
+    void unknownChange() {
+        unknownChange = true;
+        changedProperties.clear();
+        unknownWrite();
+    }
+
+    private void recordWrite(@CheckForNull Object pmo, String property) {
+        if (unknownWrite) {
+            return;
+        }
+        if (pmo == null || writtenProperties.size() >= MAX_WRITTEN_PROPERTIES) {
+            unknownWrite();
+        } else {
+            writtenProperties.add(new ObjectProperty(pmo, property));
+        }
+    }
+
+    private void unknownWrite() {
+        unknownWrite = true;
+        writtenProperties.clear();
+    }
+
+    /**
+     * Returns the properties written since the last call and resets the collected properties. Returns
+     * {@link Optional#empty()} if a change with unknown effect happened.
+     */
+    Optional<Set<ObjectProperty>> drainWrittenProperties() {
+        Optional<Set<ObjectProperty>> written = unknownWrite ? Optional.empty()
+                : Optional.of(new LinkedHashSet<>(writtenProperties));
+        writtenProperties.clear();
+        unknownWrite = false;
+        return written;
+    }
+
+    /**
+     * Returns the changes recorded since the last call and resets this tracker.
+     */
+    Changes drain() {
+        Changes changes = !isIncremental() || unknownChange || changedProperties.isEmpty()
+                ? Changes.ALL
+                : new Changes(new IdentityHashMap<>(changedProperties));
+        changedProperties.clear();
+        unknownChange = false;
+        return changes;
+    }
+
+    /**
+     * The changes that have to be applied to the bindings of a {@link BindingContext}.
+     */
+    static class Changes {
+
+        /** Every binding is affected. */
+        static final Changes ALL = new Changes(null);
+
+        @CheckForNull
+        private final Map<Object, Set<String>> changedProperties;
+
+        private Changes(@CheckForNull Map<Object, Set<String>> changedProperties) {
+            this.changedProperties = changedProperties;
+        }
+
+        boolean isAll() {
+            return changedProperties == null;
+        }
+
+        /**
+         * Returns whether the given binding has to be updated. Only {@link ElementBinding
+         * ElementBindings} that recorded the properties they read can be skipped.
+         */
+        boolean affects(Binding binding) {
+            Map<Object, Set<String>> changed = changedProperties;
+            if (changed == null || !(binding instanceof ElementBinding)) {
+                return true;
+            }
+            ElementBinding elementBinding = (ElementBinding)binding;
+            if (!(elementBinding.getPropertyDispatcher() instanceof DirtyTrackingDispatcher)) {
+                return true;
+            }
+            DirtyTrackingDispatcher dispatcher = (DirtyTrackingDispatcher)elementBinding.getPropertyDispatcher();
+            Set<String> changedOfPmo = changed.get(dispatcher.getBoundObject());
+            return changedOfPmo != null && dispatcher.hasRead(changedOfPmo);
+        }
+
+    }
+
+}
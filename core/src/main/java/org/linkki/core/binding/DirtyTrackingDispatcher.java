@@ -0,0 +1,104 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.AbstractPropertyDispatcherDecorator;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.metrics.BindingMetrics;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+
+/**
+ * Outermost dispatcher of a binding in a {@link BindingContext}. Reports written properties to the
+ * {@link DirtyTracker} and, if the context uses an incremental
+ * {@link org.linkki.core.binding.refresh.RefreshStrategy RefreshStrategy}, records the properties that
+ * are read while the UI is updated. The duration of every push is reported to the
+ * {@link BindingMetrics} of the context.
+ */
+class DirtyTrackingDispatcher extends AbstractPropertyDispatcherDecorator {
+
+    private final DirtyTracker dirtyTracker;
+
+    private final BindingContextSettings settings;
+
+    private final String contextName;
+
+    /** Maps the names of the pulled aspects to the property names derived from them. */
+    private final Map<String, String> readProperties = new HashMap<>();
+
+    DirtyTrackingDispatcher(PropertyDispatcher wrappedDispatcher, DirtyTracker dirtyTracker,
+            BindingContextSettings settings, String contextName) {
+        super(wrappedDispatcher);
+        this.dirtyTracker = requireNonNull(dirtyTracker, "dirtyTracker must not be null");
+        this.settings = requireNonNull(settings, "settings must not be null");
+        this.contextName = requireNonNull(contextName, "contextName must not be null");
+    }
+
+    @Override
+    public <T> T pull(Aspect<T> aspect) {
+        String aspectName = aspect.getName();
+        if (dirtyTracker.isIncremental() && !readProperties.containsKey(aspectName)) {
+            readProperties.put(aspectName, getPropertyAspectName(aspectName));
+        }
+        return super.pull(aspect);
+    }
+
+    @Override
+    public <T> void push(Aspect<T> aspect) {
+        BindingMetrics metrics = settings.getMetrics();
+        Object boundObject = getBoundObject();
+        if (metrics.isEnabled() && boundObject != null) {
+            long start = System.nanoTime();
+            super.push(aspect);
+            metrics.propertyCompleted(Phase.PUSH, contextName, boundObject.getClass(), getProperty(),
+                                      System.nanoTime() - start);
+        } else {
+            super.push(aspect);
+        }
+        if (aspect.isValuePresent()) {
+            dirtyTracker.propertyWritten(getBoundObject(), getPropertyAspectName(aspect.getName()));
+        } else {
+            dirtyTracker.unknownChange();
+        }
+    }
+
+    /**
+     * Returns whether any of the given properties was read by this dispatcher.
+     */
+    boolean hasRead(Set<String> properties) {
+        for (String readProperty : readProperties.values()) {
+            if (properties.contains(readProperty)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getPropertyAspectName(String aspectName) {
+        if (StringUtils.isEmpty(getProperty())) {
+            return aspectName;
+        } else {
+            return StringUtils.uncapitalize(getProperty() + StringUtils.capitalize(aspectName));
+        }
+    }
+
+}
@@ -123,6 +123,13 @@ public class ElementBinding implements Binding {
         return messagesForProperty;
     }
 
+    /**
+     * Returns whether any of the given messages is displayed by this binding.
+     */
+    boolean displaysAnyOf(MessageList messages) {
+        return !getRelevantMessages(messages).isEmpty();
+    }
+
     private MessageList getRelevantMessages(MessageList messages) {
         MessageList messagesForProperty = propertyDispatcher.getMessages(messages);
         addFatalError(messages, messagesForProperty);
@@ -158,17 +165,11 @@ public class ElementBinding implements Binding {
         }
 
         /**
-         * Prompt all aspects to update the UI component.
+         * Prompt all aspects to update the UI component. An exception of one aspect does not prevent
+         * the other aspects from being updated.
          */
         public void updateUI() {
-            try {
-                uiUpdater.apply();
-                // CSOFF: IllegalCatch
-            } catch (RuntimeException e) {
-                throw new LinkkiBindingException(
-                        e.getMessage() + " in " + e.getStackTrace()[0], e);
-            }
-            // CSON: IllegalCatch
+            uiUpdater.apply();
         }
 
     }
@@ -52,12 +52,21 @@ public class CompositeAspectDefinition implements LinkkiAspectDefinition {
         this.aspectDefinitions = aspectDefinitions;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The updaters of the supported aspect definitions are applied one after another, including the
+     * updaters of nested {@link CompositeAspectDefinition CompositeAspectDefinitions}. If an updater
+     * throws an exception, the remaining updaters are applied nevertheless and a
+     * {@link LinkkiBindingException} naming the failing aspect definition is thrown afterwards.
+     */
     @Override
     public Handler createUiUpdater(PropertyDispatcher propertyDispatcher, ComponentWrapper componentWrapper) {
-        return aspectDefinitions.stream()
+        CompositeUiUpdater.Builder builder = new CompositeUiUpdater.Builder();
+        aspectDefinitions.stream()
                 .filter(d -> d.supports(componentWrapper.getType()))
-                .map(lad -> lad.createUiUpdater(propertyDispatcher, componentWrapper))
-                .reduce(Handler.NOP_HANDLER, Handler::andThen);
+                .forEach(lad -> builder.add(lad, lad.createUiUpdater(propertyDispatcher, componentWrapper)));
+        return builder.build();
     }
 
     @Override
@@ -0,0 +1,116 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.descriptor.aspect.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.linkki.core.binding.LinkkiBindingException;
+import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
+import org.linkki.util.handler.Handler;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * The UI updaters of a {@link CompositeAspectDefinition}, stored in a flat array and applied in a
+ * simple loop. Updaters of nested {@link CompositeAspectDefinition CompositeAspectDefinitions} are
+ * inlined into the array instead of being chained.
+ * <p>
+ * An exception thrown by one updater does not prevent the other updaters from being applied. After all
+ * updaters were applied, the first exception is rethrown as a {@link LinkkiBindingException} that names
+ * the failing {@link LinkkiAspectDefinition}. Exceptions of further updaters are added as suppressed
+ * exceptions.
+ */
+final class CompositeUiUpdater implements Handler {
+
+    private final Handler[] updaters;
+
+    private final String[] aspectNames;
+
+    private CompositeUiUpdater(Handler[] updaters, String[] aspectNames) {
+        this.updaters = updaters;
+        this.aspectNames = aspectNames;
+    }
+
+    @Override
+    public void apply() {
+        LinkkiBindingException exception = null;
+        for (int i = 0; i < updaters.length; i++) {
+            // CSOFF: IllegalCatch
+            try {
+                updaters[i].apply();
+            } catch (RuntimeException e) {
+                exception = addException(exception, i, e);
+            }
+            // CSON: IllegalCatch
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private LinkkiBindingException addException(@CheckForNull LinkkiBindingException exception,
+            int index,
+            RuntimeException e) {
+        if (exception == null) {
+            return new LinkkiBindingException(e.getMessage() + " while updating " + aspectNames[index], e);
+        } else {
+            exception.addSuppressed(e);
+            return exception;
+        }
+    }
+
+    /**
+     * Returns the number of updaters.
+     */
+    int size() {
+        return updaters.length;
+    }
+
+    /**
+     * Collects the UI updaters of {@link LinkkiAspectDefinition LinkkiAspectDefinitions}.
+     */
+    static class Builder {
+
+        private final List<Handler> updaters = new ArrayList<>();
+
+        private final List<String> aspectNames = new ArrayList<>();
+
+        /**
+         * Adds the UI updater created by the given aspect definition. If the updater is a
+         * {@link CompositeUiUpdater} itself, its updaters are added instead.
+         */
+        Builder add(LinkkiAspectDefinition aspectDefinition, Handler updater) {
+            if (updater instanceof CompositeUiUpdater) {
+                CompositeUiUpdater composite = (CompositeUiUpdater)updater;
+                for (int i = 0; i < composite.updaters.length; i++) {
+                    updaters.add(composite.updaters[i]);
+                    aspectNames.add(composite.aspectNames[i]);
+                }
+            } else if (updater != Handler.NOP_HANDLER) {
+                updaters.add(updater);
+                aspectNames.add(aspectDefinition.getClass().getSimpleName());
+            }
+            return this;
+        }
+
+        CompositeUiUpdater build() {
+            return new CompositeUiUpdater(updaters.toArray(new Handler[0]),
+                    aspectNames.toArray(new String[0]));
+        }
+
+    }
+
+}
@@ -14,6 +14,10 @@
 
 package org.linkki.core.binding.descriptor.aspect.base;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.linkki.core.binding.LinkkiBindingException;
@@ -23,6 +27,8 @@ import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.util.handler.Handler;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
 /**
  * A convenient implementation for {@link LinkkiAspectDefinition}s that only updates upon model changes.
  * <p>
@@ -34,19 +40,60 @@ import org.linkki.util.handler.Handler;
  */
 public abstract class ModelToUiAspectDefinition<V> implements LinkkiAspectDefinition {
 
+    /**
+     * Classes whose instances are immutable, so that an applied value can be compared to the next one.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class,
+                                                                                     Boolean.class,
+                                                                                     Character.class,
+                                                                                     Byte.class,
+                                                                                     Short.class,
+                                                                                     Integer.class,
+                                                                                     Long.class,
+                                                                                     Float.class,
+                                                                                     Double.class));
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@link #isSkipUnchangedValues()} is <code>true</code>, the created updater remembers the last
+     * value it applied and does not call the {@link #createComponentValueSetter(ComponentWrapper)
+     * setter} again as long as the pulled value is equal to it. Only values of immutable types like
+     * {@link String}, {@link Boolean}, the wrappers of the other primitive types, {@link Enum enums} and
+     * <code>null</code> are remembered, other values are always applied.
+     */
     @Override
     public Handler createUiUpdater(PropertyDispatcher propertyDispatcher, ComponentWrapper componentWrapper) {
         Consumer<V> setter = createComponentValueSetter(componentWrapper);
         Aspect<V> aspect = createAspect();
-        return () -> {
-            try {
-                setter.accept(propertyDispatcher.pull(aspect));
-                // CSOFF: IllegalCatch
-            } catch (RuntimeException e) {
-                handleUiUpdateException(e, propertyDispatcher, aspect);
-                // CSON: IllegalCatch
-            }
-        };
+        if (isSkipUnchangedValues()) {
+            return new SkipUnchangedUiUpdater<>(setter, propertyDispatcher, aspect, this);
+        } else {
+            return () -> {
+                try {
+                    setter.accept(propertyDispatcher.pull(aspect));
+                    // CSOFF: IllegalCatch
+                } catch (RuntimeException e) {
+                    handleUiUpdateException(e, propertyDispatcher, aspect);
+                    // CSON: IllegalCatch
+                }
+            };
+        }
+    }
+
+    /**
+     * Returns whether the UI updater skips the {@link #createComponentValueSetter(ComponentWrapper)
+     * setter} if the pulled value is equal to the value applied by the previous update.
+     * <p>
+     * Subclasses may only return <code>true</code> if nothing but this aspect changes the state set by
+     * the setter and the result of the setter only depends on the value. For example, the enabled
+     * state of a button is also changed by Vaadin if the button is disabled on click, and the text of
+     * a converted value depends on the locale.
+     * 
+     * @return <code>false</code> by default
+     */
+    protected boolean isSkipUnchangedValues() {
+        return false;
     }
 
     /**
@@ -92,4 +139,55 @@ public abstract class ModelToUiAspectDefinition<V> implements LinkkiAspectDefini
      * @return setter for the value of the {@link ComponentWrapper}
      */
     public abstract Consumer<V> createComponentValueSetter(ComponentWrapper componentWrapper);
+
+    private static boolean isImmutable(@CheckForNull Object value) {
+        return value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * A UI updater that remembers the value it applied last.
+     */
+    private static final class SkipUnchangedUiUpdater<V> implements Handler {
+
+        private static final Object NOT_APPLIED = new Object();
+
+        private final Consumer<V> setter;
+
+        private final PropertyDispatcher propertyDispatcher;
+
+        private final Aspect<V> aspect;
+
+        private final ModelToUiAspectDefinition<V> aspectDefinition;
+
+        @CheckForNull
+        private Object lastAppliedValue = NOT_APPLIED;
+
+        SkipUnchangedUiUpdater(Consumer<V> setter, PropertyDispatcher propertyDispatcher, Aspect<V> aspect,
+                ModelToUiAspectDefinition<V> aspectDefinition) {
+            this.setter = setter;
+            this.propertyDispatcher = propertyDispatcher;
+            this.aspect = aspect;
+            this.aspectDefinition = aspectDefinition;
+        }
+
+        @Override
+        public void apply() {
+            try {
+                V value = propertyDispatcher.pull(aspect);
+                if (lastAppliedValue != NOT_APPLIED && Objects.equals(value, lastAppliedValue)) {
+                    return;
+                }
+                lastAppliedValue = NOT_APPLIED;
+                setter.accept(value);
+                if (isImmutable(value)) {
+                    lastAppliedValue = value;
+                }
+                // CSOFF: IllegalCatch
+            } catch (RuntimeException e) {
+                aspectDefinition.handleUiUpdateException(e, propertyDispatcher, aspect);
+                // CSON: IllegalCatch
+            }
+        }
+
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.dispatcher.behavior;
+
+import java.util.Collection;
+
+import org.linkki.util.function.TriPredicate;
+
+/**
+ * The aspects of a property that are decided by the consensus of all {@link PropertyBehavior
+ * PropertyBehaviors}.
+ */
+enum BehaviorAspect {
+
+    WRITABLE(PropertyBehavior::isWritable),
+    VISIBLE(PropertyBehavior::isVisible),
+    SHOW_VALIDATION_MESSAGES(PropertyBehavior::isShowValidationMessages);
+
+    private final TriPredicate<PropertyBehavior, Object, String> predicate;
+
+    BehaviorAspect(TriPredicate<PropertyBehavior, Object, String> predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns <code>true</code> if all given behaviors return <code>true</code> for this aspect of the
+     * given property (logical AND).
+     */
+    boolean isConsensus(Collection<PropertyBehavior> behaviors, Object boundObject, String property) {
+        for (PropertyBehavior behavior : behaviors) {
+            if (!test(behavior, boundObject, property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the given behavior allows this aspect of the given property.
+     */
+    boolean test(PropertyBehavior behavior, Object boundObject, String property) {
+        return predicate.test(behavior, boundObject, property);
+    }
+
+}
@@ -23,7 +23,6 @@ import org.linkki.core.binding.dispatcher.AbstractPropertyDispatcherDecorator;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.defaults.ui.aspects.VisibleAspectDefinition;
-import org.linkki.util.function.TriPredicate;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -40,9 +39,33 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * <p>
  * In other words behaviors normally return <code>true</code>, but can veto an aspect, by returning
  * <code>false</code>, if they desire to change the behavior.
+ * <p>
+ * If the provider is a {@link CachingPropertyBehaviorProvider}, the consensus is taken from its cache
+ * instead of asking all behaviors again. Subclasses that override {@link #isConsensus(Predicate)} are
+ * always asked instead.
  */
 public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecorator {
 
+    /**
+     * Remembers for every subclass whether it overrides {@link #isConsensus(Predicate)}.
+     */
+    private static final ClassValue<Boolean> CONSENSUS_OVERRIDDEN = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != BehaviorDependentDispatcher.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("isConsensus", Predicate.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // not declared in this class
+                }
+            }
+            return false;
+        }
+
+    };
+
     private PropertyBehaviorProvider provider;
 
     public BehaviorDependentDispatcher(PropertyDispatcher wrappedDispatcher,
@@ -58,19 +81,29 @@ public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecor
      */
     @Override
     public MessageList getMessages(MessageList messageList) {
-        if (isConsensus(forBoundObjectAndProperty(PropertyBehavior::isShowValidationMessages))) {
+        if (isConsensus(BehaviorAspect.SHOW_VALIDATION_MESSAGES)) {
             return super.getMessages(messageList);
         } else {
             return new MessageList();
         }
     }
 
+    /**
+     * Returns whether all behaviors agree on the given aspect of the bound property. If the provider is
+     * a {@link CachingPropertyBehaviorProvider}, its remembered result is used unless a subclass
+     * overrides {@link #isConsensus(Predicate)}.
+     */
     @SuppressFBWarnings(value = "NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE", justification = "that's why we use requireNonNull")
-    private Predicate<PropertyBehavior> forBoundObjectAndProperty(
-            TriPredicate<PropertyBehavior, Object, String> triPredicate) {
+    private boolean isConsensus(BehaviorAspect aspect) {
         Object boundObject = requireNonNull(getBoundObject(), "boundObject must not be null");
         String property = getProperty();
-        return b -> triPredicate.test(b, boundObject, property);
+        if (CONSENSUS_OVERRIDDEN.get(getClass())) {
+            return isConsensus(b -> aspect.test(b, boundObject, property));
+        } else if (provider instanceof CachingPropertyBehaviorProvider) {
+            return ((CachingPropertyBehaviorProvider)provider).isConsensus(aspect, boundObject, property);
+        } else {
+            return aspect.isConsensus(provider.getBehaviors(), boundObject, property);
+        }
     }
 
     /**
@@ -98,7 +131,7 @@ public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecor
     @Override
     public <T> T pull(Aspect<T> aspect) {
         if (aspect.getName().equals(VisibleAspectDefinition.NAME) &&
-                !isConsensus(forBoundObjectAndProperty(PropertyBehavior::isVisible))) {
+                !isConsensus(BehaviorAspect.VISIBLE)) {
             return (T)Boolean.FALSE;
         } else {
             return super.pull(aspect);
@@ -108,7 +141,7 @@ public class BehaviorDependentDispatcher extends AbstractPropertyDispatcherDecor
     @Override
     public <T> boolean isPushable(Aspect<T> aspect) {
         if (aspect.getName().equals(LinkkiAspectDefinition.VALUE_ASPECT_NAME)
-                && !isConsensus(forBoundObjectAndProperty(PropertyBehavior::isWritable))) {
+                && !isConsensus(BehaviorAspect.WRITABLE)) {
             return false;
         } else {
             return super.isPushable(aspect);
@@ -0,0 +1,129 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.dispatcher.behavior;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.linkki.util.WeakIdentityMap;
+
+/**
+ * A {@link PropertyBehaviorProvider} that remembers the consensus of the {@link PropertyBehavior
+ * PropertyBehaviors} of another provider for every bound object and property.
+ * <p>
+ * A {@link org.linkki.core.binding.BindingContext BindingContext} uses one instance to decorate all
+ * its bindings and {@link #invalidate() invalidates} it at the start of every UI update and every
+ * message display, so that each behavior is asked at most once per bound object, property and pass.
+ * If the wrapped provider is {@link PropertyBehaviorProvider#isStable() stable}, the results are kept
+ * until {@link #invalidateAll()} is called.
+ * <p>
+ * Bound objects are distinguished by identity, not by {@link Object#equals(Object)}, so that equal but
+ * distinct objects never share a result.
+ */
+public class CachingPropertyBehaviorProvider implements PropertyBehaviorProvider {
+
+    private final PropertyBehaviorProvider behaviorProvider;
+
+    private final WeakIdentityMap<Object, Map<String, EnumMap<BehaviorAspect, Boolean>>> consensus = new WeakIdentityMap<>();
+
+    public CachingPropertyBehaviorProvider(PropertyBehaviorProvider behaviorProvider) {
+        this.behaviorProvider = requireNonNull(behaviorProvider, "behaviorProvider must not be null");
+    }
+
+    /**
+     * Returns the provider whose behaviors are cached.
+     */
+    public PropertyBehaviorProvider getBehaviorProvider() {
+        return behaviorProvider;
+    }
+
+    @Override
+    public Collection<PropertyBehavior> getBehaviors() {
+        return behaviorProvider.getBehaviors();
+    }
+
+    @Override
+    public boolean isStable() {
+        return behaviorProvider.isStable();
+    }
+
+    /**
+     * Returns whether all behaviors allow writing the given property.
+     * 
+     * @see PropertyBehavior#isWritable(Object, String)
+     */
+    public boolean isWritable(Object boundObject, String property) {
+        return isConsensus(BehaviorAspect.WRITABLE, boundObject, property);
+    }
+
+    /**
+     * Returns whether all behaviors allow displaying the given property.
+     * 
+     * @see PropertyBehavior#isVisible(Object, String)
+     */
+    public boolean isVisible(Object boundObject, String property) {
+        return isConsensus(BehaviorAspect.VISIBLE, boundObject, property);
+    }
+
+    /**
+     * Returns whether all behaviors allow displaying validation messages for the given property.
+     * 
+     * @see PropertyBehavior#isShowValidationMessages(Object, String)
+     */
+    public boolean isShowValidationMessages(Object boundObject, String property) {
+        return isConsensus(BehaviorAspect.SHOW_VALIDATION_MESSAGES, boundObject, property);
+    }
+
+    boolean isConsensus(BehaviorAspect aspect, Object boundObject, String property) {
+        requireNonNull(boundObject, "boundObject must not be null");
+        requireNonNull(property, "property must not be null");
+        EnumMap<BehaviorAspect, Boolean> results = consensus
+                .computeIfAbsent(boundObject, o -> new HashMap<>())
+                .computeIfAbsent(property, p -> new EnumMap<>(BehaviorAspect.class));
+        Boolean result = results.get(aspect);
+        if (result == null) {
+            result = aspect.isConsensus(getBehaviors(), boundObject, property);
+            results.put(aspect, result);
+        }
+        return result;
+    }
+
+    /**
+     * Discards the remembered results unless the wrapped provider is
+     * {@link PropertyBehaviorProvider#isStable() stable}.
+     */
+    public void invalidate() {
+        if (!isStable()) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Discards all remembered results, even those of a {@link PropertyBehaviorProvider#isStable()
+     * stable} provider.
+     */
+    public void invalidateAll() {
+        consensus.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingPropertyBehaviorProvider [behaviorProvider=" + behaviorProvider + "]";
+    }
+
+}
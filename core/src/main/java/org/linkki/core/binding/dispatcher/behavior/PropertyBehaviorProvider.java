@@ -35,6 +35,19 @@ public interface PropertyBehaviorProvider {
      */
     Collection<PropertyBehavior> getBehaviors();
 
+    /**
+     * Returns whether the {@link #getBehaviors() behaviors} of this provider always return the same
+     * results for the same bound object and property. The results of stable behaviors are remembered
+     * across UI updates instead of being reevaluated in every update.
+     * 
+     * @implNote The default implementation returns <code>false</code>.
+     * 
+     * @see CachingPropertyBehaviorProvider
+     */
+    default boolean isStable() {
+        return false;
+    }
+
     /**
      * Creates a new {@link PropertyBehaviorProvider} that returns the given behaviors.
      * 
@@ -45,6 +58,30 @@ public interface PropertyBehaviorProvider {
         return () -> behaviorsList;
     }
 
+    /**
+     * Creates a new {@link #isStable() stable} {@link PropertyBehaviorProvider} that returns the given
+     * behaviors. Use it only for behaviors whose results depend on nothing but the bound object and
+     * property.
+     * 
+     * @return a new stable {@link PropertyBehaviorProvider} that returns the given behaviors
+     */
+    public static PropertyBehaviorProvider stable(@NonNull PropertyBehavior... behaviors) {
+        List<PropertyBehavior> behaviorsList = Arrays.asList(behaviors);
+        return new PropertyBehaviorProvider() {
+
+            @Override
+            public Collection<PropertyBehavior> getBehaviors() {
+                return behaviorsList;
+            }
+
+            @Override
+            public boolean isStable() {
+                return true;
+            }
+
+        };
+    }
+
     /**
      * Creates a new {@link PropertyBehaviorProvider} that returns this
      * {@link PropertyBehaviorProvider}'s {@link PropertyBehavior PropertyBehaviors} followed by the
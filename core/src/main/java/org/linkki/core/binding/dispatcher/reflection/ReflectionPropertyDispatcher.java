@@ -28,8 +28,6 @@ import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessorCa
 import org.linkki.core.binding.validation.message.MessageList;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
-import edu.umd.cs.findbugs.annotations.NonNull;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * {@link PropertyDispatcher} that reads properties from an arbitrary object via reflection. Falls back
@@ -43,6 +41,8 @@ public class ReflectionPropertyDispatcher implements PropertyDispatcher {
 
     private final String property;
 
+    private ResolvedAccessor[] resolvedAccessors = new ResolvedAccessor[0];
+
     /**
      * @param boundObjectSupplier a supplier to get the object accessed via reflection. Must not be
      *            {@code null}. The object is provided via a supplier because it may change.
@@ -70,21 +70,16 @@ public class ReflectionPropertyDispatcher implements PropertyDispatcher {
         return boundObjectSupplier.get();
     }
 
-    @NonNull
-    @SuppressFBWarnings()
-    private Object getExistingBoundObject() {
-        return requireNonNull(getBoundObject());
-    }
-
     @Override
     public Class<?> getValueClass() {
         Object boundObject = getBoundObject();
-        if (boundObject != null && hasReadMethod(getProperty())) {
-            Class<?> valueClass = getAccessor(getProperty()).getValueClass();
-            return valueClass;
-        } else {
-            return fallbackDispatcher.getValueClass();
+        if (boundObject != null) {
+            PropertyAccessor<?, ?> accessor = PropertyAccessorCache.get(boundObject.getClass(), getProperty());
+            if (accessor.canRead()) {
+                return accessor.getValueClass();
+            }
         }
+        return fallbackDispatcher.getValueClass();
     }
 
     @Override
@@ -97,23 +92,13 @@ public class ReflectionPropertyDispatcher implements PropertyDispatcher {
         }
         @CheckForNull
         Object boundObject = getBoundObject();
-        String propertyAspectName = getPropertyAspectName(aspect);
-        if (boundObject != null && hasReadMethod(propertyAspectName)) {
-            PropertyAccessor<Object, V> accessor = (PropertyAccessor<Object, V>)getAccessor(propertyAspectName);
-            return accessor.getPropertyValue(boundObject);
-        } else {
-            return fallbackDispatcher.pull(aspect);
+        if (boundObject != null) {
+            PropertyAccessor<Object, V> accessor = (PropertyAccessor<Object, V>)getAccessor(boundObject, aspect);
+            if (accessor.canRead()) {
+                return accessor.getPropertyValue(boundObject);
+            }
         }
-    }
-
-    /**
-     * Returns whether the {@link #getBoundObject()} has a getter method for the given property.
-     * 
-     * @param propertyToRead property name of the bound object
-     * @return whether the bound object has a getter method for the property
-     */
-    private boolean hasReadMethod(String propertyToRead) {
-        return getAccessor(propertyToRead).canRead();
+        return fallbackDispatcher.pull(aspect);
     }
 
     @Override
@@ -122,36 +107,35 @@ public class ReflectionPropertyDispatcher implements PropertyDispatcher {
         Object boundObject = getBoundObject();
         if (boundObject != null) {
             if (aspect.isValuePresent()) {
-                callSetter(aspect);
+                callSetter(boundObject, aspect);
             } else {
-                invoke(aspect);
+                invoke(boundObject, aspect);
             }
         }
     }
 
-    private <V> void callSetter(Aspect<V> aspect) {
-        String propertyAspectName = getPropertyAspectName(aspect);
-        if (hasReadMethod(propertyAspectName)) {
-            if (hasWriteMethod(propertyAspectName)) {
-                @SuppressWarnings("unchecked")
-                PropertyAccessor<Object, V> accessor = (PropertyAccessor<Object, V>)getAccessor(propertyAspectName);
-                accessor.setPropertyValue(getExistingBoundObject(), aspect.getValue());
+    private <V> void callSetter(Object boundObject, Aspect<V> aspect) {
+        @SuppressWarnings("unchecked")
+        PropertyAccessor<Object, V> accessor = (PropertyAccessor<Object, V>)getAccessor(boundObject, aspect);
+        if (accessor.canRead()) {
+            if (accessor.canWrite()) {
+                accessor.setPropertyValue(boundObject, aspect.getValue());
             } else {
                 throw new IllegalArgumentException(
                         ExceptionPropertyDispatcher.missingMethodMessage("set",
-                                                                         Arrays.asList(getBoundObject())));
+                                                                         Arrays.asList(boundObject)));
             }
         } else {
             fallbackDispatcher.push(aspect);
         }
     }
 
-    private <V> void invoke(Aspect<V> aspect) {
-        String propertyAspectName = getPropertyAspectName(aspect);
-        if (hasInvokeMethod(propertyAspectName)) {
+    private <V> void invoke(Object boundObject, Aspect<V> aspect) {
+        PropertyAccessor<?, ?> accessor = getAccessor(boundObject, aspect);
+        if (accessor.canInvoke()) {
             @SuppressWarnings("unchecked")
-            PropertyAccessor<Object, V> accessor = (PropertyAccessor<Object, V>)getAccessor(propertyAspectName);
-            accessor.invoke(getExistingBoundObject());
+            PropertyAccessor<Object, V> objectAccessor = (PropertyAccessor<Object, V>)accessor;
+            objectAccessor.invoke(boundObject);
         } else {
             fallbackDispatcher.push(aspect);
         }
@@ -166,48 +150,58 @@ public class ReflectionPropertyDispatcher implements PropertyDispatcher {
             return fallbackDispatcher.isPushable(aspect);
         }
 
-        String propertyAspectName = getPropertyAspectName(aspect);
+        PropertyAccessor<?, ?> accessor = getAccessor(boundObject, aspect);
         if (aspect.isValuePresent()) {
             // the FallbackDispatcher should only be called if the BoundObject has no read method.
             // Otherwise a #push() could result in a #write() to the ModelObject even if it is not
             // declared within the PMO
-            return (hasReadMethod(propertyAspectName) && hasWriteMethod(propertyAspectName))
-                    || (!hasReadMethod(propertyAspectName) && fallbackDispatcher.isPushable(aspect));
+            return (accessor.canRead() && accessor.canWrite())
+                    || (!accessor.canRead() && fallbackDispatcher.isPushable(aspect));
         } else {
-            return hasInvokeMethod(propertyAspectName)
+            return accessor.canInvoke()
                     || fallbackDispatcher.isPushable(aspect);
         }
     }
 
     /**
-     * Returns whether the {@link #getBoundObject()} has a setter method for the given property.
-     * 
-     * @param propertyToWrite property name of the bound object
-     * @return whether the bound object has a setter method for the property
+     * Returns the {@link PropertyAccessor} for the given aspect of the bound object.
+     * <p>
+     * The accessor is resolved only once per aspect and kept in this dispatcher together with the
+     * class it was resolved for. As long as the runtime class of the bound object does not change,
+     * no method name has to be built and no lookup in the {@link PropertyAccessorCache} is
+     * necessary. A binding only handles a few aspects, so a linear search is sufficient.
      */
-    private boolean hasWriteMethod(String propertyToWrite) {
-        return getAccessor(propertyToWrite).canWrite();
-    }
-
-    /**
-     * Returns whether the {@link #getBoundObject()} has a method for the given method name.
-     * 
-     * @param method name of the method that should be invoked
-     * @return whether the bound object has a method with the provided name
-     */
-    private boolean hasInvokeMethod(String method) {
-        return getAccessor(method).canInvoke();
+    private PropertyAccessor<?, ?> getAccessor(Object boundObject, Aspect<?> aspect) {
+        Class<?> boundClass = boundObject.getClass();
+        String aspectName = aspect.getName();
+        ResolvedAccessor[] accessors = resolvedAccessors;
+        for (int i = 0; i < accessors.length; i++) {
+            ResolvedAccessor resolvedAccessor = accessors[i];
+            if (resolvedAccessor.aspectName.equals(aspectName)) {
+                if (resolvedAccessor.boundClass != boundClass) {
+                    resolvedAccessor = resolve(boundClass, aspectName);
+                    accessors[i] = resolvedAccessor;
+                }
+                return resolvedAccessor.accessor;
+            }
+        }
+        ResolvedAccessor resolvedAccessor = resolve(boundClass, aspectName);
+        ResolvedAccessor[] extendedAccessors = Arrays.copyOf(accessors, accessors.length + 1);
+        extendedAccessors[accessors.length] = resolvedAccessor;
+        resolvedAccessors = extendedAccessors;
+        return resolvedAccessor.accessor;
     }
 
-    private PropertyAccessor<?, ?> getAccessor(String propertyToAccess) {
-        return PropertyAccessorCache.get(getExistingBoundObject().getClass(), propertyToAccess);
+    private ResolvedAccessor resolve(Class<?> boundClass, String aspectName) {
+        return new ResolvedAccessor(aspectName, boundClass,
+                PropertyAccessorCache.get(boundClass, getPropertyAspectName(aspectName)));
     }
 
-    private String getPropertyAspectName(Aspect<?> aspect) {
+    private String getPropertyAspectName(String aspectName) {
         if (StringUtils.isEmpty(getProperty())) {
-            return aspect.getName();
+            return aspectName;
         } else {
-            return StringUtils.uncapitalize(property + StringUtils.capitalize(aspect.getName()));
+            return StringUtils.uncapitalize(property + StringUtils.capitalize(aspectName));
         }
     }
 
@@ -237,4 +231,23 @@ public class ReflectionPropertyDispatcher implements PropertyDispatcher {
                 + "]\n\t-> " + fallbackDispatcher;
     }
 
+    /**
+     * A {@link PropertyAccessor} resolved for an aspect and the class of the bound object.
+     */
+    private static final class ResolvedAccessor {
+
+        private final String aspectName;
+
+        private final Class<?> boundClass;
+
+        private final PropertyAccessor<?, ?> accessor;
+
+        ResolvedAccessor(String aspectName, Class<?> boundClass, PropertyAccessor<?, ?> accessor) {
+            this.aspectName = aspectName;
+            this.boundClass = boundClass;
+            this.accessor = accessor;
+        }
+
+    }
+
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.dispatcher.reflection.accessor;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.linkki.core.binding.LinkkiBindingException;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A {@link PropertyAccessor} that accesses the property with functions given at construction instead of
+ * methods found via reflection. Instances are usually created by generated
+ * {@link PropertyAccessorProvider PropertyAccessorProviders}.
+ * <p>
+ * The accessor behaves like a reflection based one: a property can be read if there is a getter, can be
+ * written if there is a setter and can be invoked if there is an invoker. Exceptions thrown while
+ * accessing the property are wrapped the same way.
+ * 
+ * @param <T> the type containing the property
+ * @param <V> the property's type
+ */
+public class GeneratedPropertyAccessor<T, V> extends PropertyAccessor<T, V> {
+
+    private final Class<T> boundClass;
+
+    @CheckForNull
+    private final Class<?> valueClass;
+
+    @CheckForNull
+    private final Function<T, V> getter;
+
+    @CheckForNull
+    private final BiConsumer<T, V> setter;
+
+    @CheckForNull
+    private final Consumer<T> invoker;
+
+    /**
+     * Creates an accessor for the given property.
+     * 
+     * @param boundClass the class containing the property
+     * @param propertyName the name of the property
+     * @param valueClass the return type of the getter, <code>null</code> if there is no getter
+     * @param getter reads the property, <code>null</code> if the property cannot be read
+     * @param setter writes the property, <code>null</code> if the property cannot be written
+     * @param invoker invokes the method with the name of the property, <code>null</code> if there is no
+     *            such method
+     */
+    public GeneratedPropertyAccessor(Class<T> boundClass, String propertyName, @CheckForNull Class<?> valueClass,
+            @CheckForNull Function<T, V> getter, @CheckForNull BiConsumer<T, V> setter,
+            @CheckForNull Consumer<T> invoker) {
+        super(boundClass, propertyName);
+        this.boundClass = requireNonNull(boundClass, "boundClass must not be null");
+        this.valueClass = valueClass;
+        this.getter = getter;
+        this.setter = setter;
+        this.invoker = invoker;
+        if (getter != null && valueClass == null) {
+            throw new IllegalArgumentException("valueClass must not be null if there is a getter for "
+                    + boundClass.getName() + "#" + propertyName);
+        }
+    }
+
+    @Override
+    public V getPropertyValue(T boundObject) {
+        Function<T, V> read = getter;
+        if (read == null) {
+            throw new IllegalStateException(
+                    "Cannot find getter method for " + boundObject.getClass().getName() + "#" + getPropertyName());
+        }
+        try {
+            return read.apply(boundObject);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new LinkkiBindingException(
+                    "Cannot read value from object: " + boundObject + ", property: " + getPropertyName(), e);
+        }
+    }
+
+    @Override
+    public void setPropertyValue(T boundObject, @CheckForNull V value) {
+        try {
+            BiConsumer<T, V> write = setter;
+            if (write == null) {
+                throw noMethodFound("WriteMethod");
+            }
+            write.accept(boundObject, value);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new LinkkiBindingException(
+                    "Cannot write value: " + value + " in " + boundClass + "#" + getPropertyName(), e);
+        }
+    }
+
+    @Override
+    public void invoke(T boundObject) {
+        try {
+            Consumer<T> invoke = invoker;
+            if (invoke == null) {
+                throw noMethodFound("InvokeMethod");
+            }
+            invoke.accept(boundObject);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new LinkkiBindingException(
+                    String.format("Error invoking method %s#%s", boundClass, getPropertyName()), e);
+        }
+    }
+
+    @Override
+    public boolean canRead() {
+        return getter != null;
+    }
+
+    @Override
+    public boolean canWrite() {
+        return setter != null;
+    }
+
+    @Override
+    public boolean canInvoke() {
+        return invoker != null;
+    }
+
+    @Override
+    public Class<?> getValueClass() {
+        Class<?> type = valueClass;
+        if (type == null) {
+            throw noMethodFound("ReadMethod");
+        }
+        return type;
+    }
+
+    private IllegalArgumentException noMethodFound(String accessMethodName) {
+        return new IllegalArgumentException(
+                "Found no " + accessMethodName + " for " + boundClass + "#" + getPropertyName());
+    }
+
+}
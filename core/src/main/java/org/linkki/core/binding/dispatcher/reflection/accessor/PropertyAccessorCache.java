@@ -15,17 +15,28 @@ package org.linkki.core.binding.dispatcher.reflection.accessor;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
 import org.linkki.util.LazyInitializingMap;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 /**
  * Global static cache for {@link PropertyAccessor PropertyAccessors}.
+ * <p>
+ * If a {@link PropertyAccessorProvider} for the class is registered for the {@link ServiceLoader}, the
+ * accessors it provides are used. All other properties are accessed via reflection.
  */
 public final class PropertyAccessorCache {
 
     private static final LazyInitializingMap<CacheKey, PropertyAccessor<?, ?>> ACCESSOR_CACHE = new LazyInitializingMap<>(
-            key -> new PropertyAccessor<>(key.clazz, key.property));
+            PropertyAccessorCache::createAccessor);
+
+    private static final LazyInitializingMap<Class<?>, Map<String, PropertyAccessor<?, ?>>> PROVIDED_ACCESSORS = new LazyInitializingMap<>(
+            PropertyAccessorCache::getProvidedAccessors);
 
     private PropertyAccessorCache() {
         // should not be instantiated
@@ -41,6 +52,41 @@ public final class PropertyAccessorCache {
         return (PropertyAccessor<T, ?>)ACCESSOR_CACHE.get(new CacheKey(clazz, property));
     }
 
+    private static PropertyAccessor<?, ?> createAccessor(CacheKey key) {
+        PropertyAccessor<?, ?> providedAccessor = PROVIDED_ACCESSORS.get(key.clazz).get(key.property);
+        if (providedAccessor != null) {
+            return providedAccessor;
+        } else {
+            return new PropertyAccessor<>(key.clazz, key.property);
+        }
+    }
+
+    private static Map<String, PropertyAccessor<?, ?>> getProvidedAccessors(Class<?> clazz) {
+        PropertyAccessorProvider provider = Providers.BY_CLASS.get(clazz);
+        return provider != null ? provider.getPropertyAccessors() : Collections.emptyMap();
+    }
+
+    /**
+     * Loads the {@link PropertyAccessorProvider PropertyAccessorProviders} when the first accessor is
+     * created.
+     */
+    private static final class Providers {
+
+        private static final Map<Class<?>, PropertyAccessorProvider> BY_CLASS = load();
+
+        private Providers() {
+            // should not be instantiated
+        }
+
+        private static Map<Class<?>, PropertyAccessorProvider> load() {
+            Map<Class<?>, PropertyAccessorProvider> providers = new HashMap<>();
+            ServiceLoader.load(PropertyAccessorProvider.class)
+                    .forEach(provider -> providers.put(provider.getBoundClass(), provider));
+            return Collections.unmodifiableMap(providers);
+        }
+
+    }
+
     private static final class CacheKey {
         private final Class<?> clazz;
         private final String property;
@@ -72,7 +118,7 @@ public final class PropertyAccessorCache {
                 return false;
             }
             CacheKey other = (CacheKey)obj;
-            if (!clazz.getName().equals(other.clazz.getName())) {
+            if (!clazz.equals(other.clazz)) {
                 return false;
             }
             if (!property.equals(other.property)) {
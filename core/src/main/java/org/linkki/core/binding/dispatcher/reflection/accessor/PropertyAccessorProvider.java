@@ -0,0 +1,45 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.dispatcher.reflection.accessor;
+
+import java.util.Map;
+
+/**
+ * Provides the {@link PropertyAccessor PropertyAccessors} of a class that were generated ahead of time,
+ * for example by the linkki annotation processor, so that the properties of the class can be accessed
+ * without reflection.
+ * <p>
+ * Implementations are found by the {@link java.util.ServiceLoader} and must therefore be listed in
+ * <code>META-INF/services/org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessorProvider</code>.
+ * The {@link PropertyAccessorCache} asks the provider of a class before it creates a reflection based
+ * {@link PropertyAccessor}. Properties that are not provided are still accessed via reflection.
+ * 
+ * @see GeneratedPropertyAccessor
+ */
+public interface PropertyAccessorProvider {
+
+    /**
+     * Returns the class whose properties are provided. The accessors are only used for instances of
+     * exactly this class, not for instances of its subclasses.
+     */
+    Class<?> getBoundClass();
+
+    /**
+     * Returns the accessors of the {@link #getBoundClass() bound class} by their property name. The
+     * method is called at most once, when a property of the class is accessed for the first time.
+     */
+    Map<String, PropertyAccessor<?, ?>> getPropertyAccessors();
+
+}
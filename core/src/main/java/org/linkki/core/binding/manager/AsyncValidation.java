@@ -0,0 +1,176 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.manager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.linkki.core.binding.validation.ValidationService;
+import org.linkki.core.binding.validation.message.MessageList;
+
+/**
+ * Runs the validation of a {@link BindingManager} in the background.
+ * <p>
+ * Every {@link #requestValidation() request} increments a generation counter. At most one validation
+ * runs at a time. Requests that arrive before the validation starts are coalesced into it. If requests
+ * arrive while it is running, exactly one more validation is submitted to the validation executor
+ * after it finished. The result of a validation is handed to the UI executor and only displayed if no
+ * other request arrived in the meantime, so results of outdated states are never displayed.
+ */
+class AsyncValidation {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncValidation.class.getName());
+
+    private final ValidationService validationService;
+
+    private final Executor validationExecutor;
+
+    private final Executor uiExecutor;
+
+    private final Consumer<MessageList> messageConsumer;
+
+    private final LongConsumer validationCompleted;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Object lock = new Object();
+
+    /** Whether a validation was submitted to the validation executor and has not finished yet. */
+    private boolean active;
+
+    /** Whether another validation was requested while the active validation was running. */
+    private boolean pending;
+
+    /**
+     * @param validationService the service that is called in the background
+     * @param validationExecutor the executor that runs the validation
+     * @param uiExecutor the executor that runs the update of the UI with the UI session locked
+     * @param messageConsumer called by the UI executor with the validation result
+     * @param validationCompleted called by the validation executor with the duration of every
+     *            successful validation in nanoseconds
+     */
+    AsyncValidation(ValidationService validationService, Executor validationExecutor, Executor uiExecutor,
+            Consumer<MessageList> messageConsumer, LongConsumer validationCompleted) {
+        this.validationService = requireNonNull(validationService, "validationService must not be null");
+        this.validationExecutor = requireNonNull(validationExecutor, "validationExecutor must not be null");
+        this.uiExecutor = requireNonNull(uiExecutor, "uiExecutor must not be null");
+        this.messageConsumer = requireNonNull(messageConsumer, "messageConsumer must not be null");
+        this.validationCompleted = requireNonNull(validationCompleted, "validationCompleted must not be null");
+    }
+
+    /**
+     * Requests a validation of the current state. Results of validations requested earlier are no
+     * longer displayed.
+     */
+    public void requestValidation() {
+        generation.incrementAndGet();
+        synchronized (lock) {
+            if (active) {
+                pending = true;
+                return;
+            }
+            active = true;
+        }
+        submit();
+    }
+
+    private void submit() {
+        try {
+            validationExecutor.execute(this::validate);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                active = false;
+                pending = false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Discards the results of all validations that were requested until now.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        synchronized (lock) {
+            pending = false;
+        }
+    }
+
+    /**
+     * Returns whether a validation was submitted to the validation executor and has not finished yet.
+     */
+    public boolean isScheduled() {
+        synchronized (lock) {
+            return active;
+        }
+    }
+
+    private void validate() {
+        synchronized (lock) {
+            // requests that arrived before this validation started are covered by it
+            pending = false;
+        }
+        try {
+            validateCurrentState();
+        } finally {
+            validationFinished();
+        }
+    }
+
+    private void validationFinished() {
+        synchronized (lock) {
+            if (!pending) {
+                active = false;
+                return;
+            }
+            pending = false;
+        }
+        try {
+            submit();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Could not submit pending asynchronous validation", e);
+        }
+    }
+
+    private void validateCurrentState() {
+        long validatedGeneration = generation.get();
+        MessageList messages;
+        try {
+            long start = System.nanoTime();
+            messages = validationService.getFilteredMessages().sortBySeverity();
+            validationCompleted.accept(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Asynchronous validation failed", e);
+            return;
+        }
+        if (isCurrent(validatedGeneration)) {
+            uiExecutor.execute(() -> {
+                if (isCurrent(validatedGeneration)) {
+                    messageConsumer.accept(messages);
+                }
+            });
+        }
+    }
+
+    private boolean isCurrent(long validatedGeneration) {
+        return generation.get() == validatedGeneration;
+    }
+
+}
@@ -16,16 +16,26 @@ package org.linkki.core.binding.manager;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.Validate;
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.metrics.BindingMetrics;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+import org.linkki.core.binding.validation.IncrementalValidationService;
 import org.linkki.core.binding.validation.ValidationService;
+import org.linkki.core.binding.validation.message.IndexedMessageList;
 import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.ObjectProperty;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.OverrideMustInvoke;
 
 /**
@@ -39,8 +49,27 @@ public abstract class BindingManager {
 
     private final ValidationService validationService;
 
+    @CheckForNull
+    private final IncrementalValidation incrementalValidation;
+
+    @CheckForNull
+    private AsyncValidation asyncValidation;
+
+    private volatile BindingMetrics metrics = BindingMetrics.NONE;
+
+    /**
+     * The messages added or removed by the incremental validation whose messages are currently passed
+     * to {@link #updateMessages(MessageList)}.
+     */
+    @CheckForNull
+    private IndexedMessageList changedMessages;
+
     public BindingManager(ValidationService validationService) {
         this.validationService = requireNonNull(validationService, "validationService must not be null");
+        this.incrementalValidation = validationService instanceof IncrementalValidationService
+                ? new IncrementalValidation((IncrementalValidationService)validationService,
+                        this::validationCompleted)
+                : null;
     }
 
     /**
@@ -128,7 +157,9 @@ public abstract class BindingManager {
                         name);
 
         BindingContext newContext = newBindingContext(name);
+        newContext.setMetrics(metrics);
         contextsByName.put(name, newContext);
+        resetIncrementalValidation();
         return newContext;
     }
 
@@ -156,7 +187,9 @@ public abstract class BindingManager {
                         name);
 
         BindingContext newContext = newBindingContext(name, behaviorProvider);
+        newContext.setMetrics(metrics);
         contextsByName.put(name, newContext);
+        resetIncrementalValidation();
         return newContext;
     }
 
@@ -283,24 +316,180 @@ public abstract class BindingManager {
      * The {@link UiUpdateObserver}s are then notified by {@link #notifyUiUpdateObservers()}.
      * <p>
      * Current messages are retrieved from the validation service and are forwarded to all registered
-     * binding contexts using {@link #updateMessages(MessageList)}.
+     * binding contexts using {@link #updateMessages(MessageList)}. It builds an
+     * {@link IndexedMessageList} once, so that every binding can find its messages without iterating
+     * all messages.
+     * <p>
+     * If the validation service is an {@link IncrementalValidationService}, only the properties written
+     * since the last validation are validated whenever they are known. The resulting
+     * {@link org.linkki.core.binding.validation.ValidationDelta delta} is merged into the retained
+     * messages, passed to {@link #updateMessages(MessageList)} and only displayed at the affected
+     * bindings.
+     * <p>
+     * If {@link #enableAsyncValidation(Executor, Executor) asynchronous validation} is enabled, the
+     * validation is only requested and the messages are updated as soon as the validation is finished.
      * <p>
      * All overriding methods should call {@link #notifyUiUpdateObservers()} to notify registered
      * {@link UiUpdateObserver}s properly.
      */
     public void afterUpdateUi() {
         notifyUiUpdateObservers();
-        updateMessages(validationService.getFilteredMessages().sortBySeverity());
+        Optional<Set<ObjectProperty>> writtenProperties = drainWrittenProperties();
+        AsyncValidation currentAsyncValidation = asyncValidation;
+        IncrementalValidation currentIncrementalValidation = incrementalValidation;
+        if (currentAsyncValidation != null) {
+            resetIncrementalValidation();
+            currentAsyncValidation.requestValidation();
+        } else if (currentIncrementalValidation != null) {
+            currentIncrementalValidation.validate(writtenProperties, this::updateMessages, this::updateMessages);
+        } else {
+            long start = System.nanoTime();
+            MessageList messages = validationService.getFilteredMessages().sortBySeverity();
+            validationCompleted(System.nanoTime() - start);
+            updateMessages(messages);
+        }
+    }
+
+    private Optional<Set<ObjectProperty>> drainWrittenProperties() {
+        Set<ObjectProperty> writtenProperties = new LinkedHashSet<>();
+        boolean known = true;
+        for (BindingContext context : contextsByName.values()) {
+            Optional<Set<ObjectProperty>> writtenInContext = context.drainWrittenProperties();
+            if (writtenInContext.isPresent()) {
+                writtenProperties.addAll(writtenInContext.get());
+            } else {
+                known = false;
+            }
+        }
+        return known ? Optional.of(writtenProperties) : Optional.empty();
+    }
+
+    private void resetIncrementalValidation() {
+        IncrementalValidation currentIncrementalValidation = incrementalValidation;
+        if (currentIncrementalValidation != null) {
+            currentIncrementalValidation.reset();
+        }
+    }
+
+    /**
+     * Validates in the background instead of during {@link #afterUpdateUi()}. This is useful if the
+     * {@link ValidationService} is too slow to be called after every change in the UI.
+     * <p>
+     * The validation is run by the given validation executor, for example a thread pool. At most one
+     * validation runs at a time: changes made while a validation is waiting to be started are validated
+     * together, and changes made while it is running are validated together by one more validation
+     * afterwards. The messages are passed to
+     * {@link #updateMessages(MessageList)} by the given UI executor, which must run the task with the UI
+     * session locked. Messages of a validation are discarded if the UI was updated again in the
+     * meantime.
+     * <p>
+     * Note that the {@link ValidationService} is called from another thread than the UI and must
+     * therefore be able to read the model while it is being changed. To display the messages without a
+     * user interaction, the UI must be able to receive server side updates, for example by server push
+     * or polling.
+     * 
+     * @param validationExecutor the executor that calls the {@link ValidationService}
+     * @param uiExecutor the executor that updates the UI with the UI session locked
+     */
+    public void enableAsyncValidation(Executor validationExecutor, Executor uiExecutor) {
+        asyncValidation = new AsyncValidation(validationService, validationExecutor, uiExecutor,
+                this::updateMessages, this::validationCompleted);
+    }
+
+    /**
+     * Validates during {@link #afterUpdateUi()} again after
+     * {@link #enableAsyncValidation(Executor, Executor) asynchronous validation} was enabled. Results of
+     * validations that are still running are discarded.
+     */
+    public void disableAsyncValidation() {
+        AsyncValidation currentAsyncValidation = asyncValidation;
+        asyncValidation = null;
+        if (currentAsyncValidation != null) {
+            currentAsyncValidation.cancel();
+        }
+    }
+
+    /**
+     * Returns whether {@link #enableAsyncValidation(Executor, Executor) asynchronous validation} is
+     * enabled.
+     */
+    public boolean isAsyncValidation() {
+        return asyncValidation != null;
+    }
+
+    /**
+     * Returns the {@link BindingMetrics} that are notified about the duration of the validation and the
+     * updates in all managed {@link BindingContext binding contexts}. The default is
+     * {@link BindingMetrics#NONE}.
+     */
+    public BindingMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the {@link BindingMetrics} that are notified about the duration of the validation and the
+     * updates in all managed {@link BindingContext binding contexts}, including contexts that are
+     * created later.
+     */
+    public void setMetrics(BindingMetrics metrics) {
+        this.metrics = requireNonNull(metrics, "metrics must not be null");
+        contextsByName.values().forEach(bc -> bc.setMetrics(metrics));
+    }
+
+    private void validationCompleted(long durationNanos) {
+        BindingMetrics currentMetrics = metrics;
+        if (currentMetrics.isEnabled()) {
+            currentMetrics.phaseCompleted(Phase.VALIDATION, getClass().getSimpleName(), durationNanos);
+        }
+    }
+
+    private void displayMessages(BindingContext context, Consumer<BindingContext> display) {
+        BindingMetrics currentMetrics = metrics;
+        if (currentMetrics.isEnabled()) {
+            long start = System.nanoTime();
+            display.accept(context);
+            currentMetrics.phaseCompleted(Phase.DISPLAY_MESSAGES, context.getName(), System.nanoTime() - start);
+        } else {
+            display.accept(context);
+        }
     }
 
     /**
      * Uses the given messages to update all registered binding contexts. Can be overridden in
      * subclasses to notify further observers about the new messages.
+     * <p>
+     * This method is also called after an {@link IncrementalValidationService incremental validation}.
+     * In that case, only the bindings that are affected by the added or removed messages are updated.
+     * <p>
+     * The given list may be modified by overriding methods before calling this method. The
+     * {@link IndexedMessageList} that is passed to the binding contexts is built from it afterwards.
      */
     @OverrideMustInvoke
     protected void updateMessages(MessageList messages) {
         requireNonNull(messages, "messages must not be null");
-        contextsByName.values().forEach(bc -> bc.displayMessages(messages));
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messages);
+        IndexedMessageList indexedChangedMessages = changedMessages;
+        changedMessages = null;
+        if (indexedChangedMessages == null) {
+            contextsByName.values().forEach(bc -> displayMessages(bc, c -> c.displayMessages(indexedMessages)));
+        } else {
+            contextsByName.values()
+                    .forEach(bc -> displayMessages(bc,
+                                                   c -> c.displayMessages(indexedMessages, indexedChangedMessages)));
+        }
+    }
+
+    /**
+     * Passes the messages of an incremental validation to {@link #updateMessages(MessageList)},
+     * remembering the changed messages so that only the affected bindings are updated.
+     */
+    private void updateMessages(MessageList messages, MessageList changed) {
+        changedMessages = IndexedMessageList.of(requireNonNull(changed, "changed must not be null"));
+        try {
+            updateMessages(messages);
+        } finally {
+            changedMessages = null;
+        }
     }
 
     /**
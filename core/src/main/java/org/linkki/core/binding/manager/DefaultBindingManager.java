@@ -18,6 +18,7 @@ import static java.util.Objects.requireNonNull;
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.refresh.RefreshStrategy;
 import org.linkki.core.binding.validation.ValidationService;
 
 /**
@@ -28,6 +29,7 @@ public class DefaultBindingManager extends BindingManager {
 
     private final PropertyBehaviorProvider defaultBehaviorProvider;
     private PropertyDispatcherFactory propertyDispatcherFactory;
+    private final RefreshStrategy refreshStrategy;
 
     /**
      * Creates a {@link BindingManager} that returns {@link BindingContext BindingContexts} with
@@ -76,24 +78,43 @@ public class DefaultBindingManager extends BindingManager {
      */
     public DefaultBindingManager(ValidationService validationService,
             PropertyBehaviorProvider defaultBehaviorProvider, PropertyDispatcherFactory propertyDispatcherFactory) {
+        this(validationService, defaultBehaviorProvider, propertyDispatcherFactory, RefreshStrategy.FULL);
+    }
+
+    /**
+     * Creates a {@link BindingManager} that returns standard {@link BindingContext BindingContexts}
+     * with the given {@link ValidationService}, {@link PropertyBehaviorProvider},
+     * {@link PropertyDispatcherFactory} and {@link RefreshStrategy}.
+     * 
+     * @implNote The {@link PropertyBehaviorProvider} used for context creation can be overruled by
+     *           specifying the {@link PropertyBehaviorProvider} explicitly in
+     *           {@link #createContext(Class, PropertyBehaviorProvider)} or
+     *           {@link #createContext(String, PropertyBehaviorProvider)}.
+     */
+    public DefaultBindingManager(ValidationService validationService,
+            PropertyBehaviorProvider defaultBehaviorProvider, PropertyDispatcherFactory propertyDispatcherFactory,
+            RefreshStrategy refreshStrategy) {
         super(validationService);
         this.defaultBehaviorProvider = requireNonNull(defaultBehaviorProvider,
                                                       "defaultBehaviorProvider must not be null");
         this.propertyDispatcherFactory = requireNonNull(propertyDispatcherFactory,
                                                         "propertyDispatcherFactory must not be null");
+        this.refreshStrategy = requireNonNull(refreshStrategy, "refreshStrategy must not be null");
     }
 
     @Override
     protected BindingContext newBindingContext(String name) {
         requireNonNull(name, "name must not be null");
-        return new BindingContext(name, getDefaultBehaviorProvider(), propertyDispatcherFactory, this::afterUpdateUi);
+        return new BindingContext(name, getDefaultBehaviorProvider(), propertyDispatcherFactory, refreshStrategy,
+                this::afterUpdateUi);
     }
 
     @Override
     protected BindingContext newBindingContext(String name, PropertyBehaviorProvider behaviorProvider) {
         requireNonNull(name, "name must not be null");
         requireNonNull(behaviorProvider, "behaviorProvider must not be null");
-        return new BindingContext(name, behaviorProvider, propertyDispatcherFactory, this::afterUpdateUi);
+        return new BindingContext(name, behaviorProvider, propertyDispatcherFactory, refreshStrategy,
+                this::afterUpdateUi);
     }
 
     /**
@@ -103,4 +124,11 @@ public class DefaultBindingManager extends BindingManager {
         return defaultBehaviorProvider;
     }
 
+    /**
+     * Returns the {@link RefreshStrategy} used for all created {@link BindingContext BindingContexts}.
+     */
+    public RefreshStrategy getRefreshStrategy() {
+        return refreshStrategy;
+    }
+
 }
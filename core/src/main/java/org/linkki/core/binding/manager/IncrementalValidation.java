@@ -0,0 +1,112 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.manager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.linkki.core.binding.validation.IncrementalValidationService;
+import org.linkki.core.binding.validation.ValidationDelta;
+import org.linkki.core.binding.validation.ValidationDisplayState;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.ObjectProperty;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Retains the messages of an {@link IncrementalValidationService} between the validations of a
+ * {@link BindingManager} and merges the {@link ValidationDelta deltas} into them.
+ * <p>
+ * The retained messages are not filtered, so that a change of the {@link ValidationDisplayState} does
+ * not require a new validation.
+ */
+class IncrementalValidation {
+
+    private final IncrementalValidationService validationService;
+
+    private final LongConsumer validationCompleted;
+
+    @CheckForNull
+    private MessageList retainedMessages;
+
+    @CheckForNull
+    private ValidationDisplayState displayState;
+
+    /**
+     * @param validationService the service that validates the written properties
+     * @param validationCompleted called with the duration of every validation in nanoseconds
+     */
+    IncrementalValidation(IncrementalValidationService validationService, LongConsumer validationCompleted) {
+        this.validationService = requireNonNull(validationService, "validationService must not be null");
+        this.validationCompleted = requireNonNull(validationCompleted, "validationCompleted must not be null");
+    }
+
+    /**
+     * Validates the given written properties and passes the messages to display to one of the given
+     * consumers. All messages are validated if no messages are retained or if the written properties
+     * are unknown.
+     * 
+     * @param writtenProperties the properties written since the last validation or
+     *            {@link Optional#empty()} if unknown changes happened
+     * @param updateAll called with the messages to display if all bindings have to display them
+     * @param updateChanged called with the messages to display and the changed messages if only the
+     *            bindings affected by the changed messages have to display them
+     */
+    void validate(Optional<Set<ObjectProperty>> writtenProperties,
+            Consumer<MessageList> updateAll,
+            BiConsumer<MessageList, MessageList> updateChanged) {
+        ValidationDisplayState currentDisplayState = validationService.getValidationDisplayState();
+        MessageList previousMessages = retainedMessages;
+        if (previousMessages == null || !writtenProperties.isPresent() || writtenProperties.get().isEmpty()) {
+            long start = System.nanoTime();
+            MessageList messages = validationService.getValidationMessages();
+            validationCompleted.accept(System.nanoTime() - start);
+            retainedMessages = messages;
+            displayState = currentDisplayState;
+            updateAll.accept(filter(messages, currentDisplayState));
+        } else {
+            long start = System.nanoTime();
+            ValidationDelta delta = validationService.getValidationDelta(writtenProperties.get());
+            validationCompleted.accept(System.nanoTime() - start);
+            MessageList messages = delta.applyTo(previousMessages);
+            retainedMessages = messages;
+            if (delta.isAll() || currentDisplayState != displayState) {
+                displayState = currentDisplayState;
+                updateAll.accept(filter(messages, currentDisplayState));
+            } else {
+                MessageList changedMessages = delta.getReplacedMessages(previousMessages);
+                changedMessages.add(delta.getMessages());
+                updateChanged.accept(filter(messages, currentDisplayState), changedMessages);
+            }
+        }
+    }
+
+    /**
+     * Discards the retained messages, so that the next validation validates all messages.
+     */
+    void reset() {
+        retainedMessages = null;
+        displayState = null;
+    }
+
+    private static MessageList filter(MessageList messages, ValidationDisplayState displayState) {
+        return displayState.filter(messages).sortBySeverity();
+    }
+
+}
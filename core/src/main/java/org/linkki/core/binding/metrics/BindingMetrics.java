@@ -0,0 +1,130 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.manager.BindingManager;
+
+/**
+ * Listener that is notified about the duration of the phases of the binding engine. It is set using
+ * {@link BindingManager#setMetrics(BindingMetrics)} or {@link BindingContext#setMetrics(BindingMetrics)}.
+ * <p>
+ * The phases {@link Phase#UPDATE_FROM_PMO} and {@link Phase#DISPLAY_MESSAGES} are reported once per
+ * {@link BindingContext} and {@link Phase#VALIDATION} once per {@link BindingManager} by
+ * {@link #phaseCompleted(Phase, String, long)}. Every value pushed to the model ({@link Phase#PUSH})
+ * and every binding updated from the model ({@link Phase#UPDATE_FROM_PMO}) is reported by
+ * {@link #propertyCompleted(Phase, String, Class, String, long)}, which makes it possible to find the
+ * presentation model objects that dominate an update.
+ * <p>
+ * The methods are called in the UI thread, except for {@link Phase#VALIDATION} if the
+ * {@link BindingManager#enableAsyncValidation(java.util.concurrent.Executor, java.util.concurrent.Executor)
+ * asynchronous validation} is enabled. They are called very often and must therefore be fast.
+ * 
+ * @see InMemoryBindingMetrics
+ * @see TimerBindingMetrics
+ */
+public interface BindingMetrics {
+
+    /**
+     * Does not record anything. This is the default of every {@link BindingContext} and
+     * {@link BindingManager}.
+     */
+    BindingMetrics NONE = new BindingMetrics() {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void phaseCompleted(Phase phase, String name, long durationNanos) {
+            // does nothing
+        }
+
+        @Override
+        public void propertyCompleted(Phase phase,
+                String contextName,
+                Class<?> pmoClass,
+                String property,
+                long durationNanos) {
+            // does nothing
+        }
+
+        @Override
+        public String toString() {
+            return "BindingMetrics.NONE";
+        }
+
+    };
+
+    /**
+     * Returns whether this listener records anything. If not, the durations are not measured at all.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called when a phase is completed.
+     * 
+     * @param phase the completed phase, either {@link Phase#UPDATE_FROM_PMO}, {@link Phase#VALIDATION}
+     *            or {@link Phase#DISPLAY_MESSAGES}
+     * @param name the name of the {@link BindingContext} or, for {@link Phase#VALIDATION}, the simple
+     *            class name of the {@link BindingManager}
+     * @param durationNanos the duration of the phase in nanoseconds
+     */
+    void phaseCompleted(Phase phase, String name, long durationNanos);
+
+    /**
+     * Called when a phase is completed for a single property, that is when a value was pushed to a
+     * presentation model object or when a binding was updated from it.
+     * 
+     * @param phase the completed phase, either {@link Phase#PUSH} or {@link Phase#UPDATE_FROM_PMO}
+     * @param contextName the name of the {@link BindingContext} the binding belongs to
+     * @param pmoClass the class of the presentation model object
+     * @param property the name of the bound property, may be empty for bindings without property
+     * @param durationNanos the duration in nanoseconds
+     */
+    void propertyCompleted(Phase phase, String contextName, Class<?> pmoClass, String property, long durationNanos);
+
+    /**
+     * The measured phases of the binding engine.
+     */
+    enum Phase {
+
+        /**
+         * A value is pushed from the UI to the presentation model object, including the setter or the
+         * invoked method.
+         */
+        PUSH,
+
+        /**
+         * The bindings are updated from the presentation model objects after a model change.
+         */
+        UPDATE_FROM_PMO,
+
+        /**
+         * The {@link org.linkki.core.binding.validation.ValidationService ValidationService} of a
+         * {@link BindingManager} validates the model.
+         */
+        VALIDATION,
+
+        /**
+         * The validation messages are displayed by the bindings.
+         */
+        DISPLAY_MESSAGES;
+
+    }
+
+}
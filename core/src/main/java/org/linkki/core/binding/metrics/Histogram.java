@@ -0,0 +1,128 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A histogram of durations in nanoseconds. The durations are counted in buckets with upper bounds of
+ * powers of two, so percentiles are approximated by the upper bound of their bucket.
+ * <p>
+ * This class is not thread-safe. {@link InMemoryBindingMetrics} only returns copies.
+ */
+public final class Histogram {
+
+    private final long[] buckets = new long[Long.SIZE];
+
+    private long count;
+
+    private long totalNanos;
+
+    private long maxNanos;
+
+    Histogram() {
+        super();
+    }
+
+    private Histogram(Histogram histogram) {
+        System.arraycopy(histogram.buckets, 0, buckets, 0, buckets.length);
+        this.count = histogram.count;
+        this.totalNanos = histogram.totalNanos;
+        this.maxNanos = histogram.maxNanos;
+    }
+
+    /**
+     * Records the given duration in nanoseconds.
+     */
+    void record(long durationNanos) {
+        long duration = Math.max(0, durationNanos);
+        buckets[duration == 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    /**
+     * Adds the recorded durations of the given histogram to this histogram.
+     */
+    void add(Histogram histogram) {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] += histogram.buckets[i];
+        }
+        count += histogram.count;
+        totalNanos += histogram.totalNanos;
+        maxNanos = Math.max(maxNanos, histogram.maxNanos);
+    }
+
+    Histogram copy() {
+        return new Histogram(this);
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all recorded durations in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the longest recorded duration in nanoseconds or 0 if nothing was recorded.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds or 0 if nothing was recorded.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double)totalNanos / count;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations in nanoseconds, which is
+     * never greater than the {@link #getMaxNanos() maximum}. Returns 0 if nothing was recorded.
+     * 
+     * @param percentile the percentile between 0 and 1, for example 0.95
+     */
+    public long getPercentileNanos(double percentile) {
+        Validate.inclusiveBetween(0.0, 1.0, percentile, "percentile must be between 0 and 1");
+        long rank = (long)Math.ceil(percentile * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen > 0 && seen >= rank) {
+                long upperBound = i == buckets.length - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min(upperBound, maxNanos);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram [count=" + count + ", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos
+                + ", buckets=" + Arrays.toString(buckets) + "]";
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BindingMetrics} that collect the durations in memory as {@link Histogram histograms} per
+ * phase and binding context, per presentation model class and per property. Useful in tests and for
+ * diagnostics, for example to find the slowest properties of a page.
+ * <p>
+ * This class is thread-safe.
+ */
+public class InMemoryBindingMetrics implements BindingMetrics {
+
+    private final Map<Phase, Map<String, Histogram>> phases = new EnumMap<>(Phase.class);
+
+    private final Map<Phase, Map<PropertyKey, Histogram>> properties = new EnumMap<>(Phase.class);
+
+    @Override
+    public synchronized void phaseCompleted(Phase phase, String name, long durationNanos) {
+        phases.computeIfAbsent(phase, p -> new HashMap<>())
+                .computeIfAbsent(name, n -> new Histogram())
+                .record(durationNanos);
+    }
+
+    @Override
+    public synchronized void propertyCompleted(Phase phase,
+            String contextName,
+            Class<?> pmoClass,
+            String property,
+            long durationNanos) {
+        properties.computeIfAbsent(phase, p -> new HashMap<>())
+                .computeIfAbsent(new PropertyKey(contextName, pmoClass, property), k -> new Histogram())
+                .record(durationNanos);
+    }
+
+    /**
+     * Returns the durations of the given phase in the {@link org.linkki.core.binding.BindingContext}
+     * with the given name, or for {@link Phase#VALIDATION} in the
+     * {@link org.linkki.core.binding.manager.BindingManager} with the given simple class name.
+     */
+    public synchronized Histogram getHistogram(Phase phase, String name) {
+        return Optional.ofNullable(phases.get(phase))
+                .map(histograms -> histograms.get(name))
+                .map(Histogram::copy)
+                .orElseGet(Histogram::new);
+    }
+
+    /**
+     * Returns the durations of the given phase for all properties of the given presentation model
+     * class.
+     */
+    public synchronized Histogram getHistogram(Phase phase, Class<?> pmoClass) {
+        Histogram histogram = new Histogram();
+        properties.getOrDefault(phase, new HashMap<>()).forEach((key, propertyHistogram) -> {
+            if (key.pmoClass.equals(pmoClass)) {
+                histogram.add(propertyHistogram);
+            }
+        });
+        return histogram;
+    }
+
+    /**
+     * Returns the properties with the longest total duration in the given phase, the slowest first.
+     * 
+     * @param phase the phase, either {@link Phase#PUSH} or {@link Phase#UPDATE_FROM_PMO}
+     * @param limit the maximum number of returned properties
+     */
+    public synchronized List<PropertyTiming> getSlowestProperties(Phase phase, int limit) {
+        return properties.getOrDefault(phase, new HashMap<>()).entrySet().stream()
+                .map(e -> new PropertyTiming(e.getKey().contextName, e.getKey().pmoClass, e.getKey().property,
+                        e.getValue().copy()))
+                .sorted(Comparator.comparingLong((PropertyTiming t) -> t.getHistogram().getTotalNanos())
+                        .reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Discards all recorded durations.
+     */
+    public synchronized void reset() {
+        phases.clear();
+        properties.clear();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "InMemoryBindingMetrics " + phases;
+    }
+
+    /**
+     * The durations of a single property.
+     */
+    public static final class PropertyTiming {
+
+        private final String contextName;
+
+        private final Class<?> pmoClass;
+
+        private final String property;
+
+        private final Histogram histogram;
+
+        PropertyTiming(String contextName, Class<?> pmoClass, String property, Histogram histogram) {
+            this.contextName = contextName;
+            this.pmoClass = pmoClass;
+            this.property = property;
+            this.histogram = histogram;
+        }
+
+        public String getContextName() {
+            return contextName;
+        }
+
+        public Class<?> getPmoClass() {
+            return pmoClass;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        @Override
+        public String toString() {
+            return pmoClass.getSimpleName() + "#" + property + " in " + contextName + ": " + histogram;
+        }
+
+    }
+
+    private static final class PropertyKey {
+
+        private final String contextName;
+
+        private final Class<?> pmoClass;
+
+        private final String property;
+
+        PropertyKey(String contextName, Class<?> pmoClass, String property) {
+            this.contextName = requireNonNull(contextName, "contextName must not be null");
+            this.pmoClass = requireNonNull(pmoClass, "pmoClass must not be null");
+            this.property = requireNonNull(property, "property must not be null");
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contextName, pmoClass, property);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PropertyKey)) {
+                return false;
+            }
+            PropertyKey other = (PropertyKey)obj;
+            return contextName.equals(other.contextName) && pmoClass.equals(other.pmoClass)
+                    && property.equals(other.property);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/**
+ * {@link BindingMetrics} that record the durations as named timers with tags, the way metrics
+ * libraries like Micrometer do. The actual timers are provided by a {@link TimerRecorder}, for
+ * example:
+ * 
+ * <pre>
+ * <code>
+ * new TimerBindingMetrics((name, durationNanos, tags) -&gt; meterRegistry.timer(name, tags)
+ *         .record(durationNanos, TimeUnit.NANOSECONDS));
+ * </code>
+ * </pre>
+ * 
+ * The timers are named after the {@link Phase}, for example {@code linkki.binding.update.from.pmo}.
+ * Completed phases are tagged with {@value #TAG_NAME}, completed properties are recorded in a timer
+ * with the suffix {@value #PROPERTY_SUFFIX} and tagged with {@value #TAG_CONTEXT}, {@value #TAG_PMO}
+ * and {@value #TAG_PROPERTY}.
+ */
+public class TimerBindingMetrics implements BindingMetrics {
+
+    public static final String PREFIX = "linkki.binding.";
+
+    public static final String PROPERTY_SUFFIX = ".property";
+
+    public static final String TAG_NAME = "name";
+
+    public static final String TAG_CONTEXT = "context";
+
+    public static final String TAG_PMO = "pmo";
+
+    public static final String TAG_PROPERTY = "property";
+
+    private final TimerRecorder timerRecorder;
+
+    public TimerBindingMetrics(TimerRecorder timerRecorder) {
+        this.timerRecorder = requireNonNull(timerRecorder, "timerRecorder must not be null");
+    }
+
+    @Override
+    public void phaseCompleted(Phase phase, String name, long durationNanos) {
+        timerRecorder.record(getTimerName(phase), durationNanos, TAG_NAME, name);
+    }
+
+    @Override
+    public void propertyCompleted(Phase phase,
+            String contextName,
+            Class<?> pmoClass,
+            String property,
+            long durationNanos) {
+        timerRecorder.record(getTimerName(phase) + PROPERTY_SUFFIX, durationNanos,
+                             TAG_CONTEXT, contextName,
+                             TAG_PMO, pmoClass.getName(),
+                             TAG_PROPERTY, property);
+    }
+
+    /**
+     * Returns the name of the timer of the given phase, for example {@code linkki.binding.push}.
+     */
+    public static String getTimerName(Phase phase) {
+        return PREFIX + phase.name().toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+
+    /**
+     * Records a duration in the timer with the given name and tags.
+     */
+    @FunctionalInterface
+    public interface TimerRecorder {
+
+        /**
+         * Records the given duration.
+         * 
+         * @param name the name of the timer
+         * @param durationNanos the duration in nanoseconds
+         * @param tags the tags of the timer as alternating keys and values
+         */
+        void record(String name, long durationNanos, String... tags);
+
+    }
+
+}
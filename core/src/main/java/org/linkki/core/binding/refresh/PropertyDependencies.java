@@ -0,0 +1,98 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.refresh;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Describes which properties of a presentation model object may change when one of its properties is
+ * written. Used by an {@link RefreshStrategy#incremental(PropertyDependencies) incremental}
+ * {@link RefreshStrategy} to decide which bindings have to be updated after a value was pushed to the
+ * model.
+ * <p>
+ * Property names are given the same way the
+ * {@link org.linkki.core.binding.dispatcher.reflection.ReflectionPropertyDispatcher
+ * ReflectionPropertyDispatcher} derives them from a property and an aspect, for example "premium" for
+ * the value of the property "premium" and "premiumVisible" for its visible aspect.
+ * <p>
+ * The dependencies of a presentation model object are considered to be complete. That means writing a
+ * property of a PMO with known dependencies must neither affect other properties than the declared ones
+ * nor properties of any other PMO.
+ */
+@FunctionalInterface
+public interface PropertyDependencies {
+
+    /**
+     * The dependencies of all presentation model objects are unknown, every change leads to a full
+     * refresh.
+     */
+    PropertyDependencies UNKNOWN = (pmo, property) -> Optional.empty();
+
+    /**
+     * The properties of all presentation model objects are independent of each other. Writing a
+     * property only affects the property itself.
+     */
+    PropertyDependencies INDEPENDENT = (pmo, property) -> Optional.of(Collections.emptySet());
+
+    /**
+     * Returns the names of the properties of the given presentation model object that may change when
+     * the given property is written. The written property itself is always considered to be changed
+     * and does not need to be part of the result.
+     * 
+     * @param pmo the presentation model object whose property was written
+     * @param property the name of the written property
+     * @return the names of the dependent properties or {@link Optional#empty()} if the dependencies are
+     *         unknown, which leads to a full refresh
+     */
+    Optional<Set<String>> getDependentProperties(Object pmo, String property);
+
+    /**
+     * Returns {@link PropertyDependencies} that treat the properties of instances of the given classes
+     * as {@link #INDEPENDENT independent} and the dependencies of all other presentation model objects
+     * as {@link #UNKNOWN unknown}.
+     * 
+     * @param pmoClasses the classes of the presentation model objects with independent properties
+     */
+    static PropertyDependencies independent(@NonNull Class<?>... pmoClasses) {
+        Set<Class<?>> independentClasses = new HashSet<>(Arrays.asList(pmoClasses));
+        return (pmo, property) -> independentClasses.contains(pmo.getClass())
+                ? INDEPENDENT.getDependentProperties(pmo, property)
+                : UNKNOWN.getDependentProperties(pmo, property);
+    }
+
+    /**
+     * Returns {@link PropertyDependencies} that use these dependencies and ask the given
+     * {@link PropertyDependencies} if the dependencies are unknown.
+     * 
+     * @param other the {@link PropertyDependencies} used if this one does not know the dependencies
+     */
+    default PropertyDependencies orElse(PropertyDependencies other) {
+        requireNonNull(other, "other must not be null");
+        return (pmo, property) -> {
+            Optional<Set<String>> dependentProperties = getDependentProperties(pmo, property);
+            return dependentProperties.isPresent() ? dependentProperties
+                    : other.getDependentProperties(pmo, property);
+        };
+    }
+
+}
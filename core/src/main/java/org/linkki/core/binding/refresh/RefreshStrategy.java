@@ -0,0 +1,79 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.refresh;
+
+import static java.util.Objects.requireNonNull;
+
+import org.linkki.core.binding.BindingContext;
+
+/**
+ * Defines which bindings of a {@link BindingContext} are updated when the model changed.
+ * <p>
+ * The {@link #FULL} strategy updates all bindings on every change. The
+ * {@link #incremental(PropertyDependencies) incremental} strategy records the properties every binding
+ * reads while updating the UI as well as the properties that are written when a value is pushed to the
+ * model. After a change only those bindings that read a written property or one of its
+ * {@link PropertyDependencies dependent properties} are updated. If the dependencies of a written
+ * property are unknown, if a method was invoked (for example by a button) or if the update was not
+ * triggered by a pushed value at all, all bindings are updated.
+ */
+public final class RefreshStrategy {
+
+    /**
+     * Updates all bindings on every change. This is the default.
+     */
+    public static final RefreshStrategy FULL = new RefreshStrategy(false, PropertyDependencies.UNKNOWN);
+
+    private final boolean incremental;
+
+    private final PropertyDependencies dependencies;
+
+    private RefreshStrategy(boolean incremental, PropertyDependencies dependencies) {
+        this.incremental = incremental;
+        this.dependencies = requireNonNull(dependencies, "dependencies must not be null");
+    }
+
+    /**
+     * Creates a {@link RefreshStrategy} that only updates the bindings affected by a change, using the
+     * given {@link PropertyDependencies} to find the properties that may be changed by writing a
+     * property.
+     * 
+     * @param dependencies the dependencies between the properties of the presentation model objects
+     */
+    public static RefreshStrategy incremental(PropertyDependencies dependencies) {
+        return new RefreshStrategy(true, dependencies);
+    }
+
+    /**
+     * Returns whether only affected bindings are updated.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Returns the {@link PropertyDependencies} used to find the properties affected by a written
+     * property.
+     */
+    public PropertyDependencies getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshStrategy [" + (incremental ? "incremental" : "full") + "]";
+    }
+
+}
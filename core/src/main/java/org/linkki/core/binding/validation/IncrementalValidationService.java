@@ -0,0 +1,42 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.validation;
+
+import java.util.Set;
+
+import org.linkki.core.binding.validation.message.ObjectProperty;
+
+/**
+ * A {@link ValidationService} that is able to validate only the parts of the model that are affected by
+ * the properties changed in the UI.
+ * <p>
+ * The {@link org.linkki.core.binding.manager.BindingManager BindingManager} calls
+ * {@link #getValidationMessages()} for the first validation and whenever it does not know what was
+ * changed, for example after a button was clicked. After values were written by the bindings, it calls
+ * {@link #getValidationDelta(Set)} instead, merges the result into the retained messages and only
+ * displays the messages at the bindings that are affected by the delta.
+ */
+public interface IncrementalValidationService extends ValidationService {
+
+    /**
+     * Validates the parts of the model that are affected by the given changed properties.
+     * 
+     * @param changedProperties the properties that were written since the last validation. Each
+     *            {@link ObjectProperty} references the presentation model object of the binding and the
+     *            name of the written property.
+     * @return the messages for the validated objects
+     */
+    ValidationDelta getValidationDelta(Set<ObjectProperty> changedProperties);
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.validation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.ObjectProperty;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * The result of an {@link IncrementalValidationService#getValidationDelta(Set) incremental validation}.
+ * The messages of the validation replace all previous messages that are
+ * {@link Message#getInvalidObjectProperties() invalid for} any object in the scope of the delta. All
+ * other previous messages are retained.
+ */
+public final class ValidationDelta {
+
+    private static final ValidationDelta NONE = new ValidationDelta(Collections.emptySet(), new MessageList());
+
+    @CheckForNull
+    private final Set<Object> scope;
+
+    private final MessageList messages;
+
+    private ValidationDelta(@CheckForNull Set<Object> scope, MessageList messages) {
+        this.scope = scope;
+        this.messages = messages;
+    }
+
+    /**
+     * Creates a {@link ValidationDelta} that replaces the messages for the given objects with the given
+     * messages. The objects are compared by identity.
+     * 
+     * @param scope the validated objects
+     * @param messages the current messages for the validated objects
+     */
+    public static ValidationDelta of(Collection<?> scope, MessageList messages) {
+        requireNonNull(scope, "scope must not be null");
+        requireNonNull(messages, "messages must not be null");
+        Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+        objects.addAll(scope);
+        return new ValidationDelta(objects, messages);
+    }
+
+    /**
+     * Creates a {@link ValidationDelta} that replaces all previous messages with the given messages, for
+     * example if the changes affected the whole model.
+     */
+    public static ValidationDelta all(MessageList messages) {
+        return new ValidationDelta(null, requireNonNull(messages, "messages must not be null"));
+    }
+
+    /**
+     * Returns a {@link ValidationDelta} that does not change any messages.
+     */
+    public static ValidationDelta none() {
+        return NONE;
+    }
+
+    /**
+     * Returns whether this delta replaces all previous messages.
+     */
+    public boolean isAll() {
+        return scope == null;
+    }
+
+    /**
+     * Returns the current messages for the scope of this delta.
+     */
+    public MessageList getMessages() {
+        return messages;
+    }
+
+    /**
+     * Returns whether the given message is replaced by this delta.
+     */
+    public boolean isInScope(Message message) {
+        Set<Object> objects = scope;
+        if (objects == null) {
+            return true;
+        }
+        for (ObjectProperty objectProperty : message.getInvalidObjectProperties()) {
+            if (objects.contains(objectProperty.getObject())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the previous messages that are replaced by this delta.
+     */
+    public MessageList getReplacedMessages(MessageList previousMessages) {
+        return previousMessages.stream()
+                .filter(this::isInScope)
+                .collect(MessageList.collector());
+    }
+
+    /**
+     * Returns the previous messages that are not in the scope of this delta followed by the messages of
+     * this delta.
+     */
+    public MessageList applyTo(MessageList previousMessages) {
+        MessageList result = previousMessages.stream()
+                .filter(m -> !isInScope(m))
+                .collect(MessageList.collector());
+        result.add(messages);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationDelta [scope=" + (scope == null ? "all" : scope) + ", messages=" + messages + "]";
+    }
+
+}
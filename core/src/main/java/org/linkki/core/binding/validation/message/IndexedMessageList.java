@@ -0,0 +1,161 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.validation.message;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * An immutable {@link MessageList} that indexes its {@link Message messages} by the objects and
+ * properties they are {@link Message#getInvalidObjectProperties() invalid for} and by their
+ * {@link Message#getCode() code}.
+ * <p>
+ * {@link #getMessagesFor(Object, String, int)}, {@link #getMessageByCode(String)} and
+ * {@link #getMessagesByCode(String)} only look at the matching messages instead of all messages in the
+ * list. This is useful when the same list is queried by many bindings, as it is done by the
+ * {@link org.linkki.core.binding.manager.BindingManager} after every UI update.
+ * <p>
+ * All methods that would modify the list throw an {@link UnsupportedOperationException}.
+ */
+public class IndexedMessageList extends MessageList {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Map<Object, List<Integer>> positionsByObject;
+
+    private transient Map<ObjectProperty, List<Occurrence>> occurrencesByProperty;
+
+    private transient Map<String, List<Message>> messagesByCode;
+
+    private IndexedMessageList(List<Message> messages) {
+        super(Collections.unmodifiableList(messages));
+        buildIndex();
+    }
+
+    /**
+     * Creates an {@link IndexedMessageList} containing the {@link Message messages} of the given list.
+     * If the given list already is an {@link IndexedMessageList}, it is returned as is.
+     * 
+     * @param messageList the messages to index
+     * @return an {@link IndexedMessageList} with the same {@link Message messages} in the same order
+     */
+    public static IndexedMessageList of(MessageList messageList) {
+        Objects.requireNonNull(messageList, "messageList must not be null");
+        if (messageList instanceof IndexedMessageList) {
+            return (IndexedMessageList)messageList;
+        }
+        List<Message> messages = new ArrayList<>(messageList.size());
+        messageList.forEach(messages::add);
+        return new IndexedMessageList(messages);
+    }
+
+    private void buildIndex() {
+        positionsByObject = new HashMap<>();
+        occurrencesByProperty = new HashMap<>();
+        messagesByCode = new HashMap<>();
+        for (int position = 0; position < size(); position++) {
+            Message message = getMessage(position);
+            messagesByCode.computeIfAbsent(message.getCode(), code -> new ArrayList<>()).add(message);
+            for (ObjectProperty objectProperty : message.getInvalidObjectProperties()) {
+                addPosition(positionsByObject.computeIfAbsent(objectProperty.getObject(), o -> new ArrayList<>()),
+                            position);
+                String property = objectProperty.getProperty();
+                if (property != null) {
+                    occurrencesByProperty
+                            .computeIfAbsent(new ObjectProperty(objectProperty.getObject(), property),
+                                             op -> new ArrayList<>())
+                            .add(new Occurrence(position, objectProperty.getIndex()));
+                }
+            }
+        }
+    }
+
+    private static void addPosition(List<Integer> positions, int position) {
+        if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+            positions.add(position);
+        }
+    }
+
+    @Override
+    public Optional<Message> getMessageByCode(@CheckForNull String code) {
+        List<Message> messages = messagesByCode.get(code);
+        return messages == null ? Optional.empty() : Optional.of(messages.get(0));
+    }
+
+    @Override
+    public MessageList getMessagesByCode(@CheckForNull String code) {
+        List<Message> messages = messagesByCode.getOrDefault(code, Collections.emptyList());
+        return messages.stream().collect(collector());
+    }
+
+    @Override
+    public MessageList getMessagesFor(Object object, @CheckForNull String property, int index) {
+        Objects.requireNonNull(object, "object must not be null");
+
+        if (StringUtils.isBlank(property)) {
+            return toMessageList(positionsByObject.getOrDefault(object, Collections.emptyList()));
+        } else {
+            List<Occurrence> occurrences = occurrencesByProperty.get(new ObjectProperty(object, property));
+            if (occurrences == null) {
+                return new MessageList();
+            }
+            List<Integer> positions = new ArrayList<>(occurrences.size());
+            for (Occurrence occurrence : occurrences) {
+                if (index < 0 || occurrence.index == index) {
+                    addPosition(positions, occurrence.position);
+                }
+            }
+            return toMessageList(positions);
+        }
+    }
+
+    private MessageList toMessageList(List<Integer> positions) {
+        MessageList messageList = new MessageList();
+        positions.forEach(position -> messageList.add(getMessage(position)));
+        return messageList;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        buildIndex();
+    }
+
+    /**
+     * The position of a {@link Message} in the list that references a property with the given index.
+     */
+    private static final class Occurrence {
+
+        private final int position;
+
+        private final int index;
+
+        Occurrence(int position, int index) {
+            this.position = position;
+            this.index = index;
+        }
+
+    }
+
+}
@@ -59,6 +59,13 @@ public class MessageList implements Serializable, Iterable<Message> {
         }
     }
 
+    /**
+     * Creates a message list that uses the given list to hold its {@link Message messages}.
+     */
+    MessageList(List<Message> messages) {
+        this.messages = Objects.requireNonNull(messages, "messages must not be null");
+    }
+
     /**
      * Adds the given {@link Message} to this {@link MessageList list}.
      *
@@ -375,7 +382,7 @@ public class MessageList implements Serializable, Iterable<Message> {
         if (obj == null) {
             return false;
         }
-        if (getClass() != obj.getClass()) {
+        if (!(obj instanceof MessageList)) {
             return false;
         }
         MessageList other = (MessageList)obj;
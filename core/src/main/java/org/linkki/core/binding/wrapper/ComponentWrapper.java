@@ -24,6 +24,7 @@ import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.uicreation.UiCreator;
+import org.linkki.util.handler.Handler;
 
 /**
  * This interface provides the most common API for a component in linkki. Besides the actual UI
@@ -124,6 +125,32 @@ public interface ComponentWrapper extends Serializable {
         throw new NotImplementedException("Should be implemented when used with BindingContext");
     }
 
+    /**
+     * Removes the binding that was {@link #registerBinding(Binding) registered} at the component, so
+     * that the component can be bound again after its binding was removed from the
+     * {@link BindingContext}.
+     * 
+     * @implSpec The default implementation does not do anything.
+     */
+    default void unregisterBinding() {
+        // nothing to be done
+    }
+
+    /**
+     * Registers a handler that is called when the component is detached from the UI. Used by a
+     * {@link BindingContext} that {@link BindingContext#setRemoveBindingsOnDetach(boolean) removes
+     * bindings on detach}.
+     * 
+     * @implSpec The default implementation does not do anything, so the bindings of components that
+     *           cannot notify about detaching are only removed explicitly or when the component is
+     *           garbage collected.
+     * 
+     * @param detachHandler the handler to call when the component is detached
+     */
+    default void addDetachHandler(Handler detachHandler) {
+        // nothing to be done
+    }
+
     /**
      * Called by the binding after the component is updated.
      * 
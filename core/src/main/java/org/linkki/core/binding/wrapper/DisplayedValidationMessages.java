@@ -0,0 +1,87 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.wrapper;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.linkki.core.binding.validation.message.MessageList;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Remembers the {@link MessageList messages} a {@link ComponentWrapper} last displayed at its
+ * component, so that {@link ComponentWrapper#setValidationMessages(MessageList)} does not need to
+ * touch the component if the messages did not change.
+ * <p>
+ * Besides the messages, the object that was set at the component to display them (for example an
+ * error message object) is remembered. If the component displays another object, the messages were
+ * changed by someone else and have to be displayed again.
+ * <p>
+ * The number of updates that were skipped by all instances is available via
+ * {@link #getSuppressedUpdateCount()}.
+ */
+public class DisplayedValidationMessages implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final LongAdder SUPPRESSED_UPDATES = new LongAdder();
+
+    @CheckForNull
+    private MessageList messages;
+
+    @CheckForNull
+    private transient Object displayedObject;
+
+    /**
+     * Returns whether the given messages are the same as those that were last
+     * {@link #displayed(MessageList, Object) displayed} and the component still displays the same
+     * object. In this case, the update is counted as suppressed.
+     * 
+     * @param messagesForProperty the messages that should be displayed
+     * @param currentlyDisplayedObject the object currently displayed at the component, may be
+     *            {@code null} if no messages are displayed
+     * @return {@code true} if the component does not need to be updated
+     */
+    public boolean isDisplayed(MessageList messagesForProperty, @CheckForNull Object currentlyDisplayedObject) {
+        if (messages != null && displayedObject == currentlyDisplayedObject && messages.equals(messagesForProperty)) {
+            SUPPRESSED_UPDATES.increment();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Remembers that the given messages are now displayed at the component using the given object.
+     * 
+     * @param messagesForProperty the messages that are displayed
+     * @param newlyDisplayedObject the object set at the component to display the messages, may be
+     *            {@code null} if no messages are displayed
+     */
+    public void displayed(MessageList messagesForProperty, @CheckForNull Object newlyDisplayedObject) {
+        MessageList copy = new MessageList();
+        copy.add(messagesForProperty);
+        this.messages = copy;
+        this.displayedObject = newlyDisplayedObject;
+    }
+
+    /**
+     * Returns the number of updates that were suppressed because the messages did not change.
+     */
+    public static long getSuppressedUpdateCount() {
+        return SUPPRESSED_UPDATES.sum();
+    }
+
+}
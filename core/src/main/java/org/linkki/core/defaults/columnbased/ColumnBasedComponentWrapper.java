@@ -19,6 +19,7 @@ import java.util.Optional;
 
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.WrapperType;
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
 import org.linkki.core.defaults.columnbased.pmo.TableFooterPmo;
 
 /**
@@ -53,4 +54,14 @@ public interface ColumnBasedComponentWrapper<ROW> extends ComponentWrapper {
      * Sets the items displayed in the component.
      */
     void setItems(List<ROW> actualItems);
+
+    /**
+     * Sets the {@link PagedContainerPmo} that provides the items displayed in the component. The
+     * component should only load the items it displays and update them if they changed.
+     * 
+     * @implNote The default implementation loads all items and {@link #setItems(List) sets} them.
+     */
+    default void setPagedItems(PagedContainerPmo<ROW> pagedContainerPmo) {
+        setItems(pagedContainerPmo.getItems());
+    }
 }
\ No newline at end of file
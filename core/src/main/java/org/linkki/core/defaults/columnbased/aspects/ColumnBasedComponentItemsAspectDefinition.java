@@ -17,7 +17,11 @@ package org.linkki.core.defaults.columnbased.aspects;
 import java.util.List;
 
 import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.defaults.columnbased.ColumnBasedComponentWrapper;
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
+import org.linkki.util.handler.Handler;
 
 /**
  * Binds items displayed in a column based UI component to a {@link List} of row presentation model
@@ -32,4 +36,28 @@ public class ColumnBasedComponentItemsAspectDefinition<ROW, WRAPPER extends Colu
         super(NAME, WRAPPER::setItems);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the bound object is a {@link PagedContainerPmo}, the items are not pulled. Instead, the
+     * container PMO is {@link ColumnBasedComponentWrapper#setPagedItems(PagedContainerPmo) passed to
+     * the component}, which loads only the items it displays. The container PMO is still passed
+     * through the {@link PropertyDispatcher} as the static value of the {@value #NAME} aspect, so that
+     * the read of the items is recorded like for any other container.
+     */
+    @Override
+    public Handler createUiUpdater(PropertyDispatcher propertyDispatcher, ComponentWrapper componentWrapper) {
+        Object boundObject = propertyDispatcher.getBoundObject();
+        if (boundObject instanceof PagedContainerPmo) {
+            @SuppressWarnings("unchecked")
+            PagedContainerPmo<ROW> pagedContainerPmo = (PagedContainerPmo<ROW>)boundObject;
+            @SuppressWarnings("unchecked")
+            WRAPPER wrapper = (WRAPPER)componentWrapper;
+            Aspect<PagedContainerPmo<ROW>> pagedItemsAspect = Aspect.of(NAME, pagedContainerPmo);
+            return () -> wrapper.setPagedItems(propertyDispatcher.pull(pagedItemsAspect));
+        } else {
+            return super.createUiUpdater(propertyDispatcher, componentWrapper);
+        }
+    }
+
 }
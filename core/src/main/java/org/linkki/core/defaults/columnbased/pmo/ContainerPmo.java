@@ -112,6 +112,23 @@ public interface ContainerPmo<ROW> {
         return DEFAULT_PAGE_LENGTH;
     }
 
+    /**
+     * Returns whether only the rows that are currently visible should be bound.
+     * <p>
+     * In a virtualized container, the UI only creates components and bindings for the rows in the
+     * visible page range and a small buffer around it. The bindings of rows that are scrolled out of
+     * this range are removed, so the number of bindings depends on the {@link #getPageLength() page
+     * length} instead of the number of {@link #getItems() items}.
+     * 
+     * @implNote The default implementation returns {@code false}, creating and keeping the bindings for
+     *           all rows the UI framework renders.
+     * 
+     * @return whether only the visible rows should be bound
+     */
+    default boolean isVirtualized() {
+        return false;
+    }
+
     /**
      * Returns whether the data contained in this container is hierarchical.
      * 
@@ -15,6 +15,7 @@
 package org.linkki.core.defaults.columnbased.pmo;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * Marks a row PMO used in a {@link ContainerPmo} as hierarchical. This may lead to a UI that
@@ -53,4 +54,20 @@ public interface HierarchicalRowPmo<R> {
         return !getChildRows().isEmpty();
     }
 
+    /**
+     * Returns a version stamp of the subtree below this row PMO. A table only compares the child rows
+     * of this row and its descendants if the version changed since the last update. Large trees can use
+     * this to skip unchanged subtrees when the table is updated.
+     * 
+     * @implSpec the version must change whenever {@link #getChildRows()} of this row or of any of its
+     *           descendants would return different rows. Otherwise changes in the subtree are not
+     *           displayed.
+     * @implNote the default implementation returns {@link OptionalLong#empty()}, which means that the
+     *           subtree is compared on every update.
+     * @return the version of this row's subtree or {@link OptionalLong#empty()} if it is not versioned
+     */
+    default OptionalLong getSubtreeVersion() {
+        return OptionalLong.empty();
+    }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.defaults.columnbased.pmo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link ContainerPmo} whose items are loaded on demand. Instead of providing all items at once, it
+ * provides the {@link #getItemCount() number of items} and {@link #getItems(int, int) ranges of
+ * items}. UI components that support it only load the items they currently display, so the items do
+ * not need to be held in memory all at once.
+ * <p>
+ * Sorting can be delegated to the data source by returning the {@link #getSortableProperties()
+ * sortable properties} and implementing {@link #sortBy(String, boolean)}. Filtering is up to the
+ * implementation, which should apply its current filter in {@link #getItemCount()} and
+ * {@link #getItems(int, int)}.
+ * <p>
+ * Paged containers are never {@link #isHierarchical() hierarchical}.
+ * <p>
+ * UI components only know the items of the pages they have loaded. Operations that look up an
+ * arbitrary item, for example selecting an item or scrolling to it, only find items on a loaded page
+ * and treat all other items as not contained.
+ * 
+ * @param <ROW> a PMO class annotated with linkki annotations for fields and/or table columns
+ * 
+ * @implSpec Like {@link ContainerPmo#getItems()}, {@link #getItems(int, int)} must return identical
+ *           row PMOs for the same range as long as the rows have not changed.
+ */
+public interface PagedContainerPmo<ROW> extends ContainerPmo<ROW> {
+
+    /**
+     * Returns the total number of items in the container.
+     */
+    int getItemCount();
+
+    /**
+     * Returns the items in the given range. The returned list may contain less than {@code limit}
+     * items if the end of the container is reached.
+     * 
+     * @param offset the index of the first item to return
+     * @param limit the maximum number of items to return
+     * @return the items starting at {@code offset}
+     */
+    List<ROW> getItems(int offset, int limit);
+
+    /**
+     * Returns all items by querying the {@link #getItems(int, int) range} containing all items.
+     * 
+     * @implNote This method is only used by UI components that do not support loading ranges of items.
+     */
+    @Override
+    default List<ROW> getItems() {
+        return getItems(0, getItemCount());
+    }
+
+    /**
+     * Returns the names of the properties the items can be {@link #sortBy(String, boolean) sorted by}.
+     * 
+     * @implNote The default implementation returns an empty set, so the items cannot be sorted.
+     */
+    default Set<String> getSortableProperties() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Sorts the items by the given property. Subsequent calls to {@link #getItems(int, int)} must
+     * return the items in the new order.
+     * 
+     * @param property one of the {@link #getSortableProperties() sortable properties}
+     * @param ascending whether the items should be sorted in ascending order
+     * 
+     * @throws UnsupportedOperationException if the property is not sortable
+     */
+    default void sortBy(String property, boolean ascending) {
+        throw new UnsupportedOperationException(
+                getClass().getName() + " does not support sorting by " + property);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Paged containers are never hierarchical.
+     */
+    @Override
+    default boolean isHierarchical() {
+        return false;
+    }
+
+}
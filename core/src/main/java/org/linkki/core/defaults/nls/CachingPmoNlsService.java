@@ -0,0 +1,238 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.defaults.nls;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.linkki.core.nls.NlsService;
+import org.linkki.core.nls.PmoBundleNameGenerator;
+import org.linkki.core.nls.PmoNlsService;
+import org.linkki.core.uiframework.UiFramework;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * PMO NLS service that works like the {@link DefaultPmoNlsService} but remembers every text it looked
+ * up, identified by the PMO class, property, aspect and {@link Locale}. Missing texts are remembered as
+ * well, so the fallback value is returned without querying the {@link NlsService} again.
+ * <p>
+ * The cache holds at most {@link #getMaxSize() maxSize} entries. When the limit is reached, the cache
+ * is cleared before the next text is added. If resource bundles are reloaded at runtime, call
+ * {@link #invalidate()} or {@link #invalidate(Class)} so that the changed texts are read again.
+ * <p>
+ * This is the {@link PmoNlsService} returned by {@link PmoNlsService#get()}.
+ */
+public class CachingPmoNlsService implements PmoNlsService {
+
+    /**
+     * The default maximum number of texts held in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private static final CachingPmoNlsService INSTANCE = new CachingPmoNlsService();
+
+    private final PmoBundleNameGenerator bundleNameGenerator;
+
+    private final NlsService nlsService;
+
+    private final int maxSize;
+
+    private final Map<CacheKey, Optional<String>> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a {@link CachingPmoNlsService} using the "linkki-messages" appended to the given pmo
+     * classes' package name as the bundle name and the {@link NlsService#get() default NlsService}.
+     */
+    public CachingPmoNlsService() {
+        this(DefaultPmoNlsService::getBundleName, NlsService.get(), DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a {@link CachingPmoNlsService} using the given {@link PmoBundleNameGenerator} to derive
+     * the bundle names from pmo classes and the given {@link NlsService} to look up the texts.
+     * 
+     * @param bundleNameGenerator derives the bundle names from pmo classes
+     * @param nlsService the service used to look up texts that are not cached yet
+     * @param maxSize the maximum number of texts held in the cache, must be positive
+     */
+    public CachingPmoNlsService(PmoBundleNameGenerator bundleNameGenerator, NlsService nlsService, int maxSize) {
+        this.bundleNameGenerator = requireNonNull(bundleNameGenerator, "bundleNameGenerator must not be null");
+        this.nlsService = requireNonNull(nlsService, "nlsService must not be null");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the shared {@link CachingPmoNlsService} used by {@link PmoNlsService#get()}.
+     */
+    public static CachingPmoNlsService getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String getSectionCaption(Class<?> pmoClass, String fallbackValue) {
+        return getCachedLabel(pmoClass, null, CAPTION_KEY, fallbackValue);
+    }
+
+    @Override
+    public String getLabel(Class<?> pmoClass, String propertyName, String aspectName, String fallbackValue) {
+        return getCachedLabel(pmoClass, requireNonNull(propertyName, "propertyName must not be null"), aspectName,
+                              fallbackValue);
+    }
+
+    /**
+     * Returns the cached text for the given key parts, looking it up if it is not cached yet.
+     * 
+     * @param propertyName the name of the property or {@code null} for a section caption
+     */
+    private String getCachedLabel(Class<?> pmoClass,
+            @CheckForNull String propertyName,
+            String aspectName,
+            String fallbackValue) {
+        requireNonNull(pmoClass, "pmoClass must not be null");
+        requireNonNull(aspectName, "aspectName must not be null");
+        requireNonNull(fallbackValue, "fallbackValue must not be null");
+        CacheKey key = new CacheKey(pmoClass, propertyName, aspectName, UiFramework.getLocale());
+        Optional<String> label = cache.get(key);
+        if (label != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            label = lookUp(key);
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+            cache.put(key, label);
+        }
+        return label.orElse(fallbackValue);
+    }
+
+    private Optional<String> lookUp(CacheKey key) {
+        String resourceKey = key.propertyName == null
+                ? PmoNlsService.getSectionCaptionKey(key.pmoClass)
+                : PmoNlsService.getPropertyKey(key.pmoClass, key.propertyName, key.aspectName);
+        return nlsService.getString(bundleNameGenerator.getBundleName(key.pmoClass), resourceKey, key.locale);
+    }
+
+    /**
+     * Removes all texts from the cache.
+     */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    /**
+     * Removes all texts of the given PMO class from the cache.
+     * 
+     * @param pmoClass the PMO class whose texts should be read again
+     */
+    public void invalidate(Class<?> pmoClass) {
+        requireNonNull(pmoClass, "pmoClass must not be null");
+        cache.keySet().removeIf(key -> key.pmoClass == pmoClass);
+    }
+
+    /**
+     * Returns the number of texts that were found in the cache.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of texts that were not found in the cache and had to be looked up.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of texts currently held in the cache.
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the maximum number of texts held in the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + getSize() + ", hits=" + getHitCount() + ", misses="
+                + getMissCount() + "]";
+    }
+
+    private static final class CacheKey {
+
+        private final Class<?> pmoClass;
+
+        @CheckForNull
+        private final String propertyName;
+
+        private final String aspectName;
+
+        private final Locale locale;
+
+        private final int hashCode;
+
+        CacheKey(Class<?> pmoClass, @CheckForNull String propertyName, String aspectName, Locale locale) {
+            this.pmoClass = pmoClass;
+            this.propertyName = propertyName;
+            this.aspectName = aspectName;
+            this.locale = requireNonNull(locale, "locale must not be null");
+            int result = pmoClass.hashCode();
+            result = 31 * result + (propertyName == null ? 0 : propertyName.hashCode());
+            result = 31 * result + aspectName.hashCode();
+            result = 31 * result + locale.hashCode();
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(@CheckForNull Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey)obj;
+            return pmoClass == other.pmoClass
+                    && aspectName.equals(other.aspectName)
+                    && (propertyName == null ? other.propertyName == null : propertyName.equals(other.propertyName))
+                    && locale.equals(other.locale);
+        }
+
+    }
+
+}
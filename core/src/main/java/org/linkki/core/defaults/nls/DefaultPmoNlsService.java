@@ -67,7 +67,7 @@ public class DefaultPmoNlsService implements PmoNlsService {
                            UiFramework.getLocale());
     }
 
-    private static String getBundleName(Class<?> pmoClass) {
+    static String getBundleName(Class<?> pmoClass) {
         return pmoClass.getPackage().getName() + '.' + DEFAULT_PMO_BUNDLE_NAME;
     }
 
@@ -43,6 +43,14 @@ public class TooltipAspectDefinition extends ModelToUiAspectDefinition<String> {
         }
     }
 
+    /**
+     * Returns <code>true</code> because the tooltip is only set by this aspect.
+     */
+    @Override
+    protected boolean isSkipUnchangedValues() {
+        return true;
+    }
+
     @Override
     public Consumer<String> createComponentValueSetter(ComponentWrapper componentWrapper) {
         return componentWrapper::setTooltip;
@@ -18,33 +18,51 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.linkki.util.LazyInitializingMap;
+
 /**
  * Provides default methods to convert a value class to a list of available values for different data
  * types.
+ * <p>
+ * The returned lists are immutable and shared, as the values of a data type never change.
  */
 public class AvailableValuesProvider {
 
+    private static final List<Boolean> BOOLEAN_WRAPPER_VALUES = Collections
+            .unmodifiableList(Arrays.asList(null, Boolean.TRUE, Boolean.FALSE));
+
+    private static final List<Object> BOOLEAN_PRIMITIVE_VALUES = Collections
+            .unmodifiableList(Arrays.asList(true, false));
+
+    private static final LazyInitializingMap<Class<?>, List<?>> ENUM_VALUES = new LazyInitializingMap<>(
+            valueClass -> createEnumValues(valueClass, false));
+
+    private static final LazyInitializingMap<Class<?>, List<?>> ENUM_VALUES_INCL_NULL = new LazyInitializingMap<>(
+            valueClass -> createEnumValues(valueClass, true));
+
     private AvailableValuesProvider() {
         // prevents calls
     }
 
+    @SuppressWarnings("unchecked")
     public static <T extends Enum<T>> List<T> enumToValues(Class<T> valueClass, boolean inclNull) {
-        List<T> values = Arrays.asList(valueClass.getEnumConstants());
+        return (List<T>)(inclNull ? ENUM_VALUES_INCL_NULL : ENUM_VALUES).get(valueClass);
+    }
+
+    private static List<?> createEnumValues(Class<?> valueClass, boolean inclNull) {
+        List<Object> values = new ArrayList<>();
         if (inclNull) {
-            ArrayList<T> result = new ArrayList<>();
-            result.add(null);
-            result.addAll(values);
-            return Collections.unmodifiableList(result);
-        } else {
-            return values;
+            values.add(null);
         }
+        values.addAll(Arrays.asList(valueClass.getEnumConstants()));
+        return Collections.unmodifiableList(values);
     }
 
     public static List<Boolean> booleanWrapperToValues() {
-        return Arrays.asList(null, Boolean.TRUE, Boolean.FALSE);
+        return BOOLEAN_WRAPPER_VALUES;
     }
 
     public static List<Object> booleanPrimitiveToValues() {
-        return Arrays.asList(true, false);
+        return BOOLEAN_PRIMITIVE_VALUES;
     }
-}
\ No newline at end of file
+}
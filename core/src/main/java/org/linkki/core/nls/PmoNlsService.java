@@ -13,13 +13,16 @@
  */
 package org.linkki.core.nls;
 
+import org.linkki.core.defaults.nls.CachingPmoNlsService;
 import org.linkki.core.defaults.nls.DefaultPmoNlsService;
 
 /**
  * Service for Native Language Support for presentation model objects.
  * <p>
  * If you want to implement your own service, {@link PmoNlsService#get()} uses CDI to load the
- * implementation, so you might want to replace the {@link DefaultPmoNlsService}.
+ * implementation, so you might want to replace the {@link DefaultPmoNlsService}. By default, the shared
+ * {@link CachingPmoNlsService} is used, which caches the texts looked up like the
+ * {@link DefaultPmoNlsService}.
  */
 public interface PmoNlsService {
     static final String CAPTION_KEY = "caption";
@@ -40,7 +43,7 @@ public interface PmoNlsService {
      * @return the {@link PmoNlsService} implementation for the current context.
      */
     public static PmoNlsService get() {
-        return new DefaultPmoNlsService();
+        return CachingPmoNlsService.getInstance();
     }
 
     public static String getPropertyKey(Class<?> pmoClass, String propertyName, String aspectName) {
@@ -28,7 +28,6 @@ import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessor;
 import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessorCache;
 import org.linkki.core.binding.uicreation.LinkkiComponent;
 import org.linkki.core.binding.uicreation.LinkkiComponentDefinition;
-import org.linkki.util.BeanUtils;
 import org.linkki.util.Classes;
 import org.linkki.util.MetaAnnotation;
 
@@ -83,11 +82,11 @@ public final class ComponentAnnotationReader {
      * @return a sorted stream of methods with a component definition
      * 
      * @see #isComponentDefinitionPresent(AnnotatedElement)
-     * @see PositionAnnotationReader#comparingUniquePositions(Class)
+     * @see PositionAnnotationReader#sortByUniquePositions(Stream, Class)
+     * @see PmoMetadata#getComponentDefinitionMethods()
      */
     public static Stream<Method> getComponentDefinitionMethods(Class<?> pmoClass) {
-        return BeanUtils.getMethods(pmoClass, ComponentAnnotationReader::isComponentDefinitionPresent)
-                .sorted(PositionAnnotationReader.comparingUniquePositions(pmoClass));
+        return PmoMetadata.forClass(pmoClass).getComponentDefinitionMethods().stream();
     }
 
     /**
@@ -0,0 +1,281 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.uicreation;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.collectingAndThen;
+import static org.linkki.util.LazyCachingSupplier.lazyCaching;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
+import org.linkki.core.binding.descriptor.aspect.annotation.AspectAnnotationReader;
+import org.linkki.core.binding.descriptor.property.BoundProperty;
+import org.linkki.core.binding.descriptor.property.annotation.BoundPropertyAnnotationReader;
+import org.linkki.core.binding.uicreation.LinkkiComponent;
+import org.linkki.core.binding.uicreation.LinkkiComponentDefinition;
+import org.linkki.core.uicreation.layout.LayoutAnnotationReader;
+import org.linkki.core.uicreation.layout.LinkkiLayoutDefinition;
+import org.linkki.util.BeanUtils;
+import org.linkki.util.LazyInitializingMap;
+import org.linkki.util.MetaAnnotation;
+
+/**
+ * The binding metadata of a presentation model class as read from its annotations: the methods that
+ * define UI elements ordered by their position, their component and layout definitions, bound
+ * properties and aspect definitions as well as the bound property and aspect definitions of the class
+ * itself.
+ * <p>
+ * The metadata only depends on the class, so it is read once per class and shared by all PMO instances
+ * and sessions. It is immutable and thread-safe. Use {@link #warmUp(Collection)} to read the metadata of
+ * known PMO classes at application start.
+ */
+public final class PmoMetadata {
+
+    private static final LazyInitializingMap<Class<?>, PmoMetadata> CLASS_METADATA = new LazyInitializingMap<>(
+            PmoMetadata::new);
+
+    private static final LazyInitializingMap<Method, ElementMetadata> METHOD_METADATA = new LazyInitializingMap<>(
+            ElementMetadata::new);
+
+    private static final MetaAnnotation<LinkkiComponent> LINKKI_COMPONENT_ANNOTATION = MetaAnnotation
+            .of(LinkkiComponent.class);
+
+    private final Class<?> pmoClass;
+
+    private final Supplier<List<Method>> componentDefinitionMethods;
+
+    private final Supplier<List<LinkkiAspectDefinition>> aspectDefinitions;
+
+    private final Supplier<BoundProperty> boundProperty;
+
+    private PmoMetadata(Class<?> pmoClass) {
+        this.pmoClass = requireNonNull(pmoClass, "pmoClass must not be null");
+        this.componentDefinitionMethods = lazyCaching(() -> Collections.unmodifiableList(PositionAnnotationReader
+                .sortByUniquePositions(BeanUtils.getMethods(pmoClass,
+                                                            ComponentAnnotationReader::isComponentDefinitionPresent),
+                                       pmoClass)));
+        this.aspectDefinitions = lazyCaching(() -> Collections
+                .unmodifiableList(AspectAnnotationReader.createAspectDefinitionsFor(pmoClass)));
+        this.boundProperty = lazyCaching(() -> BoundPropertyAnnotationReader.findBoundProperty(pmoClass)
+                .orElseGet(BoundProperty::empty));
+    }
+
+    /**
+     * Returns the metadata of the given PMO class.
+     */
+    public static PmoMetadata forClass(Class<?> pmoClass) {
+        return CLASS_METADATA.get(requireNonNull(pmoClass, "pmoClass must not be null"));
+    }
+
+    /**
+     * Returns the metadata of the given method that defines a UI element.
+     * 
+     * @see ComponentAnnotationReader#isComponentDefinitionPresent(java.lang.reflect.AnnotatedElement)
+     */
+    public static ElementMetadata forMethod(Method method) {
+        return METHOD_METADATA.get(requireNonNull(method, "method must not be null"));
+    }
+
+    /**
+     * Reads the metadata of the given PMO classes and all their UI elements, so that creating the first
+     * UI for these classes does not have to.
+     * 
+     * @throws RuntimeException if the annotations of a class are invalid, like a UI element in the
+     *             PMO would when its UI is created
+     */
+    public static void warmUp(Collection<Class<?>> pmoClasses) {
+        pmoClasses.forEach(PmoMetadata::warmUp);
+    }
+
+    private static void warmUp(Class<?> pmoClass) {
+        PmoMetadata pmoMetadata = forClass(pmoClass);
+        pmoMetadata.getAspectDefinitions();
+        pmoMetadata.getBoundProperty();
+        pmoMetadata.getComponentDefinitionMethods().stream()
+                .map(PmoMetadata::forMethod)
+                .forEach(element -> {
+                    element.getComponentDefinitionAnnotations();
+                    element.getLayoutDefinition();
+                });
+    }
+
+    /**
+     * Returns the PMO class this metadata describes.
+     */
+    public Class<?> getPmoClass() {
+        return pmoClass;
+    }
+
+    /**
+     * Returns all methods of the PMO class with a component definition, sorted by their
+     * {@link LinkkiPositioned position}.
+     * 
+     * @throws IllegalStateException if two methods have the same position
+     * 
+     * @see ComponentAnnotationReader#getComponentDefinitionMethods(Class)
+     */
+    public List<Method> getComponentDefinitionMethods() {
+        return componentDefinitionMethods.get();
+    }
+
+    /**
+     * Returns the aspect definitions of the annotations on the PMO class.
+     * 
+     * @see AspectAnnotationReader#createAspectDefinitionsFor(java.lang.reflect.AnnotatedElement)
+     */
+    public List<LinkkiAspectDefinition> getAspectDefinitions() {
+        return aspectDefinitions.get();
+    }
+
+    /**
+     * Returns the bound property of the PMO class or an {@link BoundProperty#empty() empty} bound
+     * property if the class defines none.
+     */
+    public BoundProperty getBoundProperty() {
+        return boundProperty.get();
+    }
+
+    @Override
+    public String toString() {
+        return "PmoMetadata [pmoClass=" + pmoClass.getName() + "]";
+    }
+
+    /**
+     * The metadata of a method that defines a UI element.
+     */
+    public static final class ElementMetadata {
+
+        private final Method method;
+
+        private final Supplier<Map<Annotation, ComponentMetadata>> componentDefinitions;
+
+        private final Supplier<Optional<LinkkiLayoutDefinition>> layoutDefinition;
+
+        private ElementMetadata(Method method) {
+            this.method = method;
+            this.componentDefinitions = lazyCaching(this::readComponentDefinitions);
+            this.layoutDefinition = lazyCaching(() -> LayoutAnnotationReader.findLayoutDefinition(method));
+        }
+
+        private Map<Annotation, ComponentMetadata> readComponentDefinitions() {
+            return LINKKI_COMPONENT_ANNOTATION.findAnnotatedAnnotationsOn(method)
+                    .collect(collectingAndThen(Collectors.toMap(a -> a, a -> new ComponentMetadata(a, method),
+                                                                (a, b) -> a, LinkedHashMap::new),
+                                               Collections::unmodifiableMap));
+        }
+
+        /**
+         * Returns the method this metadata describes.
+         */
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         * Returns all annotations on the method that define a {@link LinkkiComponentDefinition}.
+         */
+        public Collection<Annotation> getComponentDefinitionAnnotations() {
+            return componentDefinitions.get().keySet();
+        }
+
+        /**
+         * Returns the annotation that defines the component for the given PMO. If there is more than one
+         * such annotation, the PMO selects one as described in
+         * {@link ComponentAnnotationReader#getComponentDefinitionAnnotation(java.lang.reflect.AnnotatedElement, Object)}.
+         */
+        public Annotation getComponentDefinitionAnnotation(Object pmo) {
+            Collection<Annotation> annotations = getComponentDefinitionAnnotations();
+            if (annotations.size() == 1) {
+                return annotations.iterator().next();
+            } else {
+                return ComponentAnnotationReader.getComponentDefinitionAnnotation(method, pmo);
+            }
+        }
+
+        /**
+         * Returns the metadata of the component defined by the given annotation.
+         * 
+         * @throws IllegalArgumentException if the annotation is not one of the
+         *             {@link #getComponentDefinitionAnnotations() component definition annotations}
+         */
+        public ComponentMetadata getComponent(Annotation componentDefinitionAnnotation) {
+            ComponentMetadata component = componentDefinitions.get().get(componentDefinitionAnnotation);
+            if (component == null) {
+                throw new IllegalArgumentException(
+                        "There is no component definition annotation " + componentDefinitionAnnotation + " on "
+                                + method);
+            }
+            return component;
+        }
+
+        /**
+         * Returns the layout definition of the method if it defines one.
+         */
+        public Optional<LinkkiLayoutDefinition> getLayoutDefinition() {
+            return layoutDefinition.get();
+        }
+
+        @Override
+        public String toString() {
+            return "ElementMetadata [method=" + method + "]";
+        }
+
+    }
+
+    /**
+     * The component, bound property and aspects defined by one component definition annotation of a
+     * method.
+     */
+    public static final class ComponentMetadata {
+
+        private final LinkkiComponentDefinition componentDefinition;
+
+        private final BoundProperty boundProperty;
+
+        private final List<LinkkiAspectDefinition> aspectDefinitions;
+
+        private ComponentMetadata(Annotation componentDefinitionAnnotation, Method method) {
+            this.componentDefinition = ComponentAnnotationReader
+                    .getComponentDefinition(componentDefinitionAnnotation, method);
+            this.boundProperty = BoundPropertyAnnotationReader.getBoundProperty(componentDefinitionAnnotation,
+                                                                                method);
+            this.aspectDefinitions = Collections.unmodifiableList(AspectAnnotationReader
+                    .createAspectDefinitionsFor(componentDefinitionAnnotation, method));
+        }
+
+        public LinkkiComponentDefinition getComponentDefinition() {
+            return componentDefinition;
+        }
+
+        public BoundProperty getBoundProperty() {
+            return boundProperty;
+        }
+
+        public List<LinkkiAspectDefinition> getAspectDefinitions() {
+            return aspectDefinitions;
+        }
+
+    }
+
+}
@@ -18,14 +18,23 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.linkki.core.binding.descriptor.bindingdefinition.BindingDefinition;
 import org.linkki.core.binding.descriptor.property.annotation.BoundPropertyAnnotationReader;
 import org.linkki.core.uicreation.LinkkiPositioned.Position;
 import org.linkki.util.BeanUtils;
+import org.linkki.util.LazyInitializingMap;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Reads the position from an annotated element.
@@ -35,6 +44,14 @@ import org.linkki.util.BeanUtils;
  */
 public class PositionAnnotationReader {
 
+    /**
+     * The function reading the position of an annotation, per annotation type. Annotation types
+     * without a valid {@link Position @Position} property map to a function that throws an
+     * {@link IllegalArgumentException}.
+     */
+    private static final LazyInitializingMap<Class<? extends Annotation>, ToIntFunction<Annotation>> POSITION_ACCESSORS = new LazyInitializingMap<>(
+            PositionAnnotationReader::createPositionAccessor);
+
     private PositionAnnotationReader() {
         // do not instantiate utility class
     }
@@ -52,11 +69,15 @@ public class PositionAnnotationReader {
      * @throws ClassCastException if the position property is not of type {@link Integer#TYPE int}
      */
     public static int getPosition(AnnotatedElement element) {
-        return Arrays.stream(element.getAnnotations())
-                .filter(a -> a.annotationType().isAnnotationPresent(LinkkiPositioned.class))
-                .map(PositionAnnotationReader::getPosition)
-                .reduce((a, b) -> verifySamePosition(element, a, b))
-                .orElseGet(() -> getDeprecatedPosition(element));
+        Annotation[] annotations = element.getAnnotations();
+        @CheckForNull
+        Integer position = null;
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(LinkkiPositioned.class)) {
+                position = verifySamePosition(element, position, getPosition(annotation));
+            }
+        }
+        return position != null ? position : getDeprecatedPosition(element, annotations);
     }
 
     /**
@@ -73,18 +94,28 @@ public class PositionAnnotationReader {
      * @throws ClassCastException if the position property is not of type {@link Integer#TYPE int}
      */
     public static int getPosition(Annotation annotation) {
-        return BeanUtils
-                .getMethods(annotation.annotationType(), m -> m.isAnnotationPresent(LinkkiPositioned.Position.class))
-                .map(m -> getPosition(m, annotation))
-                .map(Integer.class::cast)
-                .reduce(($1, $2) -> {
-                    throw new IllegalArgumentException("The annotation " + annotation.annotationType().getName()
-                            + " defines more than one property that is annotated with @"
-                            + Position.class.getSimpleName() + ".");
-                })
-                .orElseThrow(() -> new IllegalArgumentException("The annotation "
-                        + annotation.annotationType().getName()
-                        + " defines no property that is annotated with @" + Position.class.getSimpleName() + "."));
+        return POSITION_ACCESSORS.get(annotation.annotationType()).applyAsInt(annotation);
+    }
+
+    private static ToIntFunction<Annotation> createPositionAccessor(Class<? extends Annotation> annotationType) {
+        List<Method> positionMethods = BeanUtils
+                .getMethods(annotationType, m -> m.isAnnotationPresent(LinkkiPositioned.Position.class))
+                .collect(Collectors.toList());
+        if (positionMethods.size() > 1) {
+            return a -> {
+                throw new IllegalArgumentException("The annotation " + annotationType.getName()
+                        + " defines more than one property that is annotated with @"
+                        + Position.class.getSimpleName() + ".");
+            };
+        } else if (positionMethods.isEmpty()) {
+            return a -> {
+                throw new IllegalArgumentException("The annotation " + annotationType.getName()
+                        + " defines no property that is annotated with @" + Position.class.getSimpleName() + ".");
+            };
+        } else {
+            Method positionMethod = positionMethods.get(0);
+            return a -> (Integer)getPosition(positionMethod, a);
+        }
     }
 
     private static Object getPosition(Method m, Annotation posAnnotation) {
@@ -97,22 +128,28 @@ public class PositionAnnotationReader {
         }
     }
 
-    private static Integer verifySamePosition(AnnotatedElement element, Integer a, Integer b) {
-        if (!a.equals(b)) {
+    private static Integer verifySamePosition(AnnotatedElement element, @CheckForNull Integer a, Integer b) {
+        if (a != null && !a.equals(b)) {
             throw new IllegalArgumentException(
                     "Multiple annotations of " + element + " do not define the same position.");
         } else {
-            return a;
+            return b;
         }
     }
 
-    private static Integer getDeprecatedPosition(AnnotatedElement element) {
-        return Arrays.stream(element.getAnnotations())
-                .filter(BindingDefinition::isLinkkiBindingDefinition)
-                .map(a -> getDeprecatedPosition(a))
-                .reduce((a, b) -> verifySamePosition(element, a, b))
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "There is no annotation at " + element + " that defines the position."));
+    private static Integer getDeprecatedPosition(AnnotatedElement element, Annotation[] annotations) {
+        @CheckForNull
+        Integer position = null;
+        for (Annotation annotation : annotations) {
+            if (BindingDefinition.isLinkkiBindingDefinition(annotation)) {
+                position = verifySamePosition(element, position, getDeprecatedPosition(annotation));
+            }
+        }
+        if (position == null) {
+            throw new IllegalArgumentException(
+                    "There is no annotation at " + element + " that defines the position.");
+        }
+        return position;
     }
 
     @SuppressWarnings("deprecation")
@@ -126,7 +163,10 @@ public class PositionAnnotationReader {
 
     /**
      * Returns a {@link Comparator} for {@link AnnotatedElement AnnotatedElements} with annotations that
-     * are {@link LinkkiPositioned}.
+     * are {@link LinkkiPositioned}. The comparator reads the position of each element only once.
+     * <p>
+     * To sort all elements of a class, {@link #sortByUniquePositions(Stream, Class)} should be
+     * preferred as it reads every position exactly once and validates them in a single pass.
      * 
      * @param pmoClass the presentation model class containing the {@link AnnotatedElement
      *            AnnotatedElements}; used for error handling only
@@ -134,19 +174,70 @@ public class PositionAnnotationReader {
      *             {@link #getPosition(AnnotatedElement) position} are compared
      */
     public static Comparator<AnnotatedElement> comparingUniquePositions(Class<?> pmoClass) {
+        Map<AnnotatedElement, Integer> positions = new IdentityHashMap<>();
         return (e1, e2) -> {
-            int p1 = getPosition(e1);
-            int p2 = getPosition(e2);
+            int p1 = positions.computeIfAbsent(e1, PositionAnnotationReader::getPosition);
+            int p2 = positions.computeIfAbsent(e2, PositionAnnotationReader::getPosition);
             if (p1 == p2) {
-                throw new IllegalStateException(
-                        String.format("Duplicate position in properties %s and %s of pmo class %s",
-                                      BoundPropertyAnnotationReader.getBoundProperty(e1).getPmoProperty(),
-                                      BoundPropertyAnnotationReader.getBoundProperty(e2).getPmoProperty(),
-                                      pmoClass));
+                throw duplicatePosition(e1, e2, pmoClass);
             } else {
-                return p1 - p2;
+                return Integer.compare(p1, p2);
             }
         };
     }
 
+    /**
+     * Sorts the given {@link AnnotatedElement AnnotatedElements} by their
+     * {@link #getPosition(AnnotatedElement) position}. The position of every element is read once.
+     * 
+     * @param elements the elements to sort
+     * @param pmoClass the presentation model class containing the {@link AnnotatedElement
+     *            AnnotatedElements}; used for error handling only
+     * @return the elements sorted by position
+     * @throws IllegalStateException if two elements have the same position
+     * @throws IllegalArgumentException if an element does not define a position
+     */
+    public static <E extends AnnotatedElement> List<E> sortByUniquePositions(Stream<E> elements, Class<?> pmoClass) {
+        List<PositionedElement<E>> positionedElements = elements
+                .map(PositionedElement::new)
+                .sorted()
+                .collect(Collectors.toList());
+        List<E> sortedElements = new ArrayList<>(positionedElements.size());
+        for (int i = 0; i < positionedElements.size(); i++) {
+            PositionedElement<E> positionedElement = positionedElements.get(i);
+            if (i > 0 && positionedElements.get(i - 1).position == positionedElement.position) {
+                throw duplicatePosition(positionedElements.get(i - 1).element, positionedElement.element, pmoClass);
+            }
+            sortedElements.add(positionedElement.element);
+        }
+        return sortedElements;
+    }
+
+    private static IllegalStateException duplicatePosition(AnnotatedElement e1, AnnotatedElement e2, Class<?> pmoClass) {
+        return new IllegalStateException(
+                String.format("Duplicate position in properties %s and %s of pmo class %s",
+                              BoundPropertyAnnotationReader.getBoundProperty(e1).getPmoProperty(),
+                              BoundPropertyAnnotationReader.getBoundProperty(e2).getPmoProperty(),
+                              pmoClass));
+    }
+
+    private static final class PositionedElement<E extends AnnotatedElement>
+            implements Comparable<PositionedElement<E>> {
+
+        private final E element;
+
+        private final int position;
+
+        PositionedElement(E element) {
+            this.element = element;
+            this.position = getPosition(element);
+        }
+
+        @Override
+        public int compareTo(PositionedElement<E> other) {
+            return Integer.compare(position, other.position);
+        }
+
+    }
+
 }
@@ -7,6 +7,7 @@ package org.linkki.core.uicreation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -26,6 +27,8 @@ import org.linkki.core.binding.uicreation.LinkkiComponentDefinition;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
 import org.linkki.core.defaults.section.Sections;
+import org.linkki.core.uicreation.PmoMetadata.ComponentMetadata;
+import org.linkki.core.uicreation.PmoMetadata.ElementMetadata;
 import org.linkki.core.uicreation.layout.LayoutAnnotationReader;
 import org.linkki.core.uicreation.layout.LinkkiLayout;
 import org.linkki.core.uicreation.layout.LinkkiLayoutDefinition;
@@ -82,7 +85,7 @@ public class UiCreator {
     public static <C, W extends ComponentWrapper> Stream<W> createUiElements(Object pmo,
             BindingContext bindingContext,
             Function<C, W> componentWrapperCreator) {
-        return ComponentAnnotationReader.getComponentDefinitionMethods(pmo.getClass())
+        return PmoMetadata.forClass(pmo.getClass()).getComponentDefinitionMethods().stream()
                 .map(m -> createUiElement(m, pmo, bindingContext, componentWrapperCreator));
     }
 
@@ -97,6 +100,9 @@ public class UiCreator {
      * <p>
      * If the given {@link AnnotatedElement} provides a {@link LinkkiLayout @LinkkiLayout} annotation,
      * its layout definition will be called. This might create further child elements.
+     * <p>
+     * The annotations of methods are only read once, the definitions are then taken from the
+     * {@link PmoMetadata}.
      * 
      * @param <C> the UI component class created by {@link ElementDescriptor#newComponent(Object)} and
      *            handed to the {@code componentWrapperCreator}
@@ -113,6 +119,10 @@ public class UiCreator {
             Object pmo,
             BindingContext bindingContext,
             Function<C, W> componentWrapperCreator) {
+        if (annotatedElement instanceof Method) {
+            return createUiElement(PmoMetadata.forMethod((Method)annotatedElement), pmo, bindingContext,
+                                   componentWrapperCreator);
+        }
 
         Annotation componentDefAnnotation = ComponentAnnotationReader
                 .getComponentDefinitionAnnotation(annotatedElement, pmo);
@@ -130,6 +140,19 @@ public class UiCreator {
                                LayoutAnnotationReader.findLayoutDefinition(annotatedElement));
     }
 
+    private static <C, W extends ComponentWrapper> W createUiElement(ElementMetadata element,
+            Object pmo,
+            BindingContext bindingContext,
+            Function<C, W> componentWrapperCreator) {
+        ComponentMetadata component = element.getComponent(element.getComponentDefinitionAnnotation(pmo));
+        return createComponent(pmo, bindingContext,
+                               component.getBoundProperty(),
+                               component.getComponentDefinition(),
+                               componentWrapperCreator,
+                               component.getAspectDefinitions(),
+                               element.getLayoutDefinition());
+    }
+
     /**
      * Creates a UI component via the {@link LinkkiComponent @LinkkiComponent} annotated
      * {@link Annotation} on the given presentation model object. The {@link LinkkiLayout @LinkkiLayout}
@@ -208,17 +231,13 @@ public class UiCreator {
             BindingContext bindingContext,
             LinkkiComponentDefinition componentDefinition,
             Optional<LinkkiLayoutDefinition> layoutDefinition) {
-        Class<?> annotatedElement = pmo.getClass();
-        List<LinkkiAspectDefinition> aspectDefs = AspectAnnotationReader.createAspectDefinitionsFor(annotatedElement);
-        BoundProperty boundProperty = BoundPropertyAnnotationReader
-                .findBoundProperty(annotatedElement)
-                .orElseGet(BoundProperty::empty);
+        PmoMetadata pmoMetadata = PmoMetadata.forClass(pmo.getClass());
         return createComponent(pmo,
                                bindingContext,
-                               boundProperty,
+                               pmoMetadata.getBoundProperty(),
                                componentDefinition,
                                COMPONENT_WRAPPER_FACTORY::createComponentWrapper,
-                               aspectDefs,
+                               pmoMetadata.getAspectDefinitions(),
                                layoutDefinition);
     }
 
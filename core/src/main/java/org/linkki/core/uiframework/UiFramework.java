@@ -14,12 +14,18 @@
 
 package org.linkki.core.uiframework;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
+import org.linkki.util.handler.Handler;
 import org.linkki.util.service.Services;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
 /**
  * Abstraction for UI framework specific code.
  * 
@@ -28,17 +34,22 @@ import org.linkki.util.service.Services;
  */
 public final class UiFramework {
 
+    private static final ThreadLocal<UpdateScope> UPDATE_SCOPE = new ThreadLocal<>();
+
     private UiFramework() {
         // static util
     }
 
     /**
      * Returns the locale defined for the UI session, may differ from the System locale.
+     * <p>
+     * Inside of {@link #runInUpdateScope(Handler) an update scope} the locale is only resolved once.
      * 
      * @return the locale defined for the UI session
      */
     public static Locale getLocale() {
-        return get().getLocale();
+        UpdateScope updateScope = UPDATE_SCOPE.get();
+        return updateScope != null ? updateScope.getLocale() : get().getLocale();
     }
 
     /**
@@ -59,7 +70,44 @@ public final class UiFramework {
      * @return the {@link UiFrameworkExtension}
      */
     public static UiFrameworkExtension get() {
-        return Services.get(UiFrameworkExtension.class);
+        UpdateScope updateScope = UPDATE_SCOPE.get();
+        return updateScope != null ? updateScope.getExtension() : Services.get(UiFrameworkExtension.class);
+    }
+
+    /**
+     * Runs the given handler in an update scope. Inside of the scope, the {@link UiFrameworkExtension}
+     * and the {@link #getLocale() locale} are only resolved once, as well as all values requested by
+     * {@link #getUpdateScoped(Class, Supplier)}. This avoids repeated lookups while many bindings are
+     * updated, for example by {@link org.linkki.core.binding.BindingContext#modelChanged()}.
+     * <p>
+     * If this method is called inside of an update scope, the handler runs in the existing scope.
+     * 
+     * @param handler the handler that is run in the update scope
+     */
+    public static void runInUpdateScope(Handler handler) {
+        if (UPDATE_SCOPE.get() != null) {
+            handler.apply();
+        } else {
+            UPDATE_SCOPE.set(new UpdateScope());
+            try {
+                handler.apply();
+            } finally {
+                UPDATE_SCOPE.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the given type that is valid in the current
+     * {@link #runInUpdateScope(Handler) update scope}. The value is created by the supplier once per
+     * scope. Outside of an update scope, the supplier is called every time.
+     * 
+     * @param type the type of the value, used as key in the scope
+     * @param supplier creates the value, for example by looking it up in the UI session
+     */
+    public static <T> T getUpdateScoped(Class<T> type, Supplier<? extends T> supplier) {
+        UpdateScope updateScope = UPDATE_SCOPE.get();
+        return updateScope != null ? updateScope.get(type, supplier) : supplier.get();
     }
 
     /**
@@ -73,4 +121,68 @@ public final class UiFramework {
         return get().getChildComponents(uiComponent);
     }
 
+    /**
+     * Returns whether the given UI component is attached to a UI. Returns <code>true</code> if the UI
+     * framework cannot tell.
+     * 
+     * @param uiComponent a UI component
+     * @return <code>false</code> if the component is known to be detached
+     */
+    public static boolean isAttached(Object uiComponent) {
+        return get().isAttached(uiComponent);
+    }
+
+    /**
+     * Returns whether the given UI component is hidden because one of its parents is invisible.
+     * Returns <code>false</code> if the UI framework cannot tell.
+     * 
+     * @param uiComponent a UI component
+     * @return <code>true</code> if the component is known to be hidden by one of its parents
+     */
+    public static boolean isHiddenByParent(Object uiComponent) {
+        return get().isHiddenByParent(uiComponent);
+    }
+
+    /**
+     * The values resolved in an update scope. Only used by a single thread.
+     */
+    private static final class UpdateScope {
+
+        @CheckForNull
+        private UiFrameworkExtension extension;
+
+        @CheckForNull
+        private Locale locale;
+
+        private final Map<Class<?>, Object> values = new HashMap<>();
+
+        UiFrameworkExtension getExtension() {
+            UiFrameworkExtension resolvedExtension = extension;
+            if (resolvedExtension == null) {
+                resolvedExtension = Services.get(UiFrameworkExtension.class);
+                extension = resolvedExtension;
+            }
+            return resolvedExtension;
+        }
+
+        Locale getLocale() {
+            Locale resolvedLocale = locale;
+            if (resolvedLocale == null) {
+                resolvedLocale = getExtension().getLocale();
+                locale = resolvedLocale;
+            }
+            return resolvedLocale;
+        }
+
+        <T> T get(Class<T> type, Supplier<? extends T> supplier) {
+            Object value = values.get(type);
+            if (value == null) {
+                value = supplier.get();
+                values.put(type, value);
+            }
+            return type.cast(value);
+        }
+
+    }
+
 }
@@ -48,4 +48,32 @@ public interface UiFrameworkExtension {
      */
     Stream<?> getChildComponents(Object uiComponent);
 
+    /**
+     * Returns whether the given UI component is attached to a UI.
+     * 
+     * @implSpec The default implementation returns <code>true</code>, as it cannot know whether a
+     *           component is attached.
+     * 
+     * @param uiComponent a UI component
+     * @return <code>false</code> if the component is known to be detached
+     */
+    default boolean isAttached(Object uiComponent) {
+        return true;
+    }
+
+    /**
+     * Returns whether the given UI component is hidden because one of its parents is invisible, for
+     * example a collapsed section or a tab that is not selected. The visibility of the component itself
+     * is not considered.
+     * 
+     * @implSpec The default implementation returns <code>false</code>, as it cannot know the parents
+     *           of a component.
+     * 
+     * @param uiComponent a UI component
+     * @return <code>true</code> if the component is known to be hidden by one of its parents
+     */
+    default boolean isHiddenByParent(Object uiComponent) {
+        return false;
+    }
+
 }
@@ -15,6 +15,7 @@ package org.linkki.core.binding;
 
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -31,16 +32,31 @@ import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.descriptor.aspect.base.TestComponentClickAspectDefinition;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
+import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.PropertyBehavior;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
 import org.linkki.core.binding.dispatcher.fallback.ExceptionPropertyDispatcher;
 import org.linkki.core.binding.dispatcher.reflection.ReflectionPropertyDispatcher;
+import org.linkki.core.binding.metrics.BindingMetrics;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+import org.linkki.core.binding.metrics.InMemoryBindingMetrics;
+import org.linkki.core.binding.metrics.InMemoryBindingMetrics.PropertyTiming;
+import org.linkki.core.binding.refresh.PropertyDependencies;
+import org.linkki.core.binding.refresh.RefreshStrategy;
 import org.linkki.core.binding.validation.message.Message;
 import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.ObjectProperty;
 import org.linkki.core.binding.validation.message.Severity;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.defaults.columnbased.ColumnBasedComponentFactory;
@@ -51,6 +67,7 @@ import org.linkki.core.defaults.nls.TestComponentWrapper;
 import org.linkki.core.defaults.nls.TestUiComponent;
 import org.linkki.core.defaults.nls.TestUiLayoutComponent;
 import org.linkki.core.defaults.ui.aspects.EnabledAspectDefinition;
+import org.linkki.core.defaults.ui.aspects.VisibleAspectDefinition;
 import org.linkki.core.defaults.ui.aspects.types.EnabledType;
 import org.linkki.core.matcher.MessageMatchers;
 import org.linkki.core.pmo.ButtonPmo;
@@ -293,6 +310,229 @@ public class BindingContextTest {
         assertThat(context.getBindings(), is(empty()));
     }
 
+    @Test
+    public void testRemoveBindingsForPmo_OnlySamePmoInstance() {
+        BindingContext context = new BindingContext();
+        TestPmo pmo = new TestPmo();
+        ElementBinding binding1 = createBinding(context, pmo, field1);
+        ElementBinding binding2 = createBinding(context, new TestPmo(), field2);
+        context.add(binding1, TestComponentWrapper.with(binding1));
+        context.add(binding2, TestComponentWrapper.with(binding2));
+
+        context.removeBindingsForPmo(pmo);
+
+        assertThat(context.getBindings(), contains(binding2));
+    }
+
+    @Test
+    public void testRemoveBindingsForPmo_EqualPmo() {
+        BindingContext context = new BindingContext();
+        TestPmo pmo = new EqualTestPmo();
+        TestPmo equalPmo = new EqualTestPmo();
+        assertThat(pmo, is(equalPmo));
+        ElementBinding binding1 = createBinding(context, pmo, field1);
+        ElementBinding binding2 = createBinding(context, equalPmo, field2);
+        context.add(binding1, TestComponentWrapper.with(binding1));
+        context.add(binding2, TestComponentWrapper.with(binding2));
+
+        context.removeBindingsForPmo(pmo);
+
+        assertThat(context.getBindings(), contains(binding2));
+    }
+
+    @Test
+    public void testAdd_ReplacesBindingOfSameComponent() {
+        BindingContext context = new BindingContext();
+        TestPmo pmo = new TestPmo();
+        ElementBinding binding1 = createBinding(context, pmo, field1);
+        ElementBinding binding2 = createBinding(context, new TestPmo(), field1);
+        context.add(binding1, TestComponentWrapper.with(binding1));
+        context.add(binding2, TestComponentWrapper.with(binding2));
+
+        assertThat(context.getBindings(), contains(binding2));
+
+        context.removeBindingsForPmo(pmo);
+        assertThat(context.getBindings(), contains(binding2));
+    }
+
+    @Test
+    public void testRemoveBindingsOnDetach() {
+        BindingContext context = new BindingContext();
+        context.setRemoveBindingsOnDetach(true);
+        ElementBinding binding1 = createBinding(context, new TestPmo(), field1);
+        ElementBinding binding2 = createBinding(context, new TestPmo(), field2);
+        context.add(binding1, TestComponentWrapper.with(binding1));
+        context.add(binding2, TestComponentWrapper.with(binding2));
+
+        field1.detach();
+
+        assertThat(context.isRemoveBindingsOnDetach(), is(true));
+        assertThat(context.getBindings(), contains(binding2));
+    }
+
+    @Test
+    public void testRemoveBindingsOnDetach_InContainerBinding() {
+        BindingContext context = new BindingContext();
+        context.setRemoveBindingsOnDetach(true);
+        TestContainerPmo containerPmo = new TestContainerPmo(new TestRowPmo());
+        TestUiLayoutComponent table = bindTable(context, containerPmo);
+        ContainerBinding containerBinding = (ContainerBinding)context.getBindings().iterator().next();
+        assertThat(containerBinding.getBindings(), hasSize(2));
+
+        table.getChildren().get(0).detach();
+
+        assertThat(containerBinding.getBindings(), hasSize(1));
+    }
+
+    @Test
+    public void testRemoveBindingsOnDetach_DefaultKeepsBindings() {
+        BindingContext context = new BindingContext();
+        ElementBinding binding = createBinding(context, new TestPmo(), field1);
+        context.add(binding, TestComponentWrapper.with(binding));
+
+        field1.detach();
+
+        assertThat(context.isRemoveBindingsOnDetach(), is(false));
+        assertThat(context.getBindings(), contains(binding));
+    }
+
+    @Test
+    public void testGetDetachedBindings() {
+        BindingContext context = new BindingContext();
+        ElementBinding binding1 = createBinding(context, new TestPmo(), field1);
+        ElementBinding binding2 = createBinding(context, new TestPmo(), field2);
+        context.add(binding1, TestComponentWrapper.with(binding1));
+        context.add(binding2, TestComponentWrapper.with(binding2));
+        assertThat(context.getDetachedBindings(), is(empty()));
+
+        field1.detach();
+
+        assertThat(context.getDetachedBindings(), contains(binding1));
+    }
+
+    @Test
+    public void testGetDetachedBindings_InContainerBinding() {
+        BindingContext context = new BindingContext();
+        TestContainerPmo containerPmo = new TestContainerPmo(new TestRowPmo());
+        TestUiLayoutComponent table = bindTable(context, containerPmo);
+        ContainerBinding containerBinding = (ContainerBinding)context.getBindings().iterator().next();
+        TestUiComponent rowComponent = table.getChildren().get(0);
+
+        rowComponent.detach();
+
+        assertThat(context.getDetachedBindings(), hasSize(1));
+        assertThat(context.getDetachedBindings().get(0).getBoundComponent(), is(rowComponent));
+        assertThat(containerBinding.getBindings(), hasSize(2));
+    }
+
+    @Test
+    public void testSuspendHiddenBindings() {
+        BindingContext context = new BindingContext();
+        context.setSuspendHiddenBindings(true);
+        TestUiLayoutComponent layout = new TestUiLayoutComponent(field1);
+        Handler uiUpdater = mock(Handler.class);
+        ElementBinding binding = createBinding(field1, uiUpdater);
+        context.add(binding, TestComponentWrapper.with(binding));
+        reset(field1, uiUpdater);
+
+        context.modelChanged();
+        context.displayMessages(new MessageList());
+
+        assertThat(context.isSuspendHiddenBindings(), is(true));
+        verify(uiUpdater, never()).apply();
+        verify(field1, never()).setValidationMessages(any());
+
+        layout.setVisible(true);
+        context.modelChanged();
+
+        verify(uiUpdater).apply();
+        verify(field1).setValidationMessages(any());
+    }
+
+    @Test
+    public void testSuspendHiddenBindings_InContainerBinding() {
+        BindingContext context = new BindingContext();
+        context.setSuspendHiddenBindings(true);
+        TestContainerPmo containerPmo = new TestContainerPmo(new TestRowPmo());
+        TestUiLayoutComponent table = bindTable(context, containerPmo);
+        TestUiLayoutComponent section = new TestUiLayoutComponent(table);
+        table.setVisible(true);
+        ContainerBinding containerBinding = (ContainerBinding)context.getBindings().iterator().next();
+        Handler uiUpdater = mock(Handler.class);
+        TestUiComponent cell = new TestUiComponent();
+        table.addChild(cell);
+        ElementBinding cellBinding = createBinding(cell, uiUpdater);
+        containerBinding.add(cellBinding, TestComponentWrapper.with(cellBinding));
+        reset(uiUpdater);
+
+        context.modelChanged();
+        verify(uiUpdater, never()).apply();
+
+        section.setVisible(true);
+        context.updateSuspendedBindings();
+        verify(uiUpdater).apply();
+
+        context.updateSuspendedBindings();
+        verify(uiUpdater).apply();
+    }
+
+    @Test
+    public void testSuspendHiddenBindings_ResumedWhenShownByOtherBinding() {
+        BindingContext context = new BindingContext();
+        context.setSuspendHiddenBindings(true);
+        TestUiLayoutComponent layout = new TestUiLayoutComponent(field1);
+        Handler uiUpdater = mock(Handler.class);
+        ElementBinding binding = createBinding(field1, uiUpdater);
+        context.add(binding, TestComponentWrapper.with(binding));
+        ElementBinding layoutBinding = createBinding(layout, () -> layout.setVisible(true));
+        context.add(layoutBinding, TestComponentWrapper.with(layoutBinding));
+        layout.setVisible(false);
+        reset(uiUpdater);
+
+        context.modelChanged();
+
+        verify(uiUpdater).apply();
+    }
+
+    @Test
+    public void testSuspendHiddenBindings_DisablingUpdatesSuspendedBindings() {
+        BindingContext context = new BindingContext();
+        context.setSuspendHiddenBindings(true);
+        new TestUiLayoutComponent(field1);
+        Handler uiUpdater = mock(Handler.class);
+        ElementBinding binding = createBinding(field1, uiUpdater);
+        context.add(binding, TestComponentWrapper.with(binding));
+        context.modelChanged();
+        reset(uiUpdater);
+
+        context.setSuspendHiddenBindings(false);
+
+        verify(uiUpdater).apply();
+    }
+
+    @Test
+    public void testSuspendHiddenBindings_Disabled() {
+        BindingContext context = new BindingContext();
+        new TestUiLayoutComponent(field1);
+        Handler uiUpdater = mock(Handler.class);
+        ElementBinding binding = createBinding(field1, uiUpdater);
+        context.add(binding, TestComponentWrapper.with(binding));
+        reset(uiUpdater);
+
+        context.modelChanged();
+
+        assertThat(context.isSuspendHiddenBindings(), is(false));
+        verify(uiUpdater).apply();
+    }
+
+    private ElementBinding createBinding(TestUiComponent component, Handler uiUpdater) {
+        TestPmo pmo = new TestPmo();
+        return new ElementBinding(new TestComponentWrapper(component),
+                new ReflectionPropertyDispatcher(() -> pmo, "value",
+                        new ExceptionPropertyDispatcher("value", pmo)),
+                Handler.NOP_HANDLER, Arrays.asList((propertyDispatcher, componentWrapper) -> uiUpdater));
+    }
+
     @Test
     public void testBind_ButtonPmoBindningToCheckUpdateFromPmo() {
         BindingContext context = new BindingContext();
@@ -351,6 +591,243 @@ public class BindingContextTest {
         return weakReference;
     }
 
+    @Test
+    public void testModelChanged_IncrementalRefresh_OnlyAffectedBindings() {
+        BindingContext context = createIncrementalContext(PropertyDependencies.INDEPENDENT);
+        TestPmo pmo1 = new TestPmo();
+        TestPmo pmo2 = new TestPmo();
+        CountingAspectDefinition aspect1 = new CountingAspectDefinition();
+        CountingAspectDefinition aspect2 = new CountingAspectDefinition();
+        Binding binding1 = context.bind(pmo1, BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(aspect1),
+                                        new TestComponentWrapper(field1));
+        context.bind(pmo2, BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(aspect2),
+                     new TestComponentWrapper(field2));
+
+        ((ElementBinding)binding1).getPropertyDispatcher().push(Aspect.of("", "new value"));
+        context.modelChanged();
+
+        assertThat(pmo1.getValue(), is("new value"));
+        assertThat(aspect1.updates, is(2));
+        assertThat(aspect2.updates, is(1));
+    }
+
+    @Test
+    public void testModelChanged_IncrementalRefresh_DependentProperty() {
+        BindingContext context = createIncrementalContext((pmo, property) -> Optional
+                .of(Collections.singleton("valueVisible")));
+        TestPmo pmo = new TestPmo();
+        CountingAspectDefinition valueAspect = new CountingAspectDefinition();
+        CountingAspectDefinition visibleAspect = new CountingAspectDefinition("visible");
+        CountingAspectDefinition enumAspect = new CountingAspectDefinition();
+        Binding binding = context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(valueAspect),
+                                       new TestComponentWrapper(field1));
+        context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(visibleAspect),
+                     new TestComponentWrapper(field2));
+        context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_ENUM_VALUE), Arrays.asList(enumAspect),
+                     new TestComponentWrapper(new TestUiComponent()));
+
+        ((ElementBinding)binding).getPropertyDispatcher().push(Aspect.of("", "new value"));
+        context.modelChanged();
+
+        assertThat(valueAspect.updates, is(2));
+        assertThat(visibleAspect.updates, is(2));
+        assertThat(enumAspect.updates, is(1));
+    }
+
+    @Test
+    public void testModelChanged_IncrementalRefresh_UnknownDependencies() {
+        BindingContext context = createIncrementalContext(PropertyDependencies.UNKNOWN);
+        CountingAspectDefinition aspect1 = new CountingAspectDefinition();
+        CountingAspectDefinition aspect2 = new CountingAspectDefinition();
+        Binding binding1 = context.bind(new TestPmo(), BoundProperty.of(TestPmo.PROPERTY_VALUE),
+                                        Arrays.asList(aspect1), new TestComponentWrapper(field1));
+        context.bind(new TestPmo(), BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(aspect2),
+                     new TestComponentWrapper(field2));
+
+        ((ElementBinding)binding1).getPropertyDispatcher().push(Aspect.of("", "new value"));
+        context.modelChanged();
+
+        assertThat(aspect1.updates, is(2));
+        assertThat(aspect2.updates, is(2));
+    }
+
+    @Test
+    public void testModelChanged_IncrementalRefresh_NoPushUpdatesAll() {
+        BindingContext context = createIncrementalContext(PropertyDependencies.INDEPENDENT);
+        CountingAspectDefinition aspect1 = new CountingAspectDefinition();
+        CountingAspectDefinition aspect2 = new CountingAspectDefinition();
+        context.bind(new TestPmo(), BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(aspect1),
+                     new TestComponentWrapper(field1));
+        context.bind(new TestPmo(), BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(aspect2),
+                     new TestComponentWrapper(field2));
+
+        context.modelChanged();
+
+        assertThat(aspect1.updates, is(2));
+        assertThat(aspect2.updates, is(2));
+    }
+
+    @Test
+    public void testModelChanged_IncrementalRefresh_InvokeUpdatesAll() {
+        BindingContext context = createIncrementalContext(PropertyDependencies.INDEPENDENT);
+        TestPmo pmo = new TestPmo();
+        CountingAspectDefinition aspect1 = new CountingAspectDefinition(TestPmo.PROPERTY_VALUE);
+        CountingAspectDefinition aspect2 = new CountingAspectDefinition();
+        Binding binding1 = context.bind(pmo, BoundProperty.of(""), Arrays.asList(aspect1),
+                                        new TestComponentWrapper(field1));
+        context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE), Arrays.asList(aspect2),
+                     new TestComponentWrapper(field2));
+
+        ((ElementBinding)binding1).getPropertyDispatcher().push(Aspect.of("click"));
+        context.modelChanged();
+
+        assertThat(pmo.isClicked(), is(true));
+        assertThat(aspect1.updates, is(2));
+        assertThat(aspect2.updates, is(2));
+    }
+
+    @Test
+    public void testDrainWrittenProperties() {
+        BindingContext context = new BindingContext();
+        TestPmo pmo = new TestPmo();
+        Binding binding = context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                                       new TestComponentWrapper(field1));
+
+        ((ElementBinding)binding).getPropertyDispatcher().push(Aspect.of("", "new value"));
+
+        assertThat(context.drainWrittenProperties(),
+                   is(Optional.of(Collections.singleton(new ObjectProperty(pmo, TestPmo.PROPERTY_VALUE)))));
+        assertThat(context.drainWrittenProperties(), is(Optional.of(Collections.emptySet())));
+    }
+
+    @Test
+    public void testMetrics() {
+        BindingContext context = new BindingContext("context");
+        InMemoryBindingMetrics metrics = new InMemoryBindingMetrics();
+        context.setMetrics(metrics);
+        TestPmo pmo = new TestPmo();
+        Binding binding = context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                                       new TestComponentWrapper(field1));
+
+        ((ElementBinding)binding).getPropertyDispatcher().push(Aspect.of("", "new value"));
+        context.modelChanged();
+
+        assertThat(context.getMetrics(), is(metrics));
+        assertThat(metrics.getHistogram(Phase.PUSH, TestPmo.class).getCount(), is(1L));
+        assertThat(metrics.getHistogram(Phase.UPDATE_FROM_PMO, "context").getCount(), is(1L));
+        List<PropertyTiming> slowestUpdates = metrics.getSlowestProperties(Phase.UPDATE_FROM_PMO, 10);
+        assertThat(slowestUpdates, hasSize(1));
+        assertThat(slowestUpdates.get(0).getContextName(), is("context"));
+        assertThat(slowestUpdates.get(0).getPmoClass(), is(TestPmo.class));
+        assertThat(slowestUpdates.get(0).getProperty(), is(TestPmo.PROPERTY_VALUE));
+    }
+
+    @Test
+    public void testMetrics_Default() {
+        assertThat(new BindingContext().getMetrics(), is(BindingMetrics.NONE));
+    }
+
+    @Test
+    public void testDrainWrittenProperties_Invoke() {
+        BindingContext context = new BindingContext();
+        Binding binding = context.bind(new TestPmo(), BoundProperty.of(""), Collections.emptyList(),
+                                       new TestComponentWrapper(field1));
+
+        ((ElementBinding)binding).getPropertyDispatcher().push(Aspect.of("click"));
+
+        assertThat(context.drainWrittenProperties(), is(Optional.empty()));
+        assertThat(context.drainWrittenProperties(), is(Optional.of(Collections.emptySet())));
+    }
+
+    @Test
+    public void testDisplayMessages_OnlyBindingsOfChangedMessages() {
+        BindingContext context = new BindingContext();
+        TestPmo pmo1 = new TestPmo();
+        TestPmo pmo2 = new TestPmo();
+        context.bind(pmo1, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                     new TestComponentWrapper(field1));
+        context.bind(pmo2, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                     new TestComponentWrapper(field2));
+        Message message1 = Message.builder("m1", Severity.ERROR)
+                .invalidObjectWithProperties(pmo1, TestPmo.PROPERTY_VALUE).create();
+        Message message2 = Message.builder("m2", Severity.ERROR)
+                .invalidObjectWithProperties(pmo2, TestPmo.PROPERTY_VALUE).create();
+        context.displayMessages(new MessageList(message1));
+        reset(field1, field2);
+
+        context.displayMessages(new MessageList(message1, message2), new MessageList(message2));
+
+        verify(field1, never()).setValidationMessages(any(MessageList.class));
+        assertThat(field2.getValidationMessages(), is(new MessageList(message2)));
+    }
+
+    @Test
+    public void testUiUpdated_EvaluatesBehaviorsOncePerUpdate() {
+        AtomicInteger evaluations = new AtomicInteger();
+        BindingContext context = new BindingContext("",
+                PropertyBehaviorProvider.with(PropertyBehavior.visible(() -> evaluations.incrementAndGet() > 0)),
+                Handler.NOP_HANDLER);
+        bindVisibleTwice(context);
+        assertThat(evaluations.get(), is(1));
+
+        context.uiUpdated();
+
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test
+    public void testUiUpdated_StableBehaviors() {
+        AtomicInteger evaluations = new AtomicInteger();
+        BindingContext context = new BindingContext("",
+                PropertyBehaviorProvider.stable(PropertyBehavior.visible(() -> evaluations.incrementAndGet() > 0)),
+                Handler.NOP_HANDLER);
+        bindVisibleTwice(context);
+
+        context.uiUpdated();
+        context.displayMessages(new MessageList());
+
+        assertThat(evaluations.get(), is(1));
+    }
+
+    private void bindVisibleTwice(BindingContext context) {
+        TestPmo pmo = new TestPmo();
+        context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE),
+                     Arrays.asList(new CountingAspectDefinition(VisibleAspectDefinition.NAME)),
+                     new TestComponentWrapper(field1));
+        context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE),
+                     Arrays.asList(new CountingAspectDefinition(VisibleAspectDefinition.NAME)),
+                     new TestComponentWrapper(field2));
+    }
+
+    private BindingContext createIncrementalContext(PropertyDependencies dependencies) {
+        return new BindingContext("", PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER, new PropertyDispatcherFactory(),
+                RefreshStrategy.incremental(dependencies), Handler.NOP_HANDLER);
+    }
+
+    private static class CountingAspectDefinition implements LinkkiAspectDefinition {
+
+        private final String aspectName;
+
+        private int updates;
+
+        public CountingAspectDefinition() {
+            this("");
+        }
+
+        public CountingAspectDefinition(String aspectName) {
+            this.aspectName = aspectName;
+        }
+
+        @Override
+        public Handler createUiUpdater(PropertyDispatcher propertyDispatcher, ComponentWrapper componentWrapper) {
+            return () -> {
+                propertyDispatcher.pull(Aspect.of(aspectName));
+                updates++;
+            };
+        }
+
+    }
+
     public static class TestPmoWithButton implements PresentationModelObject {
 
         private static final ButtonPmo NOP_BUTTON_PMO = new TestButtonPmo();
@@ -360,4 +837,19 @@ public class BindingContextTest {
             return Optional.of(NOP_BUTTON_PMO);
         }
     }
+
+    private static class EqualTestPmo extends TestPmo {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EqualTestPmo;
+        }
+
+        @Override
+        public int hashCode() {
+            return EqualTestPmo.class.hashCode();
+        }
+
+    }
+
 }
@@ -14,20 +14,31 @@
 
 package org.linkki.core.binding.descriptor.aspect.base;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.linkki.core.binding.LinkkiBindingException;
 import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.util.handler.Handler;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -88,6 +99,53 @@ public class CompositeAspectDefinitionTest {
         verify(aspect3).createUiUpdater(propertyDispatcher, componentWrapper);
     }
 
+    @Test
+    public void testCreateUiUpdater_AppliesUpdatersInOrder() {
+        CompositeAspectDefinition composite = new CompositeAspectDefinition(aspect1, aspect2NotSupported, aspect3);
+
+        composite.createUiUpdater(propertyDispatcher, componentWrapper).apply();
+
+        InOrder inOrder = inOrder(updater1, updater3);
+        inOrder.verify(updater1).apply();
+        inOrder.verify(updater3).apply();
+        verify(updater2, never()).apply();
+    }
+
+    @Test
+    public void testCreateUiUpdater_FlattensNestedComposites() {
+        CompositeAspectDefinition composite = new CompositeAspectDefinition(aspect1,
+                new CompositeAspectDefinition(aspect3, new CompositeAspectDefinition(aspect1)));
+
+        Handler uiUpdater = composite.createUiUpdater(propertyDispatcher, componentWrapper);
+
+        assertThat(((CompositeUiUpdater)uiUpdater).size(), is(3));
+        uiUpdater.apply();
+        verify(updater1, times(2)).apply();
+        verify(updater3).apply();
+    }
+
+    @Test
+    public void testCreateUiUpdater_IsolatesExceptions() {
+        IllegalStateException exception1 = new IllegalStateException("first");
+        IllegalArgumentException exception3 = new IllegalArgumentException("third");
+        doThrow(exception1).when(updater1).apply();
+        doThrow(exception3).when(updater3).apply();
+        Handler updater4 = mock(Handler.class);
+        LinkkiAspectDefinition aspect4 = mock(LinkkiAspectDefinition.class);
+        when(aspect4.supports(WrapperType.FIELD)).thenReturn(true);
+        when(aspect4.createUiUpdater(propertyDispatcher, componentWrapper)).thenReturn(updater4);
+        CompositeAspectDefinition composite = new CompositeAspectDefinition(aspect1, aspect3, aspect4);
+        Handler uiUpdater = composite.createUiUpdater(propertyDispatcher, componentWrapper);
+
+        LinkkiBindingException exception = assertThrows(LinkkiBindingException.class, uiUpdater::apply);
+
+        verify(updater4).apply();
+        assertThat(exception.getCause(), is(exception1));
+        assertThat(exception.getMessage(), containsString("first"));
+        assertThat(exception.getMessage(), containsString(aspect1.getClass().getSimpleName()));
+        assertThat(exception.getSuppressed(), is(arrayContaining(exception3)));
+    }
+
     @Test
     public void testInitModelUpdate() {
         CompositeAspectDefinition composite = new CompositeAspectDefinition(aspect1, aspect2NotSupported, aspect3);
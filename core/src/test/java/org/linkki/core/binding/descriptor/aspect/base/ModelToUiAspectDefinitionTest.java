@@ -15,12 +15,17 @@
 package org.linkki.core.binding.descriptor.aspect.base;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
@@ -73,6 +78,67 @@ public class ModelToUiAspectDefinitionTest {
         });
     }
 
+    @Test
+    public void testCreateUiUpdater_SkipsUnchangedValue() {
+        TestUiComponent component = componentWrapper.getComponent();
+        when(propertyDispatcher.pull(any())).thenReturn("a", "a", "b", null, null);
+        TooltipTestAspectDefinition tooltipAspectDefinition = new TooltipTestAspectDefinition(true);
+        Handler handler = tooltipAspectDefinition.createUiUpdater(propertyDispatcher, componentWrapper);
+
+        handler.apply();
+        component.setTooltipText("changed by someone else");
+        handler.apply();
+        assertThat(component.getTooltipText(), is("changed by someone else"));
+
+        handler.apply();
+        assertThat(component.getTooltipText(), is("b"));
+        handler.apply();
+        handler.apply();
+        assertThat(component.getTooltipText(), is(nullValue()));
+        assertThat(tooltipAspectDefinition.appliedValues, contains("a", "b", null));
+    }
+
+    @Test
+    public void testCreateUiUpdater_AppliesMutableValues() {
+        StringBuilder value = new StringBuilder("a");
+        when(propertyDispatcher.pull(any())).thenReturn(value);
+        TooltipTestAspectDefinition tooltipAspectDefinition = new TooltipTestAspectDefinition(true);
+        Handler handler = tooltipAspectDefinition.createUiUpdater(propertyDispatcher, componentWrapper);
+
+        handler.apply();
+        value.append("b");
+        handler.apply();
+
+        assertThat(componentWrapper.getComponent().getTooltipText(), is("ab"));
+        assertThat(tooltipAspectDefinition.appliedValues, hasSize(2));
+    }
+
+    @Test
+    public void testCreateUiUpdater_NotSkippingUnchangedValues() {
+        when(propertyDispatcher.pull(any())).thenReturn("a");
+        TooltipTestAspectDefinition tooltipAspectDefinition = new TooltipTestAspectDefinition(false);
+        Handler handler = tooltipAspectDefinition.createUiUpdater(propertyDispatcher, componentWrapper);
+
+        handler.apply();
+        handler.apply();
+
+        assertThat(tooltipAspectDefinition.appliedValues, contains("a", "a"));
+    }
+
+    @Test
+    public void testCreateUiUpdater_AppliesValueAgainAfterException() {
+        when(propertyDispatcher.pull(any())).thenReturn("a");
+        TooltipTestAspectDefinition tooltipAspectDefinition = new TooltipTestAspectDefinition(true);
+        tooltipAspectDefinition.fail = true;
+        Handler handler = tooltipAspectDefinition.createUiUpdater(propertyDispatcher, componentWrapper);
+
+        Assertions.assertThrows(LinkkiBindingException.class, handler::apply);
+        tooltipAspectDefinition.fail = false;
+        handler.apply();
+
+        assertThat(componentWrapper.getComponent().getTooltipText(), is("a"));
+    }
+
     @Test
     public void testCreateAspect() {
         Aspect<Boolean> createdAspect = aspectDefinition.createAspect();
@@ -89,6 +155,42 @@ public class ModelToUiAspectDefinitionTest {
         assertThat(componentWrapper.getComponent().isEnabled(), is(true));
     }
 
+    private static class TooltipTestAspectDefinition extends ModelToUiAspectDefinition<Object> {
+
+        public static final String NAME = "tooltip";
+
+        private final boolean skipUnchangedValues;
+
+        private final List<Object> appliedValues = new ArrayList<>();
+
+        private boolean fail;
+
+        public TooltipTestAspectDefinition(boolean skipUnchangedValues) {
+            this.skipUnchangedValues = skipUnchangedValues;
+        }
+
+        @Override
+        public Aspect<Object> createAspect() {
+            return Aspect.of(NAME);
+        }
+
+        @Override
+        protected boolean isSkipUnchangedValues() {
+            return skipUnchangedValues;
+        }
+
+        @Override
+        public Consumer<Object> createComponentValueSetter(ComponentWrapper componentWrapper) {
+            return value -> {
+                if (fail) {
+                    throw new IllegalStateException();
+                }
+                appliedValues.add(value);
+                componentWrapper.setTooltip(value == null ? null : value.toString());
+            };
+        }
+    }
+
     private static class TestModelToUiAspectDefinition extends ModelToUiAspectDefinition<Boolean> {
 
         public static final String NAME = "test";
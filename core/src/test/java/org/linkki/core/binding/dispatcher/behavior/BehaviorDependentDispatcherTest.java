@@ -17,6 +17,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.linkki.core.matcher.MessageMatchers.emptyMessageList;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -137,6 +140,42 @@ public class BehaviorDependentDispatcherTest {
         assertThat(pushable, is(false));
     }
 
+    @Test
+    public void testPull_CachingProvider() {
+        AtomicInteger calls = new AtomicInteger();
+        CachingPropertyBehaviorProvider provider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(PropertyBehavior.visible(() -> calls.incrementAndGet() > 1)));
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher, provider);
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+        assertThat(calls.get(), is(1));
+
+        provider.invalidate();
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(true));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void testPull_OverriddenIsConsensus() {
+        CachingPropertyBehaviorProvider provider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(PropertyBehavior.visible(() -> true)));
+        behaviorDispatcher = new BehaviorDependentDispatcher(wrappedDispatcher, provider) {
+
+            @Override
+            protected boolean isConsensus(Predicate<PropertyBehavior> aspectIsTrue) {
+                return false;
+            }
+
+        };
+
+        assertThat(behaviorDispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+        assertThat(behaviorDispatcher.isPushable(Aspect.of(StringUtils.EMPTY)), is(false));
+        assertThat(behaviorDispatcher.getMessages(new MessageList(Message.newError("code", "text"))),
+                   is(emptyMessageList()));
+    }
+
     private static class TestPropertyDispatcher extends AbstractPropertyDispatcherDecorator {
 
         @CheckForNull
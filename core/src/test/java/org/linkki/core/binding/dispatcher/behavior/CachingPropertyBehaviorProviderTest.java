@@ -0,0 +1,157 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.dispatcher.behavior;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CachingPropertyBehaviorProviderTest {
+
+    private final List<String> evaluated = new ArrayList<>();
+
+    private final PropertyBehavior hideFoo = new PropertyBehavior() {
+
+        @Override
+        public boolean isVisible(Object boundObject, String property) {
+            evaluated.add("visible " + property);
+            return !"foo".equals(property);
+        }
+
+        @Override
+        public boolean isWritable(Object boundObject, String property) {
+            evaluated.add("writable " + property);
+            return true;
+        }
+
+    };
+
+    @Test
+    public void testGetBehaviors() {
+        PropertyBehaviorProvider provider = PropertyBehaviorProvider.with(hideFoo);
+
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(provider);
+
+        assertThat(cachingProvider.getBehaviors(), contains(hideFoo));
+        assertThat(cachingProvider.getBehaviorProvider(), is(provider));
+        assertThat(cachingProvider.isStable(), is(false));
+    }
+
+    @Test
+    public void testIsVisible() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(hideFoo));
+        Object boundObject = new Object();
+
+        assertThat(cachingProvider.isVisible(boundObject, "foo"), is(false));
+        assertThat(cachingProvider.isVisible(boundObject, "bar"), is(true));
+        assertThat(cachingProvider.isVisible(boundObject, "foo"), is(false));
+        assertThat(cachingProvider.isVisible(boundObject, "bar"), is(true));
+
+        assertThat(evaluated, contains("visible foo", "visible bar"));
+    }
+
+    @Test
+    public void testIsVisible_EqualBoundObjects() {
+        String boundObject = new String("pmo");
+        String equalBoundObject = new String("pmo");
+        PropertyBehavior hideForBoundObject = new PropertyBehavior() {
+
+            @Override
+            public boolean isVisible(Object o, String property) {
+                return o != boundObject;
+            }
+
+        };
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(hideForBoundObject));
+
+        assertThat(cachingProvider.isVisible(boundObject, "foo"), is(false));
+        assertThat(cachingProvider.isVisible(equalBoundObject, "foo"), is(true));
+    }
+
+    @Test
+    public void testIsConsensus_SeparatePerAspectAndBoundObject() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(hideFoo));
+
+        cachingProvider.isVisible(new Object(), "foo");
+        cachingProvider.isWritable(new Object(), "foo");
+        cachingProvider.isVisible(new Object(), "foo");
+
+        assertThat(evaluated, contains("visible foo", "writable foo", "visible foo"));
+    }
+
+    @Test
+    public void testIsShowValidationMessages_NoBehaviors() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER);
+
+        assertThat(cachingProvider.isShowValidationMessages(new Object(), "foo"), is(true));
+    }
+
+    @Test
+    public void testIsConsensus_NullBoundObject() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(hideFoo));
+
+        assertThrows(NullPointerException.class, () -> cachingProvider.isVisible(null, "foo"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.with(hideFoo));
+        Object boundObject = new Object();
+        cachingProvider.isVisible(boundObject, "foo");
+
+        cachingProvider.invalidate();
+        cachingProvider.isVisible(boundObject, "foo");
+
+        assertThat(evaluated, contains("visible foo", "visible foo"));
+    }
+
+    @Test
+    public void testInvalidate_Stable() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.stable(hideFoo));
+        Object boundObject = new Object();
+        cachingProvider.isVisible(boundObject, "foo");
+
+        cachingProvider.invalidate();
+        cachingProvider.isVisible(boundObject, "foo");
+
+        assertThat(evaluated, contains("visible foo"));
+    }
+
+    @Test
+    public void testInvalidateAll_Stable() {
+        CachingPropertyBehaviorProvider cachingProvider = new CachingPropertyBehaviorProvider(
+                PropertyBehaviorProvider.stable(hideFoo));
+        Object boundObject = new Object();
+        cachingProvider.isVisible(boundObject, "foo");
+
+        cachingProvider.invalidateAll();
+        cachingProvider.isVisible(boundObject, "foo");
+
+        assertThat(evaluated, contains("visible foo", "visible foo"));
+    }
+
+}
@@ -15,6 +15,7 @@
 package org.linkki.core.binding.dispatcher.behavior;
 
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.junit.jupiter.api.Test;
@@ -45,4 +46,18 @@ public class PropertyBehaviorProviderTest {
         assertThat(propertyBehaviorProvider.getBehaviors(), contains(invisible, readOnly));
     }
 
+    @Test
+    public void testIsStable() {
+        assertThat(PropertyBehaviorProvider.with(readOnly).isStable(), is(false));
+        assertThat(PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER.isStable(), is(false));
+    }
+
+    @Test
+    public void testStable() {
+        PropertyBehaviorProvider propertyBehaviorProvider = PropertyBehaviorProvider.stable(readOnly, invisible);
+
+        assertThat(propertyBehaviorProvider.getBehaviors(), contains(readOnly, invisible));
+        assertThat(propertyBehaviorProvider.isStable(), is(true));
+    }
+
 }
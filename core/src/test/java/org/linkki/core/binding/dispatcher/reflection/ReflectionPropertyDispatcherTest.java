@@ -382,6 +382,40 @@ public class ReflectionPropertyDispatcherTest {
         assertThat(dispatcher.isPushable(Aspect.of("")), is(false));
     }
 
+    @Test
+    public void testPull_BoundObjectClassChanged() {
+        Object[] boundObject = { testPmo };
+        ReflectionPropertyDispatcher dispatcher = new ReflectionPropertyDispatcher(() -> boundObject[0],
+                TestPMO.PROPERTY_XYZ, new ExceptionPropertyDispatcher(TestPMO.PROPERTY_XYZ));
+
+        assertThat(dispatcher.pull(Aspect.of("")), is("890"));
+        assertThat(dispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(false));
+
+        boundObject[0] = new OtherXyz();
+
+        assertThat(dispatcher.pull(Aspect.of("")), is("other"));
+        assertThat(dispatcher.pull(Aspect.of(VisibleAspectDefinition.NAME)), is(true));
+
+        boundObject[0] = testPmo;
+
+        assertThat(dispatcher.pull(Aspect.of("")), is("890"));
+    }
+
+    @Test
+    public void testPush_BoundObjectClassChanged() {
+        TestModelObject modelObject = new TestModelObject();
+        Object[] boundObject = { testPmo };
+        ReflectionPropertyDispatcher dispatcher = new ReflectionPropertyDispatcher(() -> boundObject[0],
+                TestPMO.PROPERTY_XYZ, new ExceptionPropertyDispatcher(TestPMO.PROPERTY_XYZ));
+        assertThat(dispatcher.isPushable(Aspect.of("", "abc")), is(false));
+
+        boundObject[0] = modelObject;
+
+        assertThat(dispatcher.isPushable(Aspect.of("", "abc")), is(true));
+        dispatcher.push(Aspect.of("", "abc"));
+        assertThat(modelObject.getXyz(), is("abc"));
+    }
+
     private static PropertyDispatcher noActionInPushMockedDispatcher() {
         PropertyDispatcher mockedDispatcher = mock(PropertyDispatcher.class);
         doNothing().when(mockedDispatcher).push(ArgumentMatchers.<Aspect<?>> any());
@@ -406,6 +440,18 @@ public class ReflectionPropertyDispatcherTest {
                 modelObjectDispatcher);
     }
 
+    public static class OtherXyz {
+
+        public String getXyz() {
+            return "other";
+        }
+
+        public boolean isXyzVisible() {
+            return true;
+        }
+
+    }
+
     public static class TestPMO {
 
         public static final String PROPERTY_PMO_PROP = "pmoProp";
@@ -0,0 +1,108 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.dispatcher.reflection.accessor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.LinkkiBindingException;
+
+public class GeneratedPropertyAccessorTest {
+
+    private final TestObject testObject = new TestObject();
+
+    private final GeneratedPropertyAccessor<TestObject, String> stringAccessor = new GeneratedPropertyAccessor<>(
+            TestObject.class, TestObject.STRING_PROPERTY, String.class, TestObject::getStringProperty,
+            TestObject::setStringProperty, null);
+
+    private final GeneratedPropertyAccessor<TestObject, Object> invokeAccessor = new GeneratedPropertyAccessor<>(
+            TestObject.class, "doSomething", null, null, null, TestObject::doSomething);
+
+    @Test
+    public void testGetPropertyValue() {
+        testObject.setStringProperty("value");
+
+        assertThat(stringAccessor.getPropertyValue(testObject), is("value"));
+    }
+
+    @Test
+    public void testGetPropertyValue_NoGetter() {
+        assertThrows(IllegalStateException.class, () -> invokeAccessor.getPropertyValue(testObject));
+    }
+
+    @Test
+    public void testGetPropertyValue_WrapsException() {
+        GeneratedPropertyAccessor<TestObject, String> accessor = new GeneratedPropertyAccessor<>(TestObject.class,
+                TestObject.STRING_PROPERTY, String.class, o -> {
+                    throw new IllegalStateException();
+                }, null, null);
+
+        assertThrows(LinkkiBindingException.class, () -> accessor.getPropertyValue(testObject));
+    }
+
+    @Test
+    public void testSetPropertyValue() {
+        stringAccessor.setPropertyValue(testObject, "value");
+
+        assertThat(testObject.getStringProperty(), is("value"));
+    }
+
+    @Test
+    public void testSetPropertyValue_NoSetter() {
+        assertThrows(LinkkiBindingException.class, () -> invokeAccessor.setPropertyValue(testObject, "value"));
+    }
+
+    @Test
+    public void testInvoke() {
+        invokeAccessor.invoke(testObject);
+    }
+
+    @Test
+    public void testInvoke_NoInvoker() {
+        assertThrows(LinkkiBindingException.class, () -> stringAccessor.invoke(testObject));
+    }
+
+    @Test
+    public void testCanReadWriteInvoke() {
+        assertThat(stringAccessor.canRead(), is(true));
+        assertThat(stringAccessor.canWrite(), is(true));
+        assertThat(stringAccessor.canInvoke(), is(false));
+        assertThat(invokeAccessor.canRead(), is(false));
+        assertThat(invokeAccessor.canWrite(), is(false));
+        assertThat(invokeAccessor.canInvoke(), is(true));
+    }
+
+    @Test
+    public void testGetValueClass() {
+        assertThat(stringAccessor.getValueClass(), is(String.class));
+        assertThrows(IllegalArgumentException.class, invokeAccessor::getValueClass);
+    }
+
+    @Test
+    public void testConstructor_GetterWithoutValueClass() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new GeneratedPropertyAccessor<>(TestObject.class, TestObject.STRING_PROPERTY, null,
+                             TestObject::getStringProperty, null, null));
+    }
+
+    @Test
+    public void testGetPropertyValue_Null() {
+        assertThat(stringAccessor.getPropertyValue(testObject), is(nullValue()));
+    }
+
+}
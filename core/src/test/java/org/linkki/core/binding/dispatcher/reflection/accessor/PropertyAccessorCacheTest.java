@@ -14,11 +14,14 @@
 
 package org.linkki.core.binding.dispatcher.reflection.accessor;
 
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.dispatcher.reflection.accessor.TestPropertyAccessorProvider.ProvidedObject;
 
 public class PropertyAccessorCacheTest {
 
@@ -32,5 +35,36 @@ public class PropertyAccessorCacheTest {
                    is(sameInstance(propertyAccessor)));
     }
 
+    @Test
+    public void testGet_ProvidedAccessor() {
+        PropertyAccessor<ProvidedObject, ?> propertyAccessor = PropertyAccessorCache.get(ProvidedObject.class,
+                                                                                         ProvidedObject.PROPERTY_VALUE);
+
+        assertThat(propertyAccessor, is(instanceOf(GeneratedPropertyAccessor.class)));
+        assertThat(propertyAccessor.getPropertyName(), is(ProvidedObject.PROPERTY_VALUE));
+        assertThat(PropertyAccessorCache.get(ProvidedObject.class, ProvidedObject.PROPERTY_VALUE),
+                   is(sameInstance(propertyAccessor)));
+    }
+
+    @Test
+    public void testGet_PropertyNotProvided() {
+        PropertyAccessor<ProvidedObject, ?> propertyAccessor = PropertyAccessorCache
+                .get(ProvidedObject.class, ProvidedObject.PROPERTY_NOT_PROVIDED);
+
+        assertThat(propertyAccessor, is(not(instanceOf(GeneratedPropertyAccessor.class))));
+        assertThat(propertyAccessor.getPropertyValue(new ProvidedObject()), is(42));
+    }
+
+    @Test
+    public void testGet_SubclassOfProvidedClass() {
+        PropertyAccessor<ProvidedSubclass, ?> propertyAccessor = PropertyAccessorCache
+                .get(ProvidedSubclass.class, ProvidedObject.PROPERTY_VALUE);
+
+        assertThat(propertyAccessor, is(not(instanceOf(GeneratedPropertyAccessor.class))));
+    }
+
+    public static class ProvidedSubclass extends ProvidedObject {
+        // uses reflection
+    }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.core.binding.dispatcher.reflection.accessor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Provides the accessors of {@link ProvidedObject} like a generated provider would. Registered in
+ * <code>META-INF/services</code> of the test resources.
+ */
+public class TestPropertyAccessorProvider implements PropertyAccessorProvider {
+
+    @Override
+    public Class<?> getBoundClass() {
+        return ProvidedObject.class;
+    }
+
+    @Override
+    public Map<String, PropertyAccessor<?, ?>> getPropertyAccessors() {
+        Map<String, PropertyAccessor<?, ?>> accessors = new HashMap<>();
+        accessors.put(ProvidedObject.PROPERTY_VALUE,
+                      new GeneratedPropertyAccessor<>(ProvidedObject.class, ProvidedObject.PROPERTY_VALUE,
+                              String.class, ProvidedObject::getValue, ProvidedObject::setValue, null));
+        accessors.put(ProvidedObject.PROPERTY_RESET,
+                      new GeneratedPropertyAccessor<ProvidedObject, Object>(ProvidedObject.class,
+                              ProvidedObject.PROPERTY_RESET, null, null, null, ProvidedObject::reset));
+        return accessors;
+    }
+
+    public static class ProvidedObject {
+
+        public static final String PROPERTY_VALUE = "value";
+        public static final String PROPERTY_RESET = "reset";
+        public static final String PROPERTY_NOT_PROVIDED = "notProvided";
+
+        @CheckForNull
+        private String value;
+
+        @CheckForNull
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(@CheckForNull String value) {
+            this.value = value;
+        }
+
+        public void reset() {
+            value = null;
+        }
+
+        public int getNotProvided() {
+            return 42;
+        }
+
+    }
+
+}
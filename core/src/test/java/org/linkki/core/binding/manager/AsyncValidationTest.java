@@ -0,0 +1,198 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.manager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+
+public class AsyncValidationTest {
+
+    private final AtomicInteger validationCount = new AtomicInteger();
+
+    private final Deque<Runnable> validationTasks = new ArrayDeque<>();
+
+    private final Deque<Runnable> uiTasks = new ArrayDeque<>();
+
+    private final List<MessageList> displayedMessages = new ArrayList<>();
+
+    private final List<Long> validationDurations = new ArrayList<>();
+
+    private final AsyncValidation asyncValidation = new AsyncValidation(this::validate, validationTasks::add,
+            uiTasks::add, displayedMessages::add, validationDurations::add);
+
+    private Runnable duringValidation = () -> {
+        // nothing to do
+    };
+
+    private MessageList validate() {
+        duringValidation.run();
+        return new MessageList(Message.newError("e" + validationCount.incrementAndGet(), "E"));
+    }
+
+    @Test
+    public void testRequestValidation() {
+        asyncValidation.requestValidation();
+
+        assertThat(asyncValidation.isScheduled(), is(true));
+        assertThat(validationCount.get(), is(0));
+
+        validationTasks.remove().run();
+
+        assertThat(asyncValidation.isScheduled(), is(false));
+        assertThat(validationCount.get(), is(1));
+        assertThat(validationDurations.size(), is(1));
+        assertThat(displayedMessages, is(empty()));
+
+        uiTasks.remove().run();
+
+        assertThat(displayedMessages, contains(new MessageList(Message.newError("e1", "E"))));
+    }
+
+    @Test
+    public void testRequestValidation_CoalescesScheduledRequests() {
+        asyncValidation.requestValidation();
+        asyncValidation.requestValidation();
+        asyncValidation.requestValidation();
+
+        assertThat(validationTasks.size(), is(1));
+
+        validationTasks.remove().run();
+        uiTasks.remove().run();
+
+        assertThat(validationCount.get(), is(1));
+        assertThat(displayedMessages.size(), is(1));
+    }
+
+    @Test
+    public void testRequestValidation_DiscardsStaleResultBeforeUiUpdate() {
+        asyncValidation.requestValidation();
+        validationTasks.remove().run();
+
+        asyncValidation.requestValidation();
+        uiTasks.remove().run();
+
+        assertThat(displayedMessages, is(empty()));
+
+        validationTasks.remove().run();
+        uiTasks.remove().run();
+
+        assertThat(displayedMessages, contains(new MessageList(Message.newError("e2", "E"))));
+    }
+
+    @Test
+    public void testRequestValidation_DiscardsStaleResultWhileValidating() {
+        duringValidation = asyncValidation::requestValidation;
+
+        asyncValidation.requestValidation();
+        validationTasks.remove().run();
+
+        assertThat(uiTasks, is(empty()));
+        assertThat(asyncValidation.isScheduled(), is(true));
+    }
+
+    @Test
+    public void testRequestValidation_RunsSingleValidationAtATime() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            duringValidation = () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            };
+            AsyncValidation validation = new AsyncValidation(this::validate, executor, Runnable::run,
+                    displayedMessages::add, validationDurations::add);
+
+            validation.requestValidation();
+            assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+            for (int i = 0; i < 10; i++) {
+                validation.requestValidation();
+            }
+            release.countDown();
+            for (int i = 0; i < 500 && validation.isScheduled(); i++) {
+                Thread.sleep(10);
+            }
+
+            assertThat(validation.isScheduled(), is(false));
+            assertThat(maxRunning.get(), is(1));
+            assertThat(validationCount.get(), is(2));
+            assertThat(displayedMessages, contains(new MessageList(Message.newError("e2", "E"))));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancel() {
+        asyncValidation.requestValidation();
+        validationTasks.remove().run();
+
+        asyncValidation.cancel();
+        uiTasks.remove().run();
+
+        assertThat(displayedMessages, is(empty()));
+    }
+
+    @Test
+    public void testRequestValidation_ValidationFails() {
+        AsyncValidation validation = new AsyncValidation(() -> {
+            throw new IllegalStateException();
+        }, validationTasks::add, uiTasks::add, displayedMessages::add, validationDurations::add);
+
+        validation.requestValidation();
+        validationTasks.remove().run();
+
+        assertThat(uiTasks, is(empty()));
+        assertThat(validationDurations, is(empty()));
+        assertThat(validation.isScheduled(), is(false));
+    }
+
+    @Test
+    public void testRequestValidation_ExecutorRejects() {
+        AsyncValidation validation = new AsyncValidation(this::validate, r -> {
+            throw new RejectedExecutionException();
+        }, uiTasks::add, displayedMessages::add, validationDurations::add);
+
+        assertThrows(RejectedExecutionException.class, validation::requestValidation);
+
+        assertThat(validation.isScheduled(), is(false));
+    }
+
+}
@@ -13,21 +13,49 @@
  */
 package org.linkki.core.binding.manager;
 
+import static java.util.Objects.requireNonNull;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 import org.linkki.core.binding.Binding;
 import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.ElementBinding;
+import org.linkki.core.binding.TestPmo;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.metrics.BindingMetrics;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+import org.linkki.core.binding.metrics.InMemoryBindingMetrics;
+import org.linkki.core.binding.validation.IncrementalValidationService;
+import org.linkki.core.binding.validation.ValidationDelta;
 import org.linkki.core.binding.validation.ValidationDisplayState;
 import org.linkki.core.binding.validation.ValidationService;
+import org.linkki.core.binding.validation.message.IndexedMessageList;
 import org.linkki.core.binding.validation.message.Message;
 import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.ObjectProperty;
 import org.linkki.core.binding.validation.message.Severity;
 import org.linkki.core.defaults.nls.TestComponentWrapper;
 import org.linkki.core.defaults.nls.TestUiComponent;
@@ -90,6 +118,19 @@ public class BindingManagerTest {
         assertThat(context.messages, is(equalTo(filteredMessageList)));
     }
 
+    @Test
+    public void testAfterUpdateUi_displaysIndexedMessages() {
+        validationService = () -> new MessageList(Message.newError("e1", "E1"));
+        TestBindingManager bindingManager = new TestBindingManager(validationService);
+        TestBindingContext context = bindingManager.getContext("foo");
+        TestBindingContext otherContext = bindingManager.getContext("bar");
+
+        bindingManager.afterUpdateUi();
+
+        assertThat(context.messages, is(instanceOf(IndexedMessageList.class)));
+        assertThat(otherContext.messages, is(sameInstance(context.messages)));
+    }
+
     @Test
     public void testAfterUpdateUi_UpdateObserverChangesMessageRelevantField() {
         Message e1 = Message.newError("e1", "E1");
@@ -105,6 +146,191 @@ public class BindingManagerTest {
         assertThat(binding.getMessages(), is(messageList));
     }
 
+    @Test
+    public void testAfterUpdateUi_AsyncValidation() {
+        MessageList messageList = new MessageList(Message.newError("e1", "E1"));
+        validationService = () -> messageList;
+        TestBindingManager bindingManager = new TestBindingManager(validationService);
+        TestBindingContext context = bindingManager.getContext("foo");
+        Deque<Runnable> validationTasks = new ArrayDeque<>();
+        Deque<Runnable> uiTasks = new ArrayDeque<>();
+        bindingManager.enableAsyncValidation(validationTasks::add, uiTasks::add);
+
+        bindingManager.afterUpdateUi();
+
+        assertThat(bindingManager.isAsyncValidation(), is(true));
+        assertThat(context.messages, is(nullValue()));
+
+        validationTasks.remove().run();
+        uiTasks.remove().run();
+
+        assertThat(context.messages, is(equalTo(messageList)));
+    }
+
+    @Test
+    public void testDisableAsyncValidation() {
+        MessageList messageList = new MessageList(Message.newError("e1", "E1"));
+        validationService = () -> messageList;
+        TestBindingManager bindingManager = new TestBindingManager(validationService);
+        TestBindingContext context = bindingManager.getContext("foo");
+        Deque<Runnable> validationTasks = new ArrayDeque<>();
+        Deque<Runnable> uiTasks = new ArrayDeque<>();
+        bindingManager.enableAsyncValidation(validationTasks::add, uiTasks::add);
+        bindingManager.afterUpdateUi();
+        validationTasks.remove().run();
+
+        bindingManager.disableAsyncValidation();
+        uiTasks.remove().run();
+
+        assertThat(bindingManager.isAsyncValidation(), is(false));
+        assertThat(context.messages, is(nullValue()));
+
+        bindingManager.afterUpdateUi();
+
+        assertThat(context.messages, is(equalTo(messageList)));
+        assertThat(validationTasks.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAfterUpdateUi_OverridingUpdateMessagesCanModifyMessages() {
+        validationService = () -> new MessageList(Message.newError("e1", "E1"));
+        TestBindingManager bindingManager = new TestBindingManager(validationService) {
+
+            @Override
+            protected void updateMessages(MessageList messages) {
+                messages.add(Message.newWarning("w1", "W1"));
+                super.updateMessages(messages);
+            }
+
+        };
+        TestBindingContext context = bindingManager.getContext("foo");
+
+        bindingManager.afterUpdateUi();
+
+        assertThat(requireNonNull(context.messages).size(), is(2));
+    }
+
+    @Test
+    public void testAfterUpdateUi_IncrementalValidation() {
+        TestIncrementalValidationService incrementalValidationService = new TestIncrementalValidationService();
+        TestBindingManager bindingManager = new TestBindingManager(incrementalValidationService);
+        TestBindingContext context = bindingManager.getContext("foo");
+        TestPmo pmo1 = new TestPmo();
+        TestPmo pmo2 = new TestPmo();
+        incrementalValidationService.pmos = Arrays.asList(pmo1, pmo2);
+        pmo2.setValue(TestIncrementalValidationService.INVALID);
+        TestUiComponent component1 = spy(new TestUiComponent());
+        TestUiComponent component2 = spy(new TestUiComponent());
+        Binding binding1 = context.bind(pmo1, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                                        new TestComponentWrapper(component1));
+        context.bind(pmo2, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                     new TestComponentWrapper(component2));
+        bindingManager.afterUpdateUi();
+
+        assertThat(incrementalValidationService.fullValidations, is(1));
+        assertThat(component2.getValidationMessages().size(), is(1));
+
+        reset(component1, component2);
+        ((ElementBinding)binding1).getPropertyDispatcher()
+                .push(Aspect.of("", TestIncrementalValidationService.INVALID));
+        context.modelChanged();
+
+        assertThat(incrementalValidationService.fullValidations, is(1));
+        assertThat(incrementalValidationService.changedProperties,
+                   contains(new ObjectProperty(pmo1, TestPmo.PROPERTY_VALUE)));
+        assertThat(component1.getValidationMessages().size(), is(1));
+        verify(component2, never()).setValidationMessages(any(MessageList.class));
+        assertThat(requireNonNull(context.messages).size(), is(2));
+    }
+
+    @Test
+    public void testAfterUpdateUi_IncrementalValidation_CallsUpdateMessages() {
+        TestIncrementalValidationService incrementalValidationService = new TestIncrementalValidationService();
+        List<MessageList> updatedMessages = new ArrayList<>();
+        TestBindingManager bindingManager = new TestBindingManager(incrementalValidationService) {
+
+            @Override
+            protected void updateMessages(MessageList messages) {
+                super.updateMessages(messages);
+                updatedMessages.add(messages);
+            }
+
+        };
+        TestBindingContext context = bindingManager.getContext("foo");
+        TestPmo pmo = new TestPmo();
+        incrementalValidationService.pmos = Arrays.asList(pmo);
+        Binding binding = context.bind(pmo, BoundProperty.of(TestPmo.PROPERTY_VALUE), Collections.emptyList(),
+                                       new TestComponentWrapper(new TestUiComponent()));
+        bindingManager.afterUpdateUi();
+
+        ((ElementBinding)binding).getPropertyDispatcher()
+                .push(Aspect.of("", TestIncrementalValidationService.INVALID));
+        context.modelChanged();
+
+        assertThat(incrementalValidationService.fullValidations, is(1));
+        assertThat(updatedMessages.size(), is(2));
+        assertThat(updatedMessages.get(1).size(), is(1));
+    }
+
+    @Test
+    public void testAfterUpdateUi_IncrementalValidation_UnknownChange() {
+        TestIncrementalValidationService incrementalValidationService = new TestIncrementalValidationService();
+        TestBindingManager bindingManager = new TestBindingManager(incrementalValidationService);
+        TestBindingContext context = bindingManager.getContext("foo");
+        TestPmo pmo = new TestPmo();
+        incrementalValidationService.pmos = Arrays.asList(pmo);
+        Binding binding = context.bind(pmo, BoundProperty.of(""), Collections.emptyList(),
+                                       new TestComponentWrapper(new TestUiComponent()));
+        bindingManager.afterUpdateUi();
+
+        ((ElementBinding)binding).getPropertyDispatcher().push(Aspect.of("click"));
+        context.modelChanged();
+
+        assertThat(incrementalValidationService.fullValidations, is(2));
+        assertThat(incrementalValidationService.changedProperties, is(nullValue()));
+    }
+
+    @Test
+    public void testMetrics() {
+        TestBindingManager bindingManager = new TestBindingManager(() -> new MessageList());
+        BindingContext existingContext = bindingManager.getContext("foo");
+        InMemoryBindingMetrics metrics = new InMemoryBindingMetrics();
+
+        bindingManager.setMetrics(metrics);
+        BindingContext newContext = bindingManager.getContext("bar");
+        bindingManager.afterUpdateUi();
+
+        assertThat(bindingManager.getMetrics(), is(metrics));
+        assertThat(existingContext.getMetrics(), is(metrics));
+        assertThat(newContext.getMetrics(), is(metrics));
+        assertThat(metrics.getHistogram(Phase.VALIDATION, TestBindingManager.class.getSimpleName()).getCount(),
+                   is(1L));
+        assertThat(metrics.getHistogram(Phase.DISPLAY_MESSAGES, "foo").getCount(), is(1L));
+        assertThat(metrics.getHistogram(Phase.DISPLAY_MESSAGES, "bar").getCount(), is(1L));
+    }
+
+    @Test
+    public void testMetrics_IncrementalValidation() {
+        TestIncrementalValidationService incrementalValidationService = new TestIncrementalValidationService();
+        TestBindingManager bindingManager = new TestBindingManager(incrementalValidationService);
+        bindingManager.getContext("foo");
+        InMemoryBindingMetrics metrics = new InMemoryBindingMetrics();
+        bindingManager.setMetrics(metrics);
+
+        bindingManager.afterUpdateUi();
+
+        assertThat(metrics.getHistogram(Phase.VALIDATION, TestBindingManager.class.getSimpleName()).getCount(),
+                   is(1L));
+    }
+
+    @Test
+    public void testMetrics_Default() {
+        TestBindingManager bindingManager = new TestBindingManager(() -> new MessageList());
+
+        assertThat(bindingManager.getMetrics(), is(BindingMetrics.NONE));
+        assertThat(bindingManager.getContext("foo").getMetrics(), is(BindingMetrics.NONE));
+    }
+
     @Test
     public void testRegisterUiUpdateObserver() {
         TestBindingManager bindingManager = new TestBindingManager(() -> new MessageList());
@@ -147,6 +373,12 @@ public class BindingManagerTest {
             return this.messages = newMessages;
         }
 
+        @Override
+        public void displayMessages(MessageList newMessages, MessageList changedMessages) {
+            super.displayMessages(newMessages, changedMessages);
+            this.messages = newMessages;
+        }
+
     }
 
     private static class TestBindingManager extends BindingManager {
@@ -177,6 +409,41 @@ public class BindingManagerTest {
 
     }
 
+    private static class TestIncrementalValidationService implements IncrementalValidationService {
+
+        static final String INVALID = "invalid";
+
+        private List<TestPmo> pmos = Collections.emptyList();
+
+        private int fullValidations;
+
+        @CheckForNull
+        private Set<ObjectProperty> changedProperties;
+
+        @Override
+        public MessageList getValidationMessages() {
+            fullValidations++;
+            return validate(pmos);
+        }
+
+        @Override
+        public ValidationDelta getValidationDelta(Set<ObjectProperty> changed) {
+            this.changedProperties = changed;
+            List<Object> scope = changed.stream().map(ObjectProperty::getObject).collect(Collectors.toList());
+            return ValidationDelta.of(scope, validate(scope));
+        }
+
+        private MessageList validate(List<?> objects) {
+            return objects.stream()
+                    .map(TestPmo.class::cast)
+                    .filter(pmo -> INVALID.equals(pmo.getValue()))
+                    .map(pmo -> Message.builder(INVALID, Severity.ERROR)
+                            .invalidObjectWithProperties(pmo, TestPmo.PROPERTY_VALUE).create())
+                    .collect(MessageList.collector());
+        }
+
+    }
+
     private static class TestBinding implements Binding {
 
         private final Object boundObject;
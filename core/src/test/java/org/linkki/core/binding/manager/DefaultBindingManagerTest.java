@@ -29,6 +29,8 @@ import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
 import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.refresh.PropertyDependencies;
+import org.linkki.core.binding.refresh.RefreshStrategy;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.defaults.nls.TestComponentWrapper;
 import org.linkki.core.defaults.nls.TestUiComponent;
@@ -76,4 +78,22 @@ public class DefaultBindingManagerTest {
 
         verify(dispatcherFactory, times(1)).createDispatcherChain(any(), any(), any());
     }
+
+    @Test
+    public void testStartNewContext_BindingContextUsesRefreshStrategy() {
+        RefreshStrategy refreshStrategy = RefreshStrategy.incremental(PropertyDependencies.INDEPENDENT);
+        DefaultBindingManager defaultBindingManager = new DefaultBindingManager(() -> new MessageList(),
+                behaviorProvider1, dispatcherFactory, refreshStrategy);
+
+        assertThat(defaultBindingManager.getContext("foo").getRefreshStrategy(), is(refreshStrategy));
+        assertThat(defaultBindingManager.createContext("bar", behaviorProvider2).getRefreshStrategy(),
+                   is(refreshStrategy));
+    }
+
+    @Test
+    public void testStartNewContext_FullRefreshByDefault() {
+        DefaultBindingManager defaultBindingManager = new DefaultBindingManager();
+
+        assertThat(defaultBindingManager.getContext("foo").getRefreshStrategy(), is(RefreshStrategy.FULL));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void testRecord() {
+        Histogram histogram = new Histogram();
+
+        histogram.record(10);
+        histogram.record(30);
+        histogram.record(-5);
+
+        assertThat(histogram.getCount(), is(3L));
+        assertThat(histogram.getTotalNanos(), is(40L));
+        assertThat(histogram.getMaxNanos(), is(30L));
+        assertThat(histogram.getMeanNanos(), is(40.0 / 3));
+    }
+
+    @Test
+    public void testGetPercentileNanos() {
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10);
+        }
+        histogram.record(1000);
+
+        assertThat(histogram.getPercentileNanos(0.5), is(15L));
+        assertThat(histogram.getPercentileNanos(0.99), is(15L));
+        assertThat(histogram.getPercentileNanos(1), is(1000L));
+    }
+
+    @Test
+    public void testGetPercentileNanos_Empty() {
+        assertThat(new Histogram().getPercentileNanos(0.5), is(0L));
+    }
+
+    @Test
+    public void testGetPercentileNanos_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentileNanos(1.5));
+    }
+
+    @Test
+    public void testAdd() {
+        Histogram histogram = new Histogram();
+        histogram.record(10);
+        Histogram other = new Histogram();
+        other.record(100);
+
+        histogram.add(other);
+
+        assertThat(histogram.getCount(), is(2L));
+        assertThat(histogram.getTotalNanos(), is(110L));
+        assertThat(histogram.getMaxNanos(), is(100L));
+        assertThat(histogram.getPercentileNanos(1), is(100L));
+    }
+
+    @Test
+    public void testCopy() {
+        Histogram histogram = new Histogram();
+        histogram.record(10);
+
+        Histogram copy = histogram.copy();
+        histogram.record(20);
+
+        assertThat(copy.getCount(), is(1L));
+        assertThat(copy.getTotalNanos(), is(10L));
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+import org.linkki.core.binding.metrics.InMemoryBindingMetrics.PropertyTiming;
+
+public class InMemoryBindingMetricsTest {
+
+    private final InMemoryBindingMetrics metrics = new InMemoryBindingMetrics();
+
+    @Test
+    public void testGetHistogram_Name() {
+        metrics.phaseCompleted(Phase.UPDATE_FROM_PMO, "context", 10);
+        metrics.phaseCompleted(Phase.UPDATE_FROM_PMO, "context", 20);
+        metrics.phaseCompleted(Phase.UPDATE_FROM_PMO, "other", 40);
+        metrics.phaseCompleted(Phase.DISPLAY_MESSAGES, "context", 80);
+
+        Histogram histogram = metrics.getHistogram(Phase.UPDATE_FROM_PMO, "context");
+
+        assertThat(histogram.getCount(), is(2L));
+        assertThat(histogram.getTotalNanos(), is(30L));
+        assertThat(metrics.getHistogram(Phase.VALIDATION, "context").getCount(), is(0L));
+    }
+
+    @Test
+    public void testGetHistogram_PmoClass() {
+        metrics.propertyCompleted(Phase.PUSH, "context", String.class, "a", 10);
+        metrics.propertyCompleted(Phase.PUSH, "other", String.class, "b", 20);
+        metrics.propertyCompleted(Phase.PUSH, "context", Integer.class, "a", 40);
+        metrics.propertyCompleted(Phase.UPDATE_FROM_PMO, "context", String.class, "a", 80);
+
+        Histogram histogram = metrics.getHistogram(Phase.PUSH, String.class);
+
+        assertThat(histogram.getCount(), is(2L));
+        assertThat(histogram.getTotalNanos(), is(30L));
+    }
+
+    @Test
+    public void testGetSlowestProperties() {
+        metrics.propertyCompleted(Phase.UPDATE_FROM_PMO, "context", String.class, "fast", 10);
+        metrics.propertyCompleted(Phase.UPDATE_FROM_PMO, "context", String.class, "slow", 100);
+        metrics.propertyCompleted(Phase.UPDATE_FROM_PMO, "context", String.class, "often", 60);
+        metrics.propertyCompleted(Phase.UPDATE_FROM_PMO, "context", String.class, "often", 60);
+
+        List<PropertyTiming> slowest = metrics.getSlowestProperties(Phase.UPDATE_FROM_PMO, 2);
+
+        assertThat(slowest.stream().map(PropertyTiming::getProperty).collect(Collectors.toList()),
+                   contains("often", "slow"));
+        assertThat(slowest.get(0).getHistogram().getCount(), is(2L));
+        assertThat(slowest.get(0).getPmoClass(), is(String.class));
+        assertThat(slowest.get(0).getContextName(), is("context"));
+        assertThat(metrics.getSlowestProperties(Phase.PUSH, 2), is(empty()));
+    }
+
+    @Test
+    public void testReset() {
+        metrics.phaseCompleted(Phase.VALIDATION, "manager", 10);
+        metrics.propertyCompleted(Phase.PUSH, "context", String.class, "a", 10);
+
+        metrics.reset();
+
+        assertThat(metrics.getHistogram(Phase.VALIDATION, "manager").getCount(), is(0L));
+        assertThat(metrics.getSlowestProperties(Phase.PUSH, 1), is(empty()));
+    }
+
+}
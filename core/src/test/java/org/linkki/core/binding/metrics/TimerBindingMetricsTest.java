@@ -0,0 +1,54 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.metrics.BindingMetrics.Phase;
+
+public class TimerBindingMetricsTest {
+
+    private final List<String> recorded = new ArrayList<>();
+
+    private final TimerBindingMetrics metrics = new TimerBindingMetrics(
+            (name, durationNanos, tags) -> recorded.add(name + " " + durationNanos + " " + Arrays.toString(tags)));
+
+    @Test
+    public void testPhaseCompleted() {
+        metrics.phaseCompleted(Phase.UPDATE_FROM_PMO, "context", 42);
+
+        assertThat(recorded, contains("linkki.binding.update.from.pmo 42 [name, context]"));
+    }
+
+    @Test
+    public void testPropertyCompleted() {
+        metrics.propertyCompleted(Phase.PUSH, "context", String.class, "value", 42);
+
+        assertThat(recorded,
+                   contains("linkki.binding.push.property 42 [context, context, pmo, java.lang.String, property, value]"));
+    }
+
+    @Test
+    public void testGetTimerName() {
+        assertThat(TimerBindingMetrics.getTimerName(Phase.DISPLAY_MESSAGES), is("linkki.binding.display.messages"));
+    }
+
+}
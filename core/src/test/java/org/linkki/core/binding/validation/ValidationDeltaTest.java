@@ -0,0 +1,87 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.Severity;
+
+public class ValidationDeltaTest {
+
+    private final Object object1 = new Object();
+
+    private final Object object2 = new Object();
+
+    private final Message message1 = Message.builder("m1", Severity.ERROR)
+            .invalidObjectWithProperties(object1, "value").create();
+
+    private final Message message2 = Message.builder("m2", Severity.ERROR)
+            .invalidObjectWithProperties(object2, "value").create();
+
+    private final Message globalMessage = Message.newWarning("global", "global");
+
+    @Test
+    public void testApplyTo() {
+        Message newMessage1 = Message.builder("new", Severity.INFO)
+                .invalidObjectWithProperties(object1, "other").create();
+        ValidationDelta delta = ValidationDelta.of(Arrays.asList(object1), new MessageList(newMessage1));
+
+        MessageList messages = delta.applyTo(new MessageList(message1, message2, globalMessage));
+
+        assertThat(messages, is(new MessageList(message2, globalMessage, newMessage1)));
+    }
+
+    @Test
+    public void testApplyTo_All() {
+        ValidationDelta delta = ValidationDelta.all(new MessageList(message2));
+
+        MessageList messages = delta.applyTo(new MessageList(message1, globalMessage));
+
+        assertThat(delta.isAll(), is(true));
+        assertThat(messages, is(new MessageList(message2)));
+    }
+
+    @Test
+    public void testApplyTo_None() {
+        MessageList messages = ValidationDelta.none().applyTo(new MessageList(message1, globalMessage));
+
+        assertThat(ValidationDelta.none().isAll(), is(false));
+        assertThat(messages, is(new MessageList(message1, globalMessage)));
+    }
+
+    @Test
+    public void testGetReplacedMessages() {
+        ValidationDelta delta = ValidationDelta.of(Collections.singleton(object2), new MessageList());
+
+        assertThat(delta.getReplacedMessages(new MessageList(message1, message2, globalMessage)),
+                   is(new MessageList(message2)));
+    }
+
+    @Test
+    public void testIsInScope_ComparesIdentity() {
+        ValidationDelta delta = ValidationDelta.of(Collections.singleton(new String("value")), new MessageList());
+        Message message = Message.builder("m", Severity.ERROR).invalidObjectWithProperties("value", "length")
+                .create();
+
+        assertThat(delta.isInScope(message), is(false));
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.validation.message;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.linkki.core.matcher.MessageMatchers.emptyMessageList;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedMessageListTest {
+
+    private final Object a = new Object();
+    private final Object b = new Object();
+
+    private final Message msgA = Message.builder("A", Severity.ERROR).code("code1")
+            .invalidObject(new ObjectProperty(a, "prop")).create();
+    private final Message msgAIndexed = Message.builder("A indexed", Severity.WARNING).code("code2")
+            .invalidObject(new ObjectProperty(a, "prop", 2)).create();
+    private final Message msgAB = Message.builder("A and B", Severity.INFO).code("code1")
+            .invalidObjects(new ObjectProperty(a, "other"), new ObjectProperty(b, "prop"), new ObjectProperty(a))
+            .create();
+    private final Message msgWithoutObject = Message.builder("none", Severity.INFO).create();
+
+    private final MessageList messageList = new MessageList(msgA, msgAIndexed, msgAB, msgWithoutObject);
+
+    @Test
+    public void testOf() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThat(indexedMessages, contains(msgA, msgAIndexed, msgAB, msgWithoutObject));
+        assertThat(indexedMessages, is(messageList));
+        assertThat(IndexedMessageList.of(indexedMessages), is(sameInstance(indexedMessages)));
+    }
+
+    @Test
+    public void testGetMessagesFor_Object() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThat(indexedMessages.getMessagesFor(a), contains(msgA, msgAIndexed, msgAB));
+        assertThat(indexedMessages.getMessagesFor(a, ""), contains(msgA, msgAIndexed, msgAB));
+        assertThat(indexedMessages.getMessagesFor(b), contains(msgAB));
+        assertThat(indexedMessages.getMessagesFor(new Object()), is(emptyMessageList()));
+    }
+
+    @Test
+    public void testGetMessagesFor_Property() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThat(indexedMessages.getMessagesFor(a, "prop"), contains(msgA, msgAIndexed));
+        assertThat(indexedMessages.getMessagesFor(a, "other"), contains(msgAB));
+        assertThat(indexedMessages.getMessagesFor(b, "prop"), contains(msgAB));
+        assertThat(indexedMessages.getMessagesFor(b, "other"), is(emptyMessageList()));
+    }
+
+    @Test
+    public void testGetMessagesFor_Index() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThat(indexedMessages.getMessagesFor(a, "prop", 2), contains(msgAIndexed));
+        assertThat(indexedMessages.getMessagesFor(a, "prop", 1), is(emptyMessageList()));
+    }
+
+    @Test
+    public void testGetMessagesFor_SameAsMessageList() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        for (Object object : new Object[] { a, b }) {
+            for (String property : new String[] { null, "", "prop", "other", "unknown" }) {
+                for (int index = -1; index < 3; index++) {
+                    assertThat(indexedMessages.getMessagesFor(object, property, index),
+                               is(messageList.getMessagesFor(object, property, index)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetMessagesFor_ResultIsModifiable() {
+        MessageList messagesForA = IndexedMessageList.of(messageList).getMessagesFor(a, "prop");
+
+        messagesForA.add(msgWithoutObject);
+
+        assertThat(messagesForA, contains(msgA, msgAIndexed, msgWithoutObject));
+    }
+
+    @Test
+    public void testGetMessageByCode() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThat(indexedMessages.getMessageByCode("code1"), is(Optional.of(msgA)));
+        assertThat(indexedMessages.getMessageByCode("code2"), is(Optional.of(msgAIndexed)));
+        assertThat(indexedMessages.getMessageByCode(null), is(Optional.of(msgWithoutObject)));
+        assertThat(indexedMessages.getMessageByCode("unknown"), is(Optional.empty()));
+    }
+
+    @Test
+    public void testGetMessagesByCode() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThat(indexedMessages.getMessagesByCode("code1"), contains(msgA, msgAB));
+        assertThat(indexedMessages.getMessagesByCode("unknown"), is(emptyMessageList()));
+    }
+
+    @Test
+    public void testAdd_Unsupported() {
+        IndexedMessageList indexedMessages = IndexedMessageList.of(messageList);
+
+        assertThrows(UnsupportedOperationException.class, () -> indexedMessages.add(msgA));
+        assertThrows(UnsupportedOperationException.class, () -> indexedMessages.clear());
+    }
+
+}
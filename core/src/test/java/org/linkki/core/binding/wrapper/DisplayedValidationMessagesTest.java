@@ -0,0 +1,74 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.binding.wrapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+
+public class DisplayedValidationMessagesTest {
+
+    @Test
+    public void testIsDisplayed_NothingDisplayed() {
+        DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+
+        assertThat(displayedMessages.isDisplayed(new MessageList(), null), is(false));
+    }
+
+    @Test
+    public void testIsDisplayed_SameMessages() {
+        DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+        Object error = new Object();
+        displayedMessages.displayed(new MessageList(Message.newError("e", "E")), error);
+        long suppressedUpdates = DisplayedValidationMessages.getSuppressedUpdateCount();
+
+        assertThat(displayedMessages.isDisplayed(new MessageList(Message.newError("e", "E")), error), is(true));
+        assertThat(DisplayedValidationMessages.getSuppressedUpdateCount(), is(suppressedUpdates + 1));
+    }
+
+    @Test
+    public void testIsDisplayed_OtherMessages() {
+        DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+        Object error = new Object();
+        displayedMessages.displayed(new MessageList(Message.newError("e", "E")), error);
+
+        assertThat(displayedMessages.isDisplayed(new MessageList(Message.newWarning("w", "W")), error), is(false));
+        assertThat(displayedMessages.isDisplayed(new MessageList(), error), is(false));
+    }
+
+    @Test
+    public void testIsDisplayed_OtherDisplayedObject() {
+        DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+        displayedMessages.displayed(new MessageList(Message.newError("e", "E")), new Object());
+
+        assertThat(displayedMessages.isDisplayed(new MessageList(Message.newError("e", "E")), new Object()),
+                   is(false));
+        assertThat(displayedMessages.isDisplayed(new MessageList(Message.newError("e", "E")), null), is(false));
+    }
+
+    @Test
+    public void testDisplayed_CopiesMessages() {
+        DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+        MessageList messages = new MessageList();
+        displayedMessages.displayed(messages, null);
+
+        messages.add(Message.newError("e", "E"));
+
+        assertThat(displayedMessages.isDisplayed(messages, null), is(false));
+    }
+
+}
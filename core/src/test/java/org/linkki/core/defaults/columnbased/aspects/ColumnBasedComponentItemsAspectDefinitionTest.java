@@ -17,6 +17,11 @@ package org.linkki.core.defaults.columnbased.aspects;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
@@ -24,11 +29,13 @@ import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.dispatcher.PropertyDispatcher;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.core.defaults.columnbased.ColumnBasedComponentWrapper;
 import org.linkki.core.defaults.columnbased.TestColumnBasedComponent;
 import org.linkki.core.defaults.columnbased.TestColumnBasedComponentWrapper;
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
 
 public class ColumnBasedComponentItemsAspectDefinitionTest {
 
@@ -61,4 +68,26 @@ public class ColumnBasedComponentItemsAspectDefinitionTest {
                 .supports(ColumnBasedComponentWrapper.COLUMN_BASED_TYPE), is(true));
     }
 
+    @Test
+    public void testCreateUiUpdater_PagedContainerPmo() {
+        TestColumnBasedComponent<String> component = new TestColumnBasedComponent<>();
+        TestColumnBasedComponentWrapper<String> componentWrapper = new TestColumnBasedComponentWrapper<>(component);
+        @SuppressWarnings("unchecked")
+        PagedContainerPmo<String> containerPmo = mock(PagedContainerPmo.class);
+        when(containerPmo.getItemCount()).thenReturn(2);
+        when(containerPmo.getItems(0, 2)).thenReturn(Arrays.asList("foo", "bar"));
+        when(containerPmo.getItems()).thenCallRealMethod();
+        PropertyDispatcher propertyDispatcher = mock(PropertyDispatcher.class);
+        when(propertyDispatcher.getBoundObject()).thenReturn(containerPmo);
+        when(propertyDispatcher.pull(any())).thenAnswer(invocation -> invocation.<Aspect<?>> getArgument(0)
+                .getValue());
+
+        new ColumnBasedComponentItemsAspectDefinition<String, TestColumnBasedComponentWrapper<String>>()
+                .createUiUpdater(propertyDispatcher, componentWrapper).apply();
+
+        assertThat(component.getItems(), contains("foo", "bar"));
+        verify(propertyDispatcher).pull(argThat(aspect -> aspect.getName()
+                .equals(ColumnBasedComponentItemsAspectDefinition.NAME) && aspect.getValue() == containerPmo));
+    }
+
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.defaults.nls;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.linkki.core.nls.NlsService;
+import org.linkki.core.nls.PmoNlsService;
+import org.linkki.core.uiframework.TestUiFramework;
+import org.linkki.core.uiframework.UiFramework;
+
+public class CachingPmoNlsServiceTest {
+
+    private Locale defaultLocale;
+
+    private final List<String> lookedUpKeys = new ArrayList<>();
+
+    private final NlsService countingNlsService = (bundleName, key, locale) -> {
+        lookedUpKeys.add(key);
+        return new DefaultNlsService().getString(bundleName, key, locale);
+    };
+
+    @BeforeEach
+    public void setLocaleToEnglish() {
+        defaultLocale = UiFramework.getLocale();
+        TestUiFramework.get().setUiLocale(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    public void resetLocale() {
+        TestUiFramework.get().setUiLocale(defaultLocale);
+    }
+
+    private CachingPmoNlsService createService() {
+        return new CachingPmoNlsService(DefaultPmoNlsService::getBundleName, countingNlsService,
+                CachingPmoNlsService.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    public void testGet() {
+        assertThat(PmoNlsService.get(), is(sameInstance(CachingPmoNlsService.getInstance())));
+    }
+
+    @Test
+    public void testGetLabel() {
+        CachingPmoNlsService nlsService = createService();
+
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "",
+                                       "foo"),
+                   is("no aspect"));
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "bla",
+                                       "fallback"),
+                   is("blubb"));
+        assertThat(nlsService.getSectionCaption(DefaultPmoNlsServiceTest.class, "bar"), is("TheCaption"));
+    }
+
+    @Test
+    public void testGetLabel_Cached() {
+        CachingPmoNlsService nlsService = createService();
+
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "bla", "fallback");
+        String label = nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST,
+                                           "bla", "fallback");
+
+        assertThat(label, is("blubb"));
+        assertThat(lookedUpKeys.size(), is(1));
+        assertThat(nlsService.getHitCount(), is(1L));
+        assertThat(nlsService.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void testGetLabel_MissingKeyIsCached() {
+        CachingPmoNlsService nlsService = createService();
+
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_NOT_PRESENT,
+                                       "", "foo"),
+                   is("foo"));
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_NOT_PRESENT,
+                                       "", "bar"),
+                   is("bar"));
+
+        assertThat(lookedUpKeys.size(), is(1));
+    }
+
+    @Test
+    public void testGetLabel_Locale() {
+        CachingPmoNlsService nlsService = createService();
+
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "",
+                                       "foo"),
+                   is("no aspect"));
+
+        TestUiFramework.get().setUiLocale(Locale.GERMAN);
+
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "",
+                                       "foo"),
+                   is("Kein Aspekt"));
+        assertThat(lookedUpKeys.size(), is(2));
+    }
+
+    @Test
+    public void testGetSectionCaption_DoesNotCollideWithProperty() {
+        CachingPmoNlsService nlsService = createService();
+
+        nlsService.getSectionCaption(DefaultPmoNlsServiceTest.class, "bar");
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, PmoNlsService.CAPTION_KEY, "", "foo");
+
+        assertThat(lookedUpKeys.size(), is(2));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CachingPmoNlsService nlsService = createService();
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "", "foo");
+
+        nlsService.invalidate();
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "", "foo");
+
+        assertThat(lookedUpKeys.size(), is(2));
+    }
+
+    @Test
+    public void testInvalidate_PmoClass() {
+        CachingPmoNlsService nlsService = createService();
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "", "foo");
+        nlsService.getLabel(CachingPmoNlsServiceTest.class, DefaultPmoNlsServiceTest.PROPERTY_TEST, "", "foo");
+
+        nlsService.invalidate(DefaultPmoNlsServiceTest.class);
+
+        assertThat(nlsService.getSize(), is(1));
+    }
+
+    @Test
+    public void testMaxSize() {
+        CachingPmoNlsService nlsService = new CachingPmoNlsService(DefaultPmoNlsService::getBundleName,
+                countingNlsService, 2);
+
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, "a", "", "foo");
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, "b", "", "foo");
+        nlsService.getLabel(DefaultPmoNlsServiceTest.class, "c", "", "foo");
+
+        assertThat(nlsService.getSize(), is(1));
+    }
+
+    @Test
+    public void testConstructor_InvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new CachingPmoNlsService(DefaultPmoNlsService::getBundleName, countingNlsService, 0));
+    }
+
+    @Test
+    public void testGetLabel_CustomNlsService() {
+        CachingPmoNlsService nlsService = new CachingPmoNlsService(DefaultPmoNlsService::getBundleName,
+                (bundleName, key, locale) -> Optional.of(key), 10);
+
+        assertThat(nlsService.getLabel(DefaultPmoNlsServiceTest.class, "prop", "aspect", "foo"),
+                   is("DefaultPmoNlsServiceTest_prop_aspect"));
+        assertThat(nlsService.getSectionCaption(DefaultPmoNlsServiceTest.class, "foo"),
+                   is("DefaultPmoNlsServiceTest_caption"));
+    }
+
+}
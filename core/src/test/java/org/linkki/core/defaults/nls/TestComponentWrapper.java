@@ -18,6 +18,7 @@ import org.linkki.core.binding.Binding;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.binding.wrapper.WrapperType;
+import org.linkki.util.handler.Handler;
 
 public class TestComponentWrapper implements ComponentWrapper {
 
@@ -69,6 +70,11 @@ public class TestComponentWrapper implements ComponentWrapper {
         component.setBinding(binding);
     }
 
+    @Override
+    public void addDetachHandler(Handler detachHandler) {
+        component.addDetachHandler(detachHandler);
+    }
+
     @Override
     public void setValidationMessages(MessageList messagesForProperty) {
         component.setValidationMessages(messagesForProperty);
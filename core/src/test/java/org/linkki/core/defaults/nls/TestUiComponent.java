@@ -40,6 +40,13 @@ public class TestUiComponent {
 
     private Handler clickHandler = Handler.NOP_HANDLER;
 
+    private boolean attached = true;
+
+    private Handler detachHandler = Handler.NOP_HANDLER;
+
+    @CheckForNull
+    private TestUiLayoutComponent parent;
+
     public void click() {
         getClickHandler().apply();
     }
@@ -104,6 +111,28 @@ public class TestUiComponent {
         this.clickHandler = clickHandler;
     }
 
+    public boolean isAttached() {
+        return attached;
+    }
+
+    public void detach() {
+        attached = false;
+        detachHandler.apply();
+    }
+
+    public void addDetachHandler(Handler handler) {
+        detachHandler = detachHandler.andThen(handler);
+    }
+
+    @CheckForNull
+    public TestUiLayoutComponent getParent() {
+        return parent;
+    }
+
+    void setParent(TestUiLayoutComponent parent) {
+        this.parent = parent;
+    }
+
     public void setBinding(Binding binding) {
         this.binding = binding;
     }
@@ -9,7 +9,7 @@ public class TestUiLayoutComponent extends TestUiComponent {
     private List<TestUiComponent> children = new LinkedList<>();
 
     public TestUiLayoutComponent(TestUiComponent... children) {
-        this.children.addAll(Arrays.asList(children));
+        Arrays.asList(children).forEach(this::addChild);
     }
 
     public List<TestUiComponent> getChildren() {
@@ -18,6 +18,7 @@ public class TestUiLayoutComponent extends TestUiComponent {
 
     public void addChild(TestUiComponent child) {
         this.children.add(child);
+        child.setParent(this);
     }
 
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ package org.linkki.core.defaults.ui.element;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.junit.jupiter.api.Test;
@@ -42,6 +44,23 @@ public class AvailableValuesProviderTest {
                 .size(), is(3));
     }
 
+    @Test
+    public void testEnumToValues_Shared() {
+        assertThat(AvailableValuesProvider.enumToValues(TestEnum.class, false),
+                   is(sameInstance(AvailableValuesProvider.enumToValues(TestEnum.class, false))));
+        assertThat(AvailableValuesProvider.enumToValues(TestEnum.class, true),
+                   is(sameInstance(AvailableValuesProvider.enumToValues(TestEnum.class, true))));
+        assertThat(AvailableValuesProvider.booleanWrapperToValues(),
+                   is(sameInstance(AvailableValuesProvider.booleanWrapperToValues())));
+    }
+
+    @Test
+    public void testEnumToValues_Immutable() {
+        assertThrows(UnsupportedOperationException.class,
+                     () -> AvailableValuesProvider.enumToValues(TestEnum.class, false).set(0, TestEnum.VALUE2));
+        assertThrows(UnsupportedOperationException.class,
+                     () -> AvailableValuesProvider.booleanPrimitiveToValues().remove(0));
+    }
 
     private enum TestEnum {
         VALUE1,
@@ -0,0 +1,172 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.uicreation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.binding.TestPmo;
+import org.linkki.core.defaults.nls.TestUiComponent;
+import org.linkki.core.defaults.section.TestSectionPmo;
+import org.linkki.core.defaults.section.annotations.TestUIField;
+import org.linkki.core.defaults.section.annotations.TestUIField2;
+import org.linkki.core.defaults.ui.aspects.annotations.BindTooltip;
+import org.linkki.core.uicreation.PmoMetadata.ComponentMetadata;
+import org.linkki.core.uicreation.PmoMetadata.ElementMetadata;
+
+public class PmoMetadataTest {
+
+    @Test
+    public void testForClass_IsShared() {
+        assertThat(PmoMetadata.forClass(TestSectionPmo.class),
+                   is(sameInstance(PmoMetadata.forClass(TestSectionPmo.class))));
+    }
+
+    @Test
+    public void testGetComponentDefinitionMethods() {
+        PmoMetadata pmoMetadata = PmoMetadata.forClass(TestSectionPmo.class);
+
+        assertThat(pmoMetadata.getComponentDefinitionMethods().stream().map(Method::getName)
+                .toArray(), is(new Object[] { "getValue", "modelProp" }));
+        assertThat(pmoMetadata.getComponentDefinitionMethods(),
+                   is(sameInstance(pmoMetadata.getComponentDefinitionMethods())));
+    }
+
+    @Test
+    public void testGetComponentDefinitionMethods_DuplicatePosition() {
+        PmoMetadata pmoMetadata = PmoMetadata.forClass(DuplicatePositionPmo.class);
+
+        assertThrows(IllegalStateException.class, pmoMetadata::getComponentDefinitionMethods);
+    }
+
+    @Test
+    public void testGetBoundProperty_NoBoundProperty() {
+        assertThat(PmoMetadata.forClass(TestSectionPmo.class).getBoundProperty().getPmoProperty(), is(""));
+    }
+
+    @Test
+    public void testForMethod() throws NoSuchMethodException {
+        Method method = TestSectionPmo.class.getMethod("getValue");
+
+        ElementMetadata element = PmoMetadata.forMethod(method);
+
+        assertThat(element, is(sameInstance(PmoMetadata.forMethod(method))));
+        assertThat(element.getMethod(), is(method));
+        assertThat(element.getComponentDefinitionAnnotations(), hasSize(1));
+        Annotation annotation = element.getComponentDefinitionAnnotation(new TestSectionPmo());
+        assertThat(annotation, is(instanceOf(TestUIField.class)));
+        ComponentMetadata component = element.getComponent(annotation);
+        assertThat(component.getBoundProperty().getPmoProperty(), is(TestPmo.PROPERTY_VALUE));
+        assertThat(component.getComponentDefinition().createComponent(new TestSectionPmo()),
+                   is(instanceOf(TestUiComponent.class)));
+        assertThat(element.getLayoutDefinition().isPresent(), is(false));
+    }
+
+    @Test
+    public void testForMethod_AspectsOfAdditionalAnnotations() throws NoSuchMethodException {
+        ElementMetadata element = PmoMetadata.forMethod(TestSectionPmo.class.getMethod("getValue"));
+        ElementMetadata otherElement = PmoMetadata.forMethod(TestSectionPmo.class.getMethod("modelProp"));
+
+        int aspects = element.getComponent(element.getComponentDefinitionAnnotation(new TestSectionPmo()))
+                .getAspectDefinitions().size();
+        int otherAspects = otherElement
+                .getComponent(otherElement.getComponentDefinitionAnnotation(new TestSectionPmo()))
+                .getAspectDefinitions().size();
+
+        // getValue has an additional @BindTooltip
+        assertThat(TestSectionPmo.class.getMethod("getValue").isAnnotationPresent(BindTooltip.class), is(true));
+        assertThat(aspects, is(otherAspects + 1));
+    }
+
+    @Test
+    public void testForMethod_DynamicField() throws NoSuchMethodException {
+        ElementMetadata element = PmoMetadata.forMethod(DynamicFieldPmo.class.getMethod("getDynamic"));
+
+        assertThat(element.getComponentDefinitionAnnotations(), hasSize(2));
+        assertThat(element.getComponentDefinitionAnnotation(new DynamicFieldPmo(TestUIField2.class)),
+                   is(instanceOf(TestUIField2.class)));
+        assertThat(element.getComponentDefinitionAnnotation(new DynamicFieldPmo(TestUIField.class)),
+                   is(instanceOf(TestUIField.class)));
+    }
+
+    @Test
+    public void testGetComponent_UnknownAnnotation() throws NoSuchMethodException {
+        ElementMetadata element = PmoMetadata.forMethod(TestSectionPmo.class.getMethod("getValue"));
+        Annotation otherAnnotation = DynamicFieldPmo.class.getMethod("getDynamic").getAnnotation(TestUIField2.class);
+
+        assertThrows(IllegalArgumentException.class, () -> element.getComponent(otherAnnotation));
+    }
+
+    @Test
+    public void testWarmUp() {
+        PmoMetadata.warmUp(Arrays.asList(TestSectionPmo.class, DynamicFieldPmo.class));
+
+        assertThat(PmoMetadata.forClass(DynamicFieldPmo.class).getComponentDefinitionMethods().stream()
+                .map(Method::getName).toArray(), is(new Object[] { "getDynamic" }));
+    }
+
+    @Test
+    public void testWarmUp_InvalidPmo() {
+        assertThrows(IllegalStateException.class,
+                     () -> PmoMetadata.warmUp(Arrays.asList(TestSectionPmo.class, DuplicatePositionPmo.class)));
+    }
+
+    public static class DynamicFieldPmo {
+
+        private final Class<?> componentType;
+
+        public DynamicFieldPmo() {
+            this(TestUIField.class);
+        }
+
+        public DynamicFieldPmo(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @TestUIField(position = 10)
+        @TestUIField2(position = 10)
+        public String getDynamic() {
+            return "dyn";
+        }
+
+        public Class<?> getDynamicComponentType() {
+            return componentType;
+        }
+
+    }
+
+    public static class DuplicatePositionPmo {
+
+        @TestUIField(position = 10)
+        public String getFoo() {
+            return "foo";
+        }
+
+        @TestUIField(position = 10)
+        public String getBar() {
+            return "bar";
+        }
+
+    }
+
+}
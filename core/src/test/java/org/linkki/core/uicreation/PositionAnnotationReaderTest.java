@@ -16,6 +16,7 @@ package org.linkki.core.uicreation;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
@@ -28,6 +29,8 @@ import java.lang.annotation.Target;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -157,6 +160,81 @@ public class PositionAnnotationReaderTest {
         assertThat(exception.getMessage(), containsString(NoPositionTestPmo.class.getSimpleName()));
     }
 
+    @Test
+    public void testSortByUniquePositions() throws NoSuchMethodException {
+        Method first = SortTestPmo.class.getMethod("first");
+        Method second = SortTestPmo.class.getMethod("second");
+        Method third = SortTestPmo.class.getMethod("third");
+
+        List<Method> sorted = PositionAnnotationReader.sortByUniquePositions(Stream.of(third, first, second),
+                                                                             SortTestPmo.class);
+
+        assertThat(sorted, contains(first, second, third));
+    }
+
+    @Test
+    public void testSortByUniquePositions_SamePosition() throws NoSuchMethodException {
+        Method first = SortTestPmo.class.getMethod("first");
+        Method anotherFirst = SortTestPmo.class.getMethod("anotherFirst");
+        Method second = SortTestPmo.class.getMethod("second");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                                                       () -> PositionAnnotationReader
+                                                               .sortByUniquePositions(Stream.of(second, first,
+                                                                                                anotherFirst),
+                                                                                      SortTestPmo.class));
+
+        assertThat(exception.getMessage(), containsString("first"));
+        assertThat(exception.getMessage(), containsString("anotherFirst"));
+        assertThat(exception.getMessage(), containsString(SortTestPmo.class.getSimpleName()));
+    }
+
+    @Test
+    public void testSortByUniquePositions_NoPosition() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> PositionAnnotationReader
+                             .sortByUniquePositions(Stream.of(SortTestPmo.class.getMethod("withoutPosition")),
+                                                    SortTestPmo.class));
+    }
+
+    @Test
+    public void testGetPositionAnnotation_NoPositionProperty() throws NoSuchMethodException {
+        TestUIFieldDeprecated annotation = PosTestPmo.class.getMethod("testDeprecated")
+                .getAnnotation(TestUIFieldDeprecated.class);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                                                          () -> PositionAnnotationReader.getPosition(annotation));
+        assertThat(exception.getMessage(), containsString(TestUIFieldDeprecated.class.getName()));
+    }
+
+    public static class SortTestPmo {
+
+        @TestUIField(position = 1)
+        public void first() {
+            //
+        }
+
+        @TestUIField(position = 1)
+        public void anotherFirst() {
+            //
+        }
+
+        @TestUIField(position = 2)
+        public void second() {
+            //
+        }
+
+        @TestUIField(position = 30)
+        public void third() {
+            //
+        }
+
+        public void withoutPosition() {
+            //
+        }
+
+    }
+
     static class PosTestPmo {
 
         @TestUIField(position = 42, label = "")
@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 
 import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
 import org.linkki.core.defaults.nls.TestComponentWrapperFactory;
+import org.linkki.core.defaults.nls.TestUiComponent;
 import org.linkki.core.defaults.nls.TestUiLayoutComponent;
 
 public class TestUiFramework implements UiFrameworkExtension {
@@ -56,4 +57,24 @@ public class TestUiFramework implements UiFrameworkExtension {
             return Stream.empty();
         }
     }
+
+    @Override
+    public boolean isAttached(Object uiComponent) {
+        return !(uiComponent instanceof TestUiComponent) || ((TestUiComponent)uiComponent).isAttached();
+    }
+
+    @Override
+    public boolean isHiddenByParent(Object uiComponent) {
+        if (!(uiComponent instanceof TestUiComponent)) {
+            return false;
+        }
+        TestUiLayoutComponent parent = ((TestUiComponent)uiComponent).getParent();
+        while (parent != null) {
+            if (!parent.isVisible()) {
+                return true;
+            }
+            parent = parent.getParent();
+        }
+        return false;
+    }
 }
@@ -16,8 +16,12 @@ package org.linkki.core.uiframework;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class UiFrameworkTest {
@@ -27,4 +31,35 @@ public class UiFrameworkTest {
         assertThat(UiFramework.get(), is(instanceOf(TestUiFramework.class)));
     }
 
+    @Test
+    public void testRunInUpdateScope_LocaleResolvedOnce() {
+        TestUiFramework uiFramework = TestUiFramework.get();
+        Locale locale = uiFramework.getLocale();
+        try {
+            UiFramework.runInUpdateScope(() -> {
+                assertThat(UiFramework.getLocale(), is(locale));
+                uiFramework.setUiLocale(Locale.CHINESE);
+                assertThat(UiFramework.getLocale(), is(locale));
+                assertThat(UiFramework.get(), is(sameInstance(uiFramework)));
+            });
+
+            assertThat(UiFramework.getLocale(), is(Locale.CHINESE));
+        } finally {
+            uiFramework.setUiLocale(locale);
+        }
+    }
+
+    @Test
+    public void testGetUpdateScoped() {
+        Object outside = UiFramework.getUpdateScoped(Object.class, Object::new);
+        assertThat(UiFramework.getUpdateScoped(Object.class, Object::new), is(not(sameInstance(outside))));
+
+        UiFramework.runInUpdateScope(() -> {
+            Object inside = UiFramework.getUpdateScoped(Object.class, Object::new);
+            assertThat(UiFramework.getUpdateScoped(Object.class, Object::new), is(sameInstance(inside)));
+            UiFramework.runInUpdateScope(() -> assertThat(UiFramework.getUpdateScoped(Object.class, Object::new),
+                                                          is(sameInstance(inside))));
+        });
+    }
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A map that compares its keys by identity and only holds weak references to them, like a combination
+ * of {@link java.util.IdentityHashMap} and {@link java.util.WeakHashMap}. An entry is removed
+ * automatically when its key is garbage collected.
+ * <p>
+ * Use this map for objects that must not be kept alive by the map and that have to be distinguished
+ * even if they are equal, for example presentation model objects.
+ * <p>
+ * This map is not thread-safe.
+ *
+ * @param <K> the type of keys stored in this map
+ * @param <V> the type of values stored in this map
+ */
+public class WeakIdentityMap<K, V> {
+
+    private final Map<IdentityWeakReference<K>, V> internalMap = new HashMap<>();
+
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns the value the given key maps to or <code>null</code> if there is none.
+     */
+    @CheckForNull
+    public V get(K key) {
+        expungeStaleEntries();
+        return internalMap.get(new IdentityWeakReference<>(requireNonNull(key, "key must not be null"), null));
+    }
+
+    /**
+     * Returns the value the given key maps to. Creates and stores a new value using the given function
+     * if there is none.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = requireNonNull(mappingFunction.apply(key), "mappingFunction must not return null");
+            internalMap.put(new IdentityWeakReference<>(key, queue), value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the value the given key maps to and returns it, or returns <code>null</code> if there is
+     * none.
+     */
+    @CheckForNull
+    public V remove(K key) {
+        expungeStaleEntries();
+        return internalMap.remove(new IdentityWeakReference<>(requireNonNull(key, "key must not be null"), null));
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        internalMap.clear();
+        while (queue.poll() != null) {
+            // only empty the queue
+        }
+    }
+
+    /**
+     * Returns the number of entries whose keys were not garbage collected yet.
+     */
+    public int size() {
+        expungeStaleEntries();
+        return internalMap.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void expungeStaleEntries() {
+        for (Object reference = queue.poll(); reference != null; reference = queue.poll()) {
+            internalMap.remove(reference);
+        }
+    }
+
+    /**
+     * A weak reference that is equal to another reference if both refer to the same object. A cleared
+     * reference is only equal to itself.
+     */
+    private static final class IdentityWeakReference<K> extends WeakReference<K> {
+
+        private final int hash;
+
+        IdentityWeakReference(K referent, @CheckForNull ReferenceQueue<? super K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(@CheckForNull Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IdentityWeakReference)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityWeakReference<?>)obj).get();
+        }
+
+    }
+
+}
@@ -14,41 +14,96 @@
 
 package org.linkki.util.service;
 
-import java.util.HashMap;
-import java.util.Map;
+import static java.util.Objects.requireNonNull;
+
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.StreamSupport;
 
 /**
  * Helper for {@link ServiceLoader} access.
+ * <p>
+ * Every service is loaded once and the same instance is returned to all threads afterwards. Services
+ * can be {@link #preload(Class...) preloaded} at startup to detect missing implementations early and
+ * keep the class path scanning out of the first request. Implementations can also be
+ * {@link #register(Class, Object) registered} programmatically, for example in tests, which replaces
+ * the implementation found by the {@link ServiceLoader}.
  */
 public final class Services {
 
-    private static final Map<Class<?>, Object> INSTANCES = new HashMap<>();
+    private static final ConcurrentMap<Class<?>, Object> INSTANCES = new ConcurrentHashMap<>();
 
     private Services() {
         // util
     }
 
     /**
-     * Finds the single implementation of the service class via {@link ServiceLoader}.
+     * Finds the single implementation of the service class via {@link ServiceLoader}, unless an
+     * implementation was {@link #register(Class, Object) registered}.
      * 
      * @return the service instance
      * @throws IllegalStateException if there is no or more than one implementation available
      */
     public static <S> S get(Class<S> serviceClass) {
-        @SuppressWarnings("unchecked")
-        S service = (S)INSTANCES.computeIfAbsent(serviceClass, sc -> {
-            ServiceLoader<?> serviceLoader = ServiceLoader.load(sc);
-            return StreamSupport.stream(serviceLoader.spliterator(), false).reduce((f1, f2) -> {
-                throw new IllegalStateException(
-                        "Multiple implementations of " + sc.getName() + " found on the classpath: "
-                                + f1.getClass()
-                                + " and " + f2.getClass());
-            }).orElseThrow(() -> new IllegalStateException(
-                    "No implementation of " + sc.getName() + " found on the classpath."));
-        });
-        return service;
+        Object instance = INSTANCES.get(serviceClass);
+        if (instance == null) {
+            // not computeIfAbsent, as loading a service may require other services
+            Object loaded = load(serviceClass);
+            instance = INSTANCES.putIfAbsent(serviceClass, loaded);
+            if (instance == null) {
+                instance = loaded;
+            }
+        }
+        return serviceClass.cast(instance);
+    }
+
+    /**
+     * Loads the implementations of the given service classes, so that they are available without
+     * delay when they are needed.
+     * 
+     * @throws IllegalStateException if there is no or more than one implementation available for any
+     *             of the service classes
+     */
+    public static void preload(Class<?>... serviceClasses) {
+        for (Class<?> serviceClass : serviceClasses) {
+            get(serviceClass);
+        }
+    }
+
+    /**
+     * Registers the implementation of the service class that is returned by {@link #get(Class)}
+     * instead of the one found via {@link ServiceLoader}. The implementation is used by all threads
+     * until it is {@link #unregister(Class) unregistered}.
+     * 
+     * @param serviceClass the service class
+     * @param implementation the implementation to use
+     */
+    public static <S> void register(Class<S> serviceClass, S implementation) {
+        requireNonNull(serviceClass, "serviceClass must not be null");
+        INSTANCES.put(serviceClass, serviceClass.cast(requireNonNull(implementation,
+                                                                     "implementation must not be null")));
+    }
+
+    /**
+     * Discards the implementation of the service class, whether it was {@link #register(Class, Object)
+     * registered} or loaded. The next call of {@link #get(Class)} uses the {@link ServiceLoader} again.
+     * 
+     * @param serviceClass the service class
+     */
+    public static void unregister(Class<?> serviceClass) {
+        INSTANCES.remove(requireNonNull(serviceClass, "serviceClass must not be null"));
+    }
+
+    private static Object load(Class<?> serviceClass) {
+        ServiceLoader<?> serviceLoader = ServiceLoader.load(serviceClass);
+        return StreamSupport.stream(serviceLoader.spliterator(), false).reduce((f1, f2) -> {
+            throw new IllegalStateException(
+                    "Multiple implementations of " + serviceClass.getName() + " found on the classpath: "
+                            + f1.getClass()
+                            + " and " + f2.getClass());
+        }).orElseThrow(() -> new IllegalStateException(
+                "No implementation of " + serviceClass.getName() + " found on the classpath."));
     }
 
 }
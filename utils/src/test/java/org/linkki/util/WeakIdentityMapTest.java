@@ -0,0 +1,73 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+
+package org.linkki.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakIdentityMapTest {
+
+    private final String key = new String("key");
+
+    private final String equalKey = new String("key");
+
+    @Test
+    public void testGet_ComparesIdentity() {
+        WeakIdentityMap<String, String> map = new WeakIdentityMap<>();
+
+        map.computeIfAbsent(key, k -> "value");
+
+        assertThat(map.get(key), is("value"));
+        assertThat(map.get(equalKey), is(nullValue()));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        WeakIdentityMap<String, String> map = new WeakIdentityMap<>();
+
+        assertThat(map.computeIfAbsent(key, k -> "value"), is("value"));
+        assertThat(map.computeIfAbsent(key, k -> "other"), is("value"));
+        assertThat(map.computeIfAbsent(equalKey, k -> "other"), is("other"));
+        assertThat(map.size(), is(2));
+    }
+
+    @Test
+    public void testRemove() {
+        WeakIdentityMap<String, String> map = new WeakIdentityMap<>();
+        map.computeIfAbsent(key, k -> "value");
+        map.computeIfAbsent(equalKey, k -> "other");
+
+        assertThat(map.remove(equalKey), is("other"));
+
+        assertThat(map.get(key), is("value"));
+        assertThat(map.get(equalKey), is(nullValue()));
+        assertThat(map.remove(equalKey), is(nullValue()));
+    }
+
+    @Test
+    public void testClear() {
+        WeakIdentityMap<String, String> map = new WeakIdentityMap<>();
+        map.computeIfAbsent(key, k -> "value");
+
+        map.clear();
+
+        assertThat(map.isEmpty(), is(true));
+        assertThat(map.get(key), is(nullValue()));
+    }
+
+}
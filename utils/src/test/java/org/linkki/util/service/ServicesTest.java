@@ -17,9 +17,19 @@ package org.linkki.util.service;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.linkki.util.service.ServicesTest.InterfaceWithMultipleImplementations.Implementation2;
 import org.linkki.util.service.ServicesTest.InterfaceWithSingleImplementation.SingleImplementation;
 
 public class ServicesTest {
@@ -45,6 +55,79 @@ public class ServicesTest {
 
     }
 
+    @Test
+    public void testGet_SameInstance() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<InterfaceWithSingleImplementation>> futures = executor
+                    .invokeAll(Collections.nCopies(8, () -> Services.get(InterfaceWithSingleImplementation.class)));
+
+            InterfaceWithSingleImplementation instance = Services.get(InterfaceWithSingleImplementation.class);
+            for (Future<InterfaceWithSingleImplementation> future : futures) {
+                assertThat(future.get(), is(sameInstance(instance)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPreload() {
+        Services.preload(InterfaceWithSingleImplementation.class);
+
+        assertThat(Services.get(InterfaceWithSingleImplementation.class), is(instanceOf(SingleImplementation.class)));
+    }
+
+    @Test
+    public void testPreload_NoImplementation() {
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            Services.preload(InterfaceWithSingleImplementation.class, InterfaceWithoutImplementation.class);
+        });
+    }
+
+    @Test
+    public void testRegister() {
+        InterfaceWithMultipleImplementations implementation = new Implementation2();
+        try {
+            Services.register(InterfaceWithMultipleImplementations.class, implementation);
+
+            assertThat(Services.get(InterfaceWithMultipleImplementations.class), is(sameInstance(implementation)));
+        } finally {
+            Services.unregister(InterfaceWithMultipleImplementations.class);
+        }
+    }
+
+    @Test
+    public void testRegister_ReplacesLoadedImplementation() {
+        InterfaceWithSingleImplementation loaded = Services.get(InterfaceWithSingleImplementation.class);
+        InterfaceWithSingleImplementation implementation = new SingleImplementation();
+        try {
+            Services.register(InterfaceWithSingleImplementation.class, implementation);
+
+            assertThat(Services.get(InterfaceWithSingleImplementation.class), is(sameInstance(implementation)));
+        } finally {
+            Services.unregister(InterfaceWithSingleImplementation.class);
+        }
+
+        InterfaceWithSingleImplementation reloaded = Services.get(InterfaceWithSingleImplementation.class);
+        assertThat(reloaded, is(instanceOf(SingleImplementation.class)));
+        assertThat(reloaded, is(not(sameInstance(implementation))));
+        assertThat(reloaded, is(not(sameInstance(loaded))));
+    }
+
+    @Test
+    public void testUnregister() {
+        Services.register(InterfaceWithoutImplementation.class, new InterfaceWithoutImplementation() {
+            // test implementation
+        });
+
+        Services.unregister(InterfaceWithoutImplementation.class);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            Services.get(InterfaceWithoutImplementation.class);
+        });
+    }
+
     public interface InterfaceWithoutImplementation {
         // marker
 
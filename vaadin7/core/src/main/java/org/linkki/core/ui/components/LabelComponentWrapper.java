@@ -21,6 +21,7 @@ import org.linkki.core.binding.Binding;
 import org.linkki.core.binding.validation.message.Message;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
+import org.linkki.core.binding.wrapper.DisplayedValidationMessages;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.core.message.SeverityErrorLevelConverter;
 import org.linkki.util.StreamUtil;
@@ -45,6 +46,8 @@ public class LabelComponentWrapper implements ComponentWrapper {
     private final Label label;
     private final Component component;
 
+    private final DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+
     public LabelComponentWrapper(Component component) {
         this(null, component);
     }
@@ -103,7 +106,11 @@ public class LabelComponentWrapper implements ComponentWrapper {
     public void setValidationMessages(MessageList messagesForProperty) {
         if (component instanceof AbstractComponent) {
             AbstractComponent field = (AbstractComponent)component;
-            field.setComponentError(getErrorHandler(messagesForProperty));
+            if (!displayedMessages.isDisplayed(messagesForProperty, field.getComponentError())) {
+                UserError errorHandler = getErrorHandler(messagesForProperty);
+                field.setComponentError(errorHandler);
+                displayedMessages.displayed(messagesForProperty, errorHandler);
+            }
         }
     }
 
@@ -51,6 +51,14 @@ public class CaptionAspectDefinition extends ModelToUiAspectDefinition<String> {
         }
     }
 
+    /**
+     * Returns <code>true</code> because the caption is only set by this aspect.
+     */
+    @Override
+    protected boolean isSkipUnchangedValues() {
+        return true;
+    }
+
     @Override
     public Consumer<String> createComponentValueSetter(ComponentWrapper componentWrapper) {
         return caption -> ((Component)componentWrapper.getComponent()).setCaption(caption);
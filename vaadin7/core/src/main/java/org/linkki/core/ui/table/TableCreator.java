@@ -43,6 +43,12 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  */
 public class TableCreator implements ColumnBasedComponentCreator {
 
+    /**
+     * The {@link Table#setCacheRate(double) cache rate} used for {@link ContainerPmo#isVirtualized()
+     * virtualized} tables: half a page above and below the visible rows.
+     */
+    static final double VIRTUALIZED_CACHE_RATE = 0.5;
+
     /**
      * Creates a new table based on the container PMO.
      */
@@ -53,6 +59,9 @@ public class TableCreator implements ColumnBasedComponentCreator {
         table.setHeightUndefined();
         table.setWidth("100%");
         table.setSortEnabled(false);
+        if (containerPmo.isVirtualized()) {
+            table.setCacheRate(VIRTUALIZED_CACHE_RATE);
+        }
         return new TableComponentWrapper<>(containerPmo.getClass().getSimpleName(), table);
     }
 
@@ -253,8 +253,8 @@ public class SidebarSheet {
      * Should only be called by {@link SidebarLayout}.
      */
     protected void select() {
-        uiUpdateObserver.ifPresent(UiUpdateObserver::uiUpdated);
         getContent().setVisible(true);
+        uiUpdateObserver.ifPresent(UiUpdateObserver::uiUpdated);
         getButton().addStyleName(LinkkiApplicationTheme.SIDEBAR_SELECTED);
     }
 
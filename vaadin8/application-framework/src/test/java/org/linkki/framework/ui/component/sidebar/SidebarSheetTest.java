@@ -60,6 +60,19 @@ public class SidebarSheetTest {
         assertThat(triggered, is(true));
     }
 
+    @Test
+    public void testSelect_ContentVisibleWhenObserverIsCalled() {
+        HorizontalLayout content = new HorizontalLayout();
+        content.setVisible(false);
+
+        SidebarSheet sidebarSheet = new SidebarSheet(VaadinIcons.STAR_HALF_LEFT, "Test SidebarSheet", content,
+                () -> triggered = content.isVisible());
+
+        sidebarSheet.select();
+
+        assertThat(triggered, is(true));
+    }
+
     @Test
     public void testToString() {
         SidebarSheet sheet = new SidebarSheet(VaadinIcons.ADJUST, "Foo", new TextField());
@@ -0,0 +1,88 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.validation.message.Message;
+import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.validation.message.Severity;
+import org.linkki.core.binding.wrapper.ComponentWrapper;
+import org.linkki.core.ui.mock.MockUi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the display of validation messages in bound sections and the lookup of the messages of a
+ * single property with {@link MessageList#getMessagesFor(Object, String)}. Every tenth section has an
+ * error message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MessageDisplayBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int bindings;
+
+    private List<SectionPmo> pmos;
+
+    private BindingContext bindingContext;
+
+    private MessageList messages;
+
+    /** Keeps the weakly referenced bindings alive. */
+    @SuppressWarnings("unused")
+    private List<ComponentWrapper> sections;
+
+    @Setup
+    public void setUp() {
+        MockUi.mockUi();
+        pmos = SectionPmo.createPmos(bindings);
+        bindingContext = new BindingContext();
+        sections = SectionCreationBenchmark.createSections(pmos, bindingContext);
+        messages = new MessageList();
+        for (int i = 0; i < pmos.size(); i += 10) {
+            messages.add(Message.builder("Invalid name", Severity.ERROR)
+                    .invalidObjectWithProperties(pmos.get(i), SectionPmo.PROPERTY_NAME)
+                    .create());
+        }
+    }
+
+    @Benchmark
+    public MessageList displayMessages() {
+        return bindingContext.displayMessages(messages);
+    }
+
+    @Benchmark
+    public void getMessagesFor(Blackhole blackhole) {
+        pmos.forEach(pmo -> blackhole.consume(messages.getMessagesFor(pmo, SectionPmo.PROPERTY_NAME)));
+    }
+
+}
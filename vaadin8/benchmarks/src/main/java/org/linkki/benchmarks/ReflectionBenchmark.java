@@ -0,0 +1,74 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.linkki.core.binding.descriptor.UIElementAnnotationReader;
+import org.linkki.core.binding.descriptor.aspect.Aspect;
+import org.linkki.core.binding.descriptor.aspect.LinkkiAspectDefinition;
+import org.linkki.core.binding.dispatcher.fallback.ExceptionPropertyDispatcher;
+import org.linkki.core.binding.dispatcher.reflection.ReflectionPropertyDispatcher;
+import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessor;
+import org.linkki.core.binding.dispatcher.reflection.accessor.PropertyAccessorCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the reflective access to a single PMO property and the reading of the annotations of a PMO
+ * class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReflectionBenchmark {
+
+    private final Aspect<Object> valueAspect = Aspect.of(LinkkiAspectDefinition.VALUE_ASPECT_NAME);
+
+    private ReflectionPropertyDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        SectionPmo pmo = new SectionPmo(0);
+        dispatcher = new ReflectionPropertyDispatcher(() -> pmo, SectionPmo.PROPERTY_NAME,
+                new ExceptionPropertyDispatcher(SectionPmo.PROPERTY_NAME, pmo));
+    }
+
+    @Benchmark
+    public Object pull() {
+        return dispatcher.pull(valueAspect);
+    }
+
+    @Benchmark
+    public PropertyAccessor<SectionPmo, ?> getPropertyAccessor() {
+        return PropertyAccessorCache.get(SectionPmo.class, SectionPmo.PROPERTY_NAME);
+    }
+
+    @Benchmark
+    public UIElementAnnotationReader readAnnotations() {
+        return new UIElementAnnotationReader(SectionPmo.class);
+    }
+
+}
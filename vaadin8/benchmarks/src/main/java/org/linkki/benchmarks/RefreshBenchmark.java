@@ -0,0 +1,118 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.refresh.PropertyDependencies;
+import org.linkki.core.binding.refresh.RefreshStrategy;
+import org.linkki.core.binding.wrapper.ComponentWrapper;
+import org.linkki.core.ui.mock.MockUi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.ui.AbstractField;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.HasComponents;
+import com.vaadin.ui.TextField;
+
+/**
+ * Measures the update of bound sections after a model change: a full refresh of all bindings and a
+ * partial refresh triggered by user input in a single field with an
+ * {@link RefreshStrategy#incremental(PropertyDependencies) incremental} {@link RefreshStrategy}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RefreshBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int bindings;
+
+    private BindingContext fullContext;
+
+    /** Keeps the weakly referenced bindings alive. */
+    @SuppressWarnings("unused")
+    private List<ComponentWrapper> sections;
+
+    private TextField incrementalField;
+
+    /** {@code AbstractField#setValue(Object, boolean)} to simulate user input. */
+    private Method setUserOriginatedValue;
+
+    private boolean toggle;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        MockUi.mockUi();
+        List<SectionPmo> pmos = SectionPmo.createPmos(bindings);
+
+        fullContext = SectionCreationBenchmark.createBindingContext(RefreshStrategy.FULL);
+        sections = new ArrayList<>(SectionCreationBenchmark.createSections(pmos, fullContext));
+
+        BindingContext incrementalContext = SectionCreationBenchmark
+                .createBindingContext(RefreshStrategy
+                        .incremental(PropertyDependencies.independent(SectionPmo.class)));
+        sections.addAll(SectionCreationBenchmark.createSections(pmos, incrementalContext));
+        Component section = (Component)sections.get(sections.size() - 1).getComponent();
+        incrementalField = findTextField(section)
+                .orElseThrow(() -> new IllegalStateException("No text field in " + section));
+        setUserOriginatedValue = AbstractField.class.getDeclaredMethod("setValue", Object.class, boolean.class);
+        setUserOriginatedValue.setAccessible(true);
+    }
+
+    private static Optional<TextField> findTextField(Component component) {
+        if (component instanceof TextField) {
+            return Optional.of((TextField)component);
+        } else if (component instanceof HasComponents) {
+            return StreamSupport.stream(((HasComponents)component).spliterator(), false)
+                    .map(RefreshBenchmark::findTextField)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .findFirst();
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public void fullRefresh() {
+        fullContext.modelChanged();
+    }
+
+    @Benchmark
+    public void partialRefresh() throws ReflectiveOperationException {
+        toggle = !toggle;
+        setUserOriginatedValue.invoke(incrementalField, toggle ? "a" : "b", true);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.binding.dispatcher.PropertyDispatcherFactory;
+import org.linkki.core.binding.dispatcher.behavior.PropertyBehaviorProvider;
+import org.linkki.core.binding.refresh.RefreshStrategy;
+import org.linkki.core.binding.wrapper.ComponentWrapper;
+import org.linkki.core.ui.mock.MockUi;
+import org.linkki.core.uicreation.UiCreator;
+import org.linkki.util.handler.Handler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of sections with {@link UiCreator#createComponent(Object, BindingContext)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SectionCreationBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int bindings;
+
+    private List<SectionPmo> pmos;
+
+    @Setup
+    public void setUp() {
+        MockUi.mockUi();
+        pmos = SectionPmo.createPmos(bindings);
+    }
+
+    @Benchmark
+    public List<ComponentWrapper> createSections() {
+        return createSections(pmos, new BindingContext());
+    }
+
+    /**
+     * Creates a {@link BindingContext} with the given {@link RefreshStrategy}.
+     */
+    static BindingContext createBindingContext(RefreshStrategy refreshStrategy) {
+        return new BindingContext(SectionCreationBenchmark.class.getSimpleName(),
+                PropertyBehaviorProvider.NO_BEHAVIOR_PROVIDER, new PropertyDispatcherFactory(), refreshStrategy,
+                Handler.NOP_HANDLER);
+    }
+
+    /**
+     * Creates a section for every PMO, binding it in the given {@link BindingContext}. The bindings are
+     * only kept as long as their components are referenced, so the caller has to hold on to the result.
+     */
+    static List<ComponentWrapper> createSections(List<SectionPmo> pmos, BindingContext bindingContext) {
+        return pmos.stream()
+                .map(pmo -> UiCreator.createComponent(pmo, bindingContext))
+                .collect(Collectors.toList());
+    }
+
+}
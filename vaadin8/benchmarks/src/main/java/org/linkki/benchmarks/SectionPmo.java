@@ -0,0 +1,100 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.linkki.core.ui.element.annotation.UICheckBox;
+import org.linkki.core.ui.element.annotation.UIIntegerField;
+import org.linkki.core.ui.element.annotation.UILabel;
+import org.linkki.core.ui.element.annotation.UITextField;
+import org.linkki.core.ui.layout.annotation.UISection;
+
+/**
+ * A section PMO with {@value #BINDINGS_PER_SECTION} bound fields used by the benchmarks.
+ */
+@UISection
+public class SectionPmo {
+
+    /** The number of field bindings created for one section. */
+    public static final int BINDINGS_PER_SECTION = 5;
+
+    public static final String PROPERTY_NAME = "name";
+
+    private String name;
+
+    private String street = "";
+
+    private int count;
+
+    private boolean active;
+
+    public SectionPmo(int index) {
+        this.name = "Name " + index;
+        this.count = index;
+    }
+
+    /**
+     * Creates as many PMOs as needed to get the given number of field bindings, at least one.
+     */
+    public static List<SectionPmo> createPmos(int bindings) {
+        return IntStream.range(0, Math.max(1, bindings / BINDINGS_PER_SECTION))
+                .mapToObj(SectionPmo::new)
+                .collect(Collectors.toList());
+    }
+
+    @UITextField(position = 10, label = "Name")
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @UITextField(position = 20, label = "Street")
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    @UIIntegerField(position = 30, label = "Count")
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @UICheckBox(position = 40, caption = "Active")
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    @UILabel(position = 50, label = "Description")
+    public String getDescription() {
+        return name + " (" + count + ")";
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.linkki.core.binding.BindingContext;
+import org.linkki.core.ui.creation.table.PmoBasedTableFactory;
+import org.linkki.core.ui.mock.MockUi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation and the refresh of a table with all rows on one page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TableBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int bindings;
+
+    private TablePmo tablePmo;
+
+    private BindingContext bindingContext;
+
+    /** Keeps the weakly referenced bindings alive. */
+    @SuppressWarnings({ "unused", "deprecation" })
+    private com.vaadin.v7.ui.Table table;
+
+    @Setup
+    public void setUp() {
+        MockUi.mockUi();
+        tablePmo = new TablePmo(bindings);
+        bindingContext = new BindingContext();
+        table = new PmoBasedTableFactory(tablePmo, bindingContext).createTable();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Benchmark
+    public com.vaadin.v7.ui.Table createTable() {
+        return new PmoBasedTableFactory(tablePmo, new BindingContext()).createTable();
+    }
+
+    @Benchmark
+    public void refreshTable() {
+        bindingContext.modelChanged();
+    }
+
+}
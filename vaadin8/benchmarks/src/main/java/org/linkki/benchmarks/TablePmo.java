@@ -0,0 +1,96 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
+import org.linkki.core.ui.element.annotation.UIIntegerField;
+import org.linkki.core.ui.element.annotation.UILabel;
+import org.linkki.core.ui.element.annotation.UITextField;
+
+/**
+ * A table PMO with rows of {@value #BINDINGS_PER_ROW} columns used by the benchmarks.
+ */
+public class TablePmo implements ContainerPmo<TablePmo.RowPmo> {
+
+    /** The number of column bindings created for one row. */
+    public static final int BINDINGS_PER_ROW = 3;
+
+    private final List<RowPmo> rows;
+
+    /**
+     * Creates a table with as many rows as needed to get the given number of bindings, at least one.
+     * All rows are shown on one page.
+     */
+    public TablePmo(int bindings) {
+        this.rows = IntStream.range(0, Math.max(1, bindings / BINDINGS_PER_ROW))
+                .mapToObj(RowPmo::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Class<? extends RowPmo> getItemPmoClass() {
+        return RowPmo.class;
+    }
+
+    @Override
+    public List<RowPmo> getItems() {
+        return rows;
+    }
+
+    @Override
+    public int getPageLength() {
+        return rows.size();
+    }
+
+    public static class RowPmo {
+
+        private String value;
+
+        private int count;
+
+        public RowPmo(int index) {
+            this.value = "Value " + index;
+            this.count = index;
+        }
+
+        @UITextField(position = 10, label = "Value")
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        @UIIntegerField(position = 20, label = "Count")
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        @UILabel(position = 30, label = "Description")
+        public String getDescription() {
+            return value + " (" + count + ")";
+        }
+
+    }
+
+}
@@ -18,7 +18,11 @@ import static org.linkki.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import org.linkki.core.binding.descriptor.aspect.Aspect;
@@ -31,7 +35,13 @@ import org.linkki.util.handler.Handler;
 
 import com.vaadin.data.HasItems;
 import com.vaadin.data.provider.ListDataProvider;
+import com.vaadin.ui.AbstractMultiSelect;
+import com.vaadin.ui.ComboBox;
+import com.vaadin.ui.ItemCaptionGenerator;
+import com.vaadin.ui.NativeSelect;
+import com.vaadin.ui.RadioButtonGroup;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
@@ -56,30 +66,99 @@ public class AvailableValuesAspectDefinition<C extends HasItems<?>> implements L
         Aspect<Collection<?>> aspect = createAspect(propertyDispatcher.getProperty(),
                                                     propertyDispatcher.getValueClass());
 
-        List<Object> items = new ArrayList<>();
-        ListDataProvider<Object> listDataProvider = new ListDataProvider<>(items);
+        AvailableItems availableItems = new AvailableItems(aspect.isValuePresent());
+        ListDataProvider<Object> listDataProvider = new ListDataProvider<>(availableItems.items);
 
         setDataProvider(componentWrapper, listDataProvider);
 
-        return () -> updateItems(items, propertyDispatcher.pull(aspect), componentWrapper);
+        return () -> {
+            if (!availableItems.isStaticAndApplied()) {
+                updateItems(availableItems, propertyDispatcher.pull(aspect), componentWrapper);
+            }
+        };
     }
 
-    private void updateItems(List<Object> items,
+    /**
+     * Updates the items if the pulled values changed. If they did not change, the items are only
+     * refreshed if their captions changed, so that an unchanged list of values is not sent to the
+     * client again.
+     * <p>
+     * Values that are derived from the data type or that are defined statically never change, so they
+     * are only applied once.
+     */
+    private void updateItems(AvailableItems availableItems,
             @Nullable Collection<?> newItemsParam,
             ComponentWrapper componentWrapper) {
-        ArrayList<?> newItems = new ArrayList<>(
-                requireNonNull(newItemsParam, "List of available values must not be null"));
-        handleNullItems(componentWrapper, newItems);
-        if (!items.equals(newItems)) {
-            items.clear();
-            items.addAll(newItems);
+        Collection<?> newItems = requireNonNull(newItemsParam, "List of available values must not be null");
+        if (!hasSameItems(availableItems.pulledItems, newItems)) {
+            availableItems.pulledItems = new ArrayList<>(newItems);
+            ArrayList<?> handledItems = new ArrayList<>(newItems);
+            handleNullItems(componentWrapper, handledItems);
+            availableItems.items.clear();
+            availableItems.items.addAll(handledItems);
+            availableItems.captions = getItemCaptions(componentWrapper, availableItems.items);
+            refreshAll(componentWrapper, availableItems.items);
+        } else {
+            Optional<List<String>> captions = getItemCaptions(componentWrapper, availableItems.items);
+            if (!captions.isPresent() || !captions.equals(availableItems.captions)) {
+                availableItems.captions = captions;
+                refreshAll(componentWrapper, availableItems.items);
+            }
         }
+        availableItems.applied = true;
+    }
 
-        refreshAll(componentWrapper, items);
+    private static boolean hasSameItems(List<?> items, Collection<?> newItems) {
+        if (items.size() != newItems.size()) {
+            return false;
+        }
+        Iterator<?> newItemsIterator = newItems.iterator();
+        for (Object item : items) {
+            if (!Objects.equals(item, newItemsIterator.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Refreshes all items including all the captions of available and selected items.
+     * Returns the captions of the given items as they are displayed by the component, or
+     * {@link Optional#empty()} if the captions cannot be determined. If the captions cannot be
+     * determined, the items are {@link #refreshAll(ComponentWrapper, List) refreshed} in every update.
+     * 
+     * @param componentWrapper component that displays the items
+     * @param items the items to be shown in the {@link ComponentWrapper}
+     * @return the captions of the items
+     */
+    @SuppressWarnings("unchecked")
+    protected Optional<List<String>> getItemCaptions(ComponentWrapper componentWrapper, List<Object> items) {
+        Object component = componentWrapper.getComponent();
+        @CheckForNull
+        ItemCaptionGenerator<Object> captionGenerator;
+        if (component instanceof ComboBox) {
+            captionGenerator = ((ComboBox<Object>)component).getItemCaptionGenerator();
+        } else if (component instanceof NativeSelect) {
+            captionGenerator = ((NativeSelect<Object>)component).getItemCaptionGenerator();
+        } else if (component instanceof RadioButtonGroup) {
+            captionGenerator = ((RadioButtonGroup<Object>)component).getItemCaptionGenerator();
+        } else if (component instanceof AbstractMultiSelect) {
+            captionGenerator = ((AbstractMultiSelect<Object>)component).getItemCaptionGenerator();
+        } else {
+            return Optional.empty();
+        }
+        if (captionGenerator == null) {
+            return Optional.empty();
+        }
+        List<String> captions = new ArrayList<>(items.size());
+        for (Object item : items) {
+            captions.add(captionGenerator.apply(item));
+        }
+        return Optional.of(captions);
+    }
+
+    /**
+     * Refreshes all items including all the captions of available and selected items. Called if the
+     * available values or their captions changed.
      *
      * @implNote This implementation always set a new {@link ListDataProvider} to get potential updated
      *           captions. Resetting the {@link ListDataProvider} performs better than updating the
@@ -107,7 +186,7 @@ public class AvailableValuesAspectDefinition<C extends HasItems<?>> implements L
         if (type == AvailableValuesType.DYNAMIC) {
             return Aspect.of(NAME);
         } else if (type == AvailableValuesType.NO_VALUES) {
-            return Aspect.of(NAME, new ArrayList<>());
+            return Aspect.of(NAME, Collections.emptyList());
         } else {
             return Aspect.of(NAME, getValuesDerivedFromDatatype(propertyName, valueClass));
         }
@@ -159,4 +238,33 @@ public class AvailableValuesAspectDefinition<C extends HasItems<?>> implements L
     protected void handleNullItems(ComponentWrapper componentWrapper, List<?> items) {
         // does nothing by default
     }
+
+    /**
+     * The state of the available values of one component.
+     */
+    private static class AvailableItems {
+
+        /** Whether the values are defined by the aspect and therefore never change. */
+        private final boolean staticValues;
+
+        private boolean applied;
+
+        /** The values as they were pulled the last time, including <code>null</code>. */
+        private List<?> pulledItems = Collections.emptyList();
+
+        /** The items shown in the component. */
+        private final List<Object> items = new ArrayList<>();
+
+        /** The captions of the items when they were last refreshed. */
+        private Optional<List<String>> captions = Optional.empty();
+
+        AvailableItems(boolean staticValues) {
+            this.staticValues = staticValues;
+        }
+
+        boolean isStaticAndApplied() {
+            return staticValues && applied;
+        }
+
+    }
 }
@@ -74,6 +74,14 @@ public class BindStyleNamesAspectDefinition extends ModelToUiAspectDefinition<Ob
         }
     }
 
+    /**
+     * Returns <code>true</code> because the style name is only set by this aspect.
+     */
+    @Override
+    protected boolean isSkipUnchangedValues() {
+        return true;
+    }
+
     @Override
     public Consumer<Object> createComponentValueSetter(ComponentWrapper componentWrapper) {
         String predefinedStyleNames = ((Component)componentWrapper.getComponent()).getStyleName();
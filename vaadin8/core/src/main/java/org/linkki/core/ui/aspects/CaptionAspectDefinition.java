@@ -53,6 +53,14 @@ public class CaptionAspectDefinition extends ModelToUiAspectDefinition<String> {
         }
     }
 
+    /**
+     * Returns <code>true</code> because the caption is only set by this aspect.
+     */
+    @Override
+    protected boolean isSkipUnchangedValues() {
+        return true;
+    }
+
     @Override
     public Consumer<String> createComponentValueSetter(ComponentWrapper componentWrapper) {
         // TODO refactor in LIN-1892
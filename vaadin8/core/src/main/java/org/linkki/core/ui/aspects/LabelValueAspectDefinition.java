@@ -15,6 +15,7 @@
 package org.linkki.core.ui.aspects;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.linkki.core.binding.descriptor.aspect.Aspect;
@@ -48,12 +49,12 @@ public class LabelValueAspectDefinition extends ModelToUiAspectDefinition<Object
 
     private static String toString(Object o) {
         if (o != null) {
-            try {
-                Converter<String, Object> converter = LinkkiConverterRegistry.getCurrent().findConverter(String.class,
-                                                                                                         o.getClass());
-                return converter.convertToPresentation(o, new ValueContext(UiFramework.getLocale()));
-            } catch (IllegalArgumentException e) {
-                // no converter
+            Optional<Converter<String, Object>> converter = LinkkiConverterRegistry.getCurrent()
+                    .findConverterIfPresent(String.class, o.getClass());
+            if (converter.isPresent()) {
+                ValueContext valueContext = UiFramework
+                        .getUpdateScoped(ValueContext.class, () -> new ValueContext(UiFramework.getLocale()));
+                return converter.get().convertToPresentation(o, valueContext);
             }
         }
         return Objects.toString(o, "");
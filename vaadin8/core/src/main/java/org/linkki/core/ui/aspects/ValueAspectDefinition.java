@@ -124,8 +124,12 @@ public class ValueAspectDefinition implements LinkkiAspectDefinition {
         };
     }
 
+    /**
+     * Returns the {@link ValueContext} for the conversion. The context is shared by all bindings that
+     * are updated in the same {@link UiFramework#runInUpdateScope(Handler) update scope}.
+     */
     protected ValueContext getValueContext() {
-        return new ValueContext(UiFramework.getLocale());
+        return UiFramework.getUpdateScoped(ValueContext.class, () -> new ValueContext(UiFramework.getLocale()));
     }
 
     /**
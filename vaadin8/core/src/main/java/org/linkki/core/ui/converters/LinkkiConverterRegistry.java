@@ -14,21 +14,28 @@
 package org.linkki.core.ui.converters;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
+import org.linkki.core.uiframework.UiFramework;
 import org.linkki.util.Sequence;
 
 import com.vaadin.data.Converter;
@@ -90,7 +97,14 @@ public class LinkkiConverterRegistry implements Serializable {
     public static final LinkkiConverterRegistry DEFAULT = new LinkkiConverterRegistry();
     // CSOON: Declaration
 
-    private Map<Type, Sequence<Converter<?, ?>>> converters;
+    /**
+     * The converters by their presentation type, with their presentation and model types determined
+     * once at construction.
+     */
+    private final Map<Type, List<TypedConverter>> typedConverters;
+
+    /** The results of {@link #findConverterIfPresent(Type, Type)}, including missing converters. */
+    private transient ConcurrentMap<ConverterKey, Optional<Converter<?, ?>>> resolvedConverters;
 
     /**
      * Creates a new {@link LinkkiConverterRegistry} with all default converters.
@@ -112,15 +126,19 @@ public class LinkkiConverterRegistry implements Serializable {
      */
     public LinkkiConverterRegistry(Collection<Converter<?, ?>> customConverters) {
         requireNonNull(customConverters, "customConverters must not be null");
-        this.converters = new HashMap<>();
+        Map<Type, Sequence<Converter<?, ?>>> converters = new HashMap<>();
         converters.putAll(DEFAULT_CONVERTERS.stream()
-                .collect(toMap(this::getPresentationType,
+                .collect(toMap(LinkkiConverterRegistry::getPresentationType,
                                Sequence::of,
                                Sequence::with)));
         converters.putAll(customConverters.stream()
-                .collect(toMap(this::getPresentationType,
+                .collect(toMap(LinkkiConverterRegistry::getPresentationType,
                                Sequence::of,
                                Sequence::with)));
+        this.typedConverters = new HashMap<>();
+        converters.forEach((type, sequence) -> typedConverters
+                .put(type, sequence.stream().map(TypedConverter::new).collect(toList())));
+        this.resolvedConverters = new ConcurrentHashMap<>();
     }
 
     public LinkkiConverterRegistry(Sequence<Converter<?, ?>> customConverters) {
@@ -148,24 +166,50 @@ public class LinkkiConverterRegistry implements Serializable {
      * @throws IllegalArgumentException if the types could be considered to be correct but no matching
      *             converter could be found.
      */
-    @SuppressWarnings("unchecked")
     public <P, M> Converter<P, M> findConverter(Type presentationType, Type modelType) {
+        return this.<P, M> findConverterIfPresent(presentationType, modelType)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Cannot convert presentation type " + getRawType(presentationType) + " to model type "
+                                + getRawType(modelType)));
+    }
+
+    /**
+     * Finds a converter that does match the two types for the presentation an the model type like
+     * {@link #findConverter(Type, Type)}, but returns {@link Optional#empty()} instead of throwing an
+     * exception if there is no matching converter.
+     * <p>
+     * The result is cached for the raw types, so that repeated lookups of the same types, for example
+     * in every update of a label, do not search the converters again.
+     * 
+     * @param presentationType The type of the presentation, that means the value type of the UI
+     *            component
+     * @param modelType The type of the model, that means the value type of the model property
+     * @return the converter that best match the two types or {@link Optional#empty()} if there is no
+     *         matching converter
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <P, M> Optional<Converter<P, M>> findConverterIfPresent(Type presentationType, Type modelType) {
         Class<?> rawPresentationType = getRawType(presentationType);
         Class<?> rawModelType = getRawType(modelType);
         // rawPresentationType may be null if presentationType is a type variable
-        if (isIdentityNecessary(rawPresentationType, rawModelType)) {
-            return (Converter<P, M>)Converter.identity();
+        if (rawPresentationType == null || rawModelType == null
+                || isIdentityNecessary(rawPresentationType, rawModelType)) {
+            return Optional.of((Converter<P, M>)Converter.identity());
         } else {
-            return converters.computeIfAbsent(rawPresentationType, t -> Sequence.empty())
-                    .stream()
-                    .map(Converter.class::cast)
-                    .filter(c -> TypeUtils.equals(getPresentationType(c), rawPresentationType)
-                            && TypeUtils.equals(rawModelType, getModelType(c)))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Cannot convert presentation type " + rawPresentationType + " to model type "
-                                    + rawModelType));
+            return (Optional)resolvedConverters
+                    .computeIfAbsent(new ConverterKey(rawPresentationType, rawModelType),
+                                     key -> resolveConverter(rawPresentationType, rawModelType));
+        }
+    }
+
+    private Optional<Converter<?, ?>> resolveConverter(Class<?> rawPresentationType, Class<?> rawModelType) {
+        for (TypedConverter typedConverter : typedConverters.getOrDefault(rawPresentationType,
+                                                                          Collections.emptyList())) {
+            if (typedConverter.matches(rawPresentationType, rawModelType)) {
+                return Optional.of(typedConverter.converter);
+            }
         }
+        return Optional.empty();
     }
 
     /**
@@ -179,7 +223,8 @@ public class LinkkiConverterRegistry implements Serializable {
      * 
      * @return
      */
-    private boolean isIdentityNecessary(@CheckForNull Class<?> rawPresentationType, Class<?> rawModelType) {
+    private static boolean isIdentityNecessary(@CheckForNull Class<?> rawPresentationType,
+            @CheckForNull Class<?> rawModelType) {
         // CSOFF: Complexity
         return rawPresentationType == null
                 || rawModelType == null
@@ -189,22 +234,22 @@ public class LinkkiConverterRegistry implements Serializable {
     }
 
     @CheckForNull
-    private Class<?> getRawType(@CheckForNull Type type) {
+    private static Class<?> getRawType(@CheckForNull Type type) {
         return ClassUtils.primitiveToWrapper(TypeUtils.getRawType(type, null));
     }
 
     @CheckForNull
-    private Type getPresentationType(Converter<?, ?> converter) {
+    private static Type getPresentationType(Converter<?, ?> converter) {
         return getTypeOf(converter, 0);
     }
 
     @CheckForNull
-    private Type getModelType(Converter<?, ?> converter) {
+    private static Type getModelType(Converter<?, ?> converter) {
         return getTypeOf(converter, 1);
     }
 
     @CheckForNull
-    private Type getTypeOf(Converter<?, ?> converter, int index) {
+    private static Type getTypeOf(Converter<?, ?> converter, int index) {
         Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(converter.getClass(),
                                                                               Converter.class);
         @SuppressWarnings("rawtypes")
@@ -213,9 +258,10 @@ public class LinkkiConverterRegistry implements Serializable {
     }
 
     public LinkkiConverterRegistry with(Converter<?, ?> converter) {
-        return new LinkkiConverterRegistry(converters.values()
+        return new LinkkiConverterRegistry(typedConverters.values()
                 .stream()
-                .flatMap(Sequence::stream)
+                .flatMap(List::stream)
+                .<Converter<?, ?>> map(typedConverter -> typedConverter.converter)
                 .collect(Sequence.collect()).with(converter));
     }
 
@@ -230,13 +276,83 @@ public class LinkkiConverterRegistry implements Serializable {
      * 
      * If there is either no current {@link VaadinSession} or no {@link LinkkiConverterRegistry} is
      * configured this method returns {@link LinkkiConverterRegistry#DEFAULT}.
+     * <p>
+     * Inside of an {@link UiFramework#runInUpdateScope(org.linkki.util.handler.Handler) update scope},
+     * the registry is only looked up once.
      * 
      * @return the current configured {@link LinkkiConverterRegistry}
      */
     public static LinkkiConverterRegistry getCurrent() {
-        return Optional.ofNullable(VaadinSession.getCurrent())
-                .map(s -> s.getAttribute(LinkkiConverterRegistry.class))
-                .orElse(LinkkiConverterRegistry.DEFAULT);
+        return UiFramework.getUpdateScoped(LinkkiConverterRegistry.class,
+                                           () -> Optional.ofNullable(VaadinSession.getCurrent())
+                                                   .map(s -> s.getAttribute(LinkkiConverterRegistry.class))
+                                                   .orElse(LinkkiConverterRegistry.DEFAULT));
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        resolvedConverters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * A converter with its presentation and model type.
+     */
+    private static final class TypedConverter implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Converter<?, ?> converter;
+
+        @CheckForNull
+        private final Type presentationType;
+
+        @CheckForNull
+        private final Type modelType;
+
+        TypedConverter(Converter<?, ?> converter) {
+            this.converter = converter;
+            this.presentationType = getPresentationType(converter);
+            this.modelType = getModelType(converter);
+        }
+
+        boolean matches(Class<?> rawPresentationType, Class<?> rawModelType) {
+            return TypeUtils.equals(presentationType, rawPresentationType)
+                    && TypeUtils.equals(rawModelType, modelType);
+        }
+
+    }
+
+    /**
+     * The raw presentation and model type of a converter lookup.
+     */
+    private static final class ConverterKey {
+
+        private final Class<?> presentationType;
+
+        private final Class<?> modelType;
+
+        ConverterKey(Class<?> presentationType, Class<?> modelType) {
+            this.presentationType = presentationType;
+            this.modelType = modelType;
+        }
+
+        @Override
+        public boolean equals(@CheckForNull Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConverterKey)) {
+                return false;
+            }
+            ConverterKey other = (ConverterKey)obj;
+            return presentationType.equals(other.presentationType) && modelType.equals(other.modelType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * presentationType.hashCode() + modelType.hashCode();
+        }
+
     }
 
 }
@@ -89,7 +89,9 @@ public class PmoBasedSectionFactory {
 
         ComponentWrapper componentWrapper = UiCreator
                 .createComponent(pmo, bindingContext, componentDefinition, Optional.of(layoutDefinition));
-        return (AbstractSection)componentWrapper.getComponent();
+        AbstractSection section = (AbstractSection)componentWrapper.getComponent();
+        section.addOpenHandler(bindingContext::updateSuspendedBindings);
+        return section;
     }
 
 }
@@ -14,17 +14,19 @@
 
 package org.linkki.core.ui.creation.table;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import org.linkki.core.defaults.columnbased.ColumnBasedComponentWrapper;
-import org.linkki.core.defaults.columnbased.pmo.HierarchicalRowPmo;
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
 import org.linkki.core.defaults.columnbased.pmo.TableFooterPmo;
 import org.linkki.core.ui.creation.table.container.LinkkiInMemoryContainer;
+import org.linkki.core.ui.creation.table.container.LinkkiLazyContainer;
 import org.linkki.core.ui.wrapper.CaptionComponentWrapper;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
 /**
  * Wraps a vaadin {@link com.vaadin.v7.ui.Table Table}.
  * 
@@ -38,6 +40,9 @@ public class TableComponentWrapper<ROW> extends CaptionComponentWrapper
 
     private final LinkkiInMemoryContainer<ROW> tableContainer = new LinkkiInMemoryContainer<>();
 
+    @CheckForNull
+    private LinkkiLazyContainer<ROW> lazyContainer;
+
     public TableComponentWrapper(String id, com.vaadin.v7.ui.Table table) {
         super(id, table, COLUMN_BASED_TYPE);
         table.setContainerDataSource(tableContainer);
@@ -80,67 +85,41 @@ public class TableComponentWrapper<ROW> extends CaptionComponentWrapper
      * Sets the items displayed in the {@link com.vaadin.v7.ui.Table Table} by updating the
      * {@link com.vaadin.v7.ui.Table#getContainerDataSource() container data source} if the given items
      * are not the ones currently displayed.
+     * <p>
+     * For a {@link com.vaadin.v7.ui.TreeTable TreeTable}, the
+     * {@link LinkkiInMemoryContainer#updateItems(List, java.util.function.Predicate) differences} of
+     * the visible part of the tree are applied to the container.
      */
     @Override
     public void setItems(List<ROW> items) {
-        boolean hasChildChanged = updateChildren(items);
-        if (hasChildChanged || hasItemListChanged(items)) {
+        if (getComponent() instanceof com.vaadin.v7.ui.TreeTable) {
+            com.vaadin.v7.ui.TreeTable treeTable = (com.vaadin.v7.ui.TreeTable)getComponent();
+            tableContainer.updateItems(items, item -> !treeTable.isCollapsed(item));
+        } else if (hasItemListChanged(items)) {
             tableContainer.setItems(items);
         }
     }
 
-    private boolean hasItemListChanged(List<ROW> items) {
-        return !tableContainer.rootItemIds().equals(items);
-    }
-
-    /**
-     * @see #updateChildren(ROW)
-     */
-    private boolean updateChildren(List<? extends ROW> items) {
-        boolean changed = false;
-        for (ROW item : items) {
-            changed |= updateChildren(item);
-        }
-        return changed;
-    }
-
     /**
-     * Updates the children stored in the underlying container. Stored children that do not match the
-     * ones present on the given item are updated accordingly. Children of items that are not visible
-     * are ignored.
-     * 
-     * A call to {@link LinkkiInMemoryContainer#setItems(Collection)} is required if this method returns
-     * {@code true}.
-     * 
-     * @return {@code true} if the underlying container changed as a result of the call
+     * Replaces the {@link com.vaadin.v7.ui.Table#getContainerDataSource() container data source} with a
+     * {@link LinkkiLazyContainer} on the first call. Subsequent calls
+     * {@link LinkkiLazyContainer#refresh() refresh} the items that are currently loaded.
      */
-    private boolean updateChildren(ROW item) {
-        if (getComponent() instanceof com.vaadin.v7.ui.TreeTable) {
-            boolean expanded = !((com.vaadin.v7.ui.TreeTable)getComponent()).isCollapsed(item);
-            Collection<ROW> storedChildren = tableContainer.getExistingChildren(item);
-            List<? extends ROW> currentChildren = getCurrentChildren(item);
-            boolean childrenHaveChanged = !currentChildren.equals(storedChildren);
-            boolean subChildrenHaveChanged = expanded && updateChildren(currentChildren);
-
-            if (childrenHaveChanged || subChildrenHaveChanged) {
-                tableContainer.removeExistingChildren(item);
-                tableContainer.getChildren(item);
-                return true;
-            } else {
-                return false;
-            }
+    @Override
+    public void setPagedItems(PagedContainerPmo<ROW> pagedContainerPmo) {
+        LinkkiLazyContainer<ROW> container = lazyContainer;
+        if (container == null) {
+            com.vaadin.v7.ui.Table table = getComponent();
+            container = new LinkkiLazyContainer<>(pagedContainerPmo);
+            lazyContainer = container;
+            table.setContainerDataSource(container, Arrays.asList(table.getVisibleColumns()));
         } else {
-            return false;
+            container.refresh();
         }
     }
 
-    private List<? extends ROW> getCurrentChildren(ROW item) {
-        if (!(item instanceof HierarchicalRowPmo<?>)) {
-            return Collections.emptyList();
-        }
-        @SuppressWarnings("unchecked")
-        HierarchicalRowPmo<? extends ROW> hierarchicalRowPmo = (HierarchicalRowPmo<? extends ROW>)item;
-        return hierarchicalRowPmo.getChildRows();
+    private boolean hasItemListChanged(List<ROW> items) {
+        return !tableContainer.rootItemIds().equals(items);
     }
 
 }
@@ -22,6 +22,7 @@ import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
 import org.linkki.core.defaults.columnbased.ColumnBasedComponentCreator;
 import org.linkki.core.defaults.columnbased.pmo.ContainerPmo;
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
 import org.linkki.core.defaults.style.LinkkiTheme;
 import org.linkki.core.ui.table.column.TableColumnWrapper;
 
@@ -31,6 +32,13 @@ import org.linkki.core.ui.table.column.TableColumnWrapper;
 @SuppressWarnings("javadoc")
 class TableCreator implements ColumnBasedComponentCreator {
 
+    /**
+     * The {@link com.vaadin.v7.ui.Table#setCacheRate(double) cache rate} used for
+     * {@link ContainerPmo#isVirtualized() virtualized} tables: half a page above and below the visible
+     * rows.
+     */
+    static final double VIRTUALIZED_CACHE_RATE = 0.5;
+
     /**
      * Creates a new table based on the container PMO.
      */
@@ -42,7 +50,11 @@ class TableCreator implements ColumnBasedComponentCreator {
         table.addStyleName(LinkkiTheme.TABLE);
         table.setHeightUndefined();
         table.setWidth("100%");
-        table.setSortEnabled(false);
+        table.setSortEnabled(containerPmo instanceof PagedContainerPmo
+                && !((PagedContainerPmo<?>)containerPmo).getSortableProperties().isEmpty());
+        if (containerPmo.isVirtualized()) {
+            table.setCacheRate(VIRTUALIZED_CACHE_RATE);
+        }
         return new TableComponentWrapper<>(containerPmo.getClass().getSimpleName(), table);
     }
 
@@ -61,7 +73,7 @@ class TableCreator implements ColumnBasedComponentCreator {
             BindingContext bindingContext,
             PropertyElementDescriptors elementDesc) {
         com.vaadin.v7.ui.Table.ColumnGenerator columnGen = TableColumnWrapper
-                .createComponent(elementDesc, bindingContext);
+                .createComponent(elementDesc, bindingContext, containerPmo.isVirtualized());
         String propertyName = elementDesc.getPmoPropertyName();
         com.vaadin.v7.ui.Table table = (com.vaadin.v7.ui.Table)tableWrapper.getComponent();
         table.addGeneratedColumn(propertyName, columnGen);
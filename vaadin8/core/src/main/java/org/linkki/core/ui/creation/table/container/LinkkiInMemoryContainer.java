@@ -15,12 +15,19 @@ package org.linkki.core.ui.creation.table.container;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.function.Predicate;
 
 import org.linkki.core.defaults.columnbased.pmo.HierarchicalRowPmo;
 
@@ -46,8 +53,12 @@ public class LinkkiInMemoryContainer<T>
     private WeakHashMap<T, T> parents = new WeakHashMap<>();
     private WeakHashMap<T, List<T>> children = new WeakHashMap<>();
 
+    private WeakHashMap<T, Long> subtreeVersions = new WeakHashMap<>();
+
     private ArrayList<T> roots = new ArrayList<>();
 
+    private HashSet<T> rootSet = new HashSet<>();
+
     @Override
     public Collection<?> getContainerPropertyIds() {
         return Collections.emptyList();
@@ -64,6 +75,7 @@ public class LinkkiInMemoryContainer<T>
         requireNonNull(items, "items must not be null");
 
         this.roots = new ArrayList<>(items);
+        this.rootSet = new HashSet<>(items);
 
         getAllItemIds().clear();
         getAllItemIds().addAll(items);
@@ -71,6 +83,140 @@ public class LinkkiInMemoryContainer<T>
         fireItemSetChange();
     }
 
+    /**
+     * Updates this container's contents to the given root items and the current
+     * {@link HierarchicalRowPmo#getChildRows() child rows} of all visible items. In contrast to
+     * {@link #setItems(Collection)}, only the differences to the current contents are applied: per
+     * parent, removed children are dropped together with their subtrees, inserted children are added
+     * and children that moved to another parent keep their subtree. Removals are only applied after all
+     * parents were compared, so that a moved child is kept regardless of the order of its old and new
+     * parent.
+     * <p>
+     * The children of every visible item are compared, as a change may add or remove its expand
+     * button. Subtrees are only walked below expanded items. The cached children below collapsed items
+     * are dropped and read again when the item is expanded. A subtree is skipped completely if its
+     * root provides a {@link HierarchicalRowPmo#getSubtreeVersion() subtree version} that did not
+     * change since the last update.
+     * <p>
+     * Vaadin is notified with a single item set change if anything changed.
+     * 
+     * @param items the root items
+     * @param isExpanded tells whether an item is expanded, i.e. its children are visible
+     * @return whether the contents of this container changed
+     */
+    public boolean updateItems(List<? extends T> items, Predicate<? super T> isExpanded) {
+        requireNonNull(items, "items must not be null");
+        requireNonNull(isExpanded, "isExpanded must not be null");
+
+        Deque<Removal<T>> removals = new ArrayDeque<>();
+        boolean changed = updateRoots(items, removals);
+        for (T root : roots) {
+            changed |= updateSubtree(root, isExpanded, removals);
+        }
+        applyRemovals(removals);
+        if (changed) {
+            fireItemSetChange();
+        }
+        return changed;
+    }
+
+    private boolean updateRoots(List<? extends T> items, Deque<Removal<T>> removals) {
+        if (roots.equals(items)) {
+            return false;
+        }
+        Set<T> newRoots = new HashSet<>(items);
+        roots.stream()
+                .filter(root -> !newRoots.contains(root))
+                .forEach(root -> removals.add(new Removal<>(root, null)));
+        items.forEach(root -> {
+            parents.remove(root);
+            getAllItemIds().add(root);
+        });
+        this.roots = new ArrayList<>(items);
+        this.rootSet = new HashSet<>(items);
+        return true;
+    }
+
+    private boolean updateSubtree(T item, Predicate<? super T> isExpanded, Deque<Removal<T>> removals) {
+        Optional<HierarchicalRowPmo<?>> hierarchicalItem = getHierarchicalItem(item);
+        if (!hierarchicalItem.isPresent()) {
+            return false;
+        }
+        OptionalLong version = hierarchicalItem.get().getSubtreeVersion();
+        if (version.isPresent() && Long.valueOf(version.getAsLong()).equals(subtreeVersions.get(item))) {
+            return false;
+        }
+
+        boolean changed = updateChildren(item, removals);
+        List<T> currentChildren = children.getOrDefault(item, Collections.emptyList());
+        if (isExpanded.test(item)) {
+            for (T child : currentChildren) {
+                changed |= updateSubtree(child, isExpanded, removals);
+            }
+        } else {
+            currentChildren.forEach(child -> removeDescendants(child, removals));
+        }
+
+        if (version.isPresent()) {
+            subtreeVersions.put(item, version.getAsLong());
+        } else {
+            subtreeVersions.remove(item);
+        }
+        return changed;
+    }
+
+    /**
+     * Compares the stored children of the given item with its current child rows and applies the
+     * differences. Removed children are added to the given removals.
+     * 
+     * @return whether the children changed
+     */
+    private boolean updateChildren(T parent, Deque<Removal<T>> removals) {
+        List<T> storedChildren = children.get(parent);
+        if (storedChildren == null) {
+            return !getChildren(parent).isEmpty();
+        }
+        List<T> currentChildren = getChildrenTypesafe(parent);
+        if (currentChildren.equals(storedChildren)) {
+            return false;
+        }
+        Set<T> current = new HashSet<>(currentChildren);
+        storedChildren.stream()
+                .filter(child -> !current.contains(child))
+                .forEach(child -> removals.add(new Removal<>(child, parent)));
+        // getChildrenTypesafe already registered the parent of the current children
+        currentChildren.forEach(getAllItemIds()::add);
+        children.put(parent, currentChildren);
+        return true;
+    }
+
+    /**
+     * Removes the given items and their stored descendants from this container. An item is kept if it
+     * moved to another parent or became a root while the parents were compared.
+     */
+    private void applyRemovals(Deque<Removal<T>> removals) {
+        while (!removals.isEmpty()) {
+            Removal<T> removal = removals.poll();
+            T item = removal.item;
+            if (!rootSet.contains(item) && Objects.equals(removal.formerParent, parents.get(item))) {
+                getAllItemIds().remove(item);
+                parents.remove(item);
+                removeDescendants(item, removals);
+            }
+        }
+    }
+
+    /**
+     * Drops the stored descendants of the given item. The children are added to the given removals.
+     */
+    private void removeDescendants(T item, Deque<Removal<T>> removals) {
+        subtreeVersions.remove(item);
+        List<T> removedChildren = children.remove(item);
+        if (removedChildren != null) {
+            removedChildren.forEach(child -> removals.add(new Removal<>(child, item)));
+        }
+    }
+
     /**
      * @deprecated Since July 26, 2018. Use {@link #setItems(Collection)} with empty list instead. If
      *             {@link #removeAllItems()} was only used in combination with
@@ -83,7 +229,9 @@ public class LinkkiInMemoryContainer<T>
         getAllItemIds().clear();
         parents.clear();
         children.clear();
+        subtreeVersions.clear();
         roots.clear();
+        rootSet.clear();
         return true;
     }
 
@@ -94,6 +242,7 @@ public class LinkkiInMemoryContainer<T>
     @Deprecated
     public void addAllItems(Collection<T> items) {
         this.roots.addAll(items);
+        this.rootSet.addAll(items);
         getAllItemIds().addAll(items);
         fireItemSetChange();
     }
@@ -184,7 +333,7 @@ public class LinkkiInMemoryContainer<T>
 
     @Override
     public boolean isRoot(Object itemId) {
-        return roots.contains(itemId);
+        return rootSet.contains(itemId);
     }
 
     @Override
@@ -206,4 +355,22 @@ public class LinkkiInMemoryContainer<T>
         return false;
     }
 
+    /**
+     * An item that was removed from the given parent, or from the roots if the parent is
+     * <code>null</code>.
+     */
+    private static class Removal<T> {
+
+        private final T item;
+
+        @CheckForNull
+        private final T formerParent;
+
+        Removal(T item, @CheckForNull T formerParent) {
+            this.item = item;
+            this.formerParent = formerParent;
+        }
+
+    }
+
 }
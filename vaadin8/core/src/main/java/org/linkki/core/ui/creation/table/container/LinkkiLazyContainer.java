@@ -0,0 +1,368 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.ui.creation.table.container;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A read-only container that loads its items page by page from a {@link PagedContainerPmo}. Only the
+ * pages that were requested by the table are loaded, and only a limited number of pages is kept.
+ * <p>
+ * {@link #refresh()} reloads the item count and the cached pages and notifies the table only if they
+ * changed.
+ * <p>
+ * Items are only looked up in the loaded pages. {@link #indexOfId(Object)}, {@link #containsId(Object)}
+ * and the navigation methods based on them treat items on other pages as not contained, as described
+ * in {@link PagedContainerPmo}.
+ * 
+ * @param <T> the type of items contained in this container
+ */
+@SuppressWarnings("deprecation")
+public class LinkkiLazyContainer<T> extends com.vaadin.v7.data.util.AbstractContainer
+        implements com.vaadin.v7.data.Container.Indexed, com.vaadin.v7.data.Container.Sortable,
+        com.vaadin.v7.data.Container.ItemSetChangeNotifier {
+
+    /** The default number of items loaded at once. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** The maximum number of pages kept in memory. */
+    public static final int MAX_CACHED_PAGES = 10;
+
+    private static final long serialVersionUID = 1L;
+
+    private final PagedContainerPmo<T> containerPmo;
+
+    private final int pageSize;
+
+    private final PageCache<T> pages = new PageCache<>();
+
+    private int size = -1;
+
+    /**
+     * Creates a container loading {@value #DEFAULT_PAGE_SIZE} items at once.
+     */
+    public LinkkiLazyContainer(PagedContainerPmo<T> containerPmo) {
+        this(containerPmo, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a container loading the given number of items at once.
+     */
+    public LinkkiLazyContainer(PagedContainerPmo<T> containerPmo, int pageSize) {
+        this.containerPmo = requireNonNull(containerPmo, "containerPmo must not be null");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive but was " + pageSize);
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Reloads the item count and the cached pages. Listeners are notified if the count or any of the
+     * cached items changed.
+     * 
+     * @return whether the items changed
+     */
+    public boolean refresh() {
+        int newSize = containerPmo.getItemCount();
+        boolean changed = newSize != size;
+        Map<Integer, List<T>> reloadedPages = new LinkedHashMap<>();
+        for (Entry<Integer, List<T>> page : pages.entrySet()) {
+            List<T> reloadedPage = loadPage(page.getKey());
+            changed |= !reloadedPage.equals(page.getValue());
+            reloadedPages.put(page.getKey(), reloadedPage);
+        }
+        size = newSize;
+        pages.putAll(reloadedPages);
+        if (changed) {
+            fireItemSetChange();
+        }
+        return changed;
+    }
+
+    private List<T> getPage(int pageIndex) {
+        return pages.computeIfAbsent(pageIndex, this::loadPage);
+    }
+
+    private List<T> loadPage(int pageIndex) {
+        return new ArrayList<>(containerPmo.getItems(pageIndex * pageSize, pageSize));
+    }
+
+    @Override
+    public int size() {
+        if (size < 0) {
+            size = containerPmo.getItemCount();
+        }
+        return size;
+    }
+
+    @Override
+    public T getIdByIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size());
+        }
+        List<T> page = getPage(index / pageSize);
+        int indexInPage = index % pageSize;
+        if (indexInPage >= page.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for the loaded items");
+        }
+        return page.get(indexInPage);
+    }
+
+    @Override
+    public List<T> getItemIds(int startIndex, int numberOfItems) {
+        if (startIndex < 0 || numberOfItems < 0) {
+            throw new IndexOutOfBoundsException(
+                    "Range " + startIndex + " + " + numberOfItems + " is out of bounds");
+        }
+        int endIndex = Math.min(startIndex + numberOfItems, size());
+        List<T> itemIds = new ArrayList<>(Math.max(0, endIndex - startIndex));
+        for (int index = startIndex; index < endIndex; index++) {
+            itemIds.add(getIdByIndex(index));
+        }
+        return Collections.unmodifiableList(itemIds);
+    }
+
+    /**
+     * Returns a view of all item IDs that loads the items only when they are accessed.
+     */
+    @Override
+    public List<T> getItemIds() {
+        return new AbstractList<T>() {
+
+            @Override
+            public T get(int index) {
+                return getIdByIndex(index);
+            }
+
+            @Override
+            public int size() {
+                return LinkkiLazyContainer.this.size();
+            }
+
+        };
+    }
+
+    /**
+     * Returns the index of the given item if it is in one of the loaded pages, otherwise -1.
+     */
+    @Override
+    public int indexOfId(@CheckForNull Object itemId) {
+        for (Entry<Integer, List<T>> page : pages.entrySet()) {
+            int indexInPage = page.getValue().indexOf(itemId);
+            if (indexInPage >= 0) {
+                return page.getKey() * pageSize + indexInPage;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsId(@CheckForNull Object itemId) {
+        return indexOfId(itemId) >= 0;
+    }
+
+    @CheckForNull
+    @Override
+    public com.vaadin.v7.data.Item getItem(@CheckForNull Object itemId) {
+        return new DummyItemImplementation();
+    }
+
+    @CheckForNull
+    @Override
+    public T nextItemId(@CheckForNull Object itemId) {
+        int index = indexOfId(itemId);
+        return index >= 0 && index + 1 < size() ? getIdByIndex(index + 1) : null;
+    }
+
+    @CheckForNull
+    @Override
+    public T prevItemId(@CheckForNull Object itemId) {
+        int index = indexOfId(itemId);
+        return index > 0 ? getIdByIndex(index - 1) : null;
+    }
+
+    @CheckForNull
+    @Override
+    public T firstItemId() {
+        return size() > 0 ? getIdByIndex(0) : null;
+    }
+
+    @CheckForNull
+    @Override
+    public T lastItemId() {
+        return size() > 0 ? getIdByIndex(size() - 1) : null;
+    }
+
+    @Override
+    public boolean isFirstId(@CheckForNull Object itemId) {
+        return indexOfId(itemId) == 0;
+    }
+
+    @Override
+    public boolean isLastId(@CheckForNull Object itemId) {
+        int index = indexOfId(itemId);
+        return index >= 0 && index == size() - 1;
+    }
+
+    /**
+     * Sorts the items by the first of the given properties using
+     * {@link PagedContainerPmo#sortBy(String, boolean)} and reloads them.
+     */
+    @Override
+    public void sort(Object[] propertyId, boolean[] ascending) {
+        if (propertyId.length > 0) {
+            containerPmo.sortBy((String)propertyId[0], ascending[0]);
+            pages.clear();
+            size = -1;
+            fireItemSetChange();
+        }
+    }
+
+    @Override
+    public Collection<?> getSortableContainerPropertyIds() {
+        return containerPmo.getSortableProperties();
+    }
+
+    @Override
+    public Collection<?> getContainerPropertyIds() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public com.vaadin.v7.data.Property<?> getContainerProperty(@CheckForNull Object itemId,
+            @CheckForNull Object propertyId) {
+        throw new UnsupportedOperationException("getContainerProperty is not supported");
+    }
+
+    @Override
+    @CheckForNull
+    public Class<?> getType(@CheckForNull Object propertyId) {
+        throw new UnsupportedOperationException("getType is not supported");
+    }
+
+    @Override
+    public void addItemSetChangeListener(com.vaadin.v7.data.Container.ItemSetChangeListener listener) {
+        super.addItemSetChangeListener(listener);
+    }
+
+    /**
+     * @deprecated As of 7.0, replaced by {@link #addItemSetChangeListener(ItemSetChangeListener)}
+     */
+    @Deprecated
+    @Override
+    public void addListener(com.vaadin.v7.data.Container.ItemSetChangeListener listener) {
+        super.addListener(listener);
+    }
+
+    @Override
+    public void removeItemSetChangeListener(com.vaadin.v7.data.Container.ItemSetChangeListener listener) {
+        super.removeItemSetChangeListener(listener);
+    }
+
+    /**
+     * @deprecated As of 7.0, replaced by {@link #removeItemSetChangeListener(ItemSetChangeListener)}
+     */
+    @Deprecated
+    @Override
+    public void removeListener(com.vaadin.v7.data.Container.ItemSetChangeListener listener) {
+        super.removeListener(listener);
+    }
+
+    // the container is read-only
+
+    @Override
+    public com.vaadin.v7.data.Item addItem(@CheckForNull Object itemId) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public Object addItem() {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public boolean removeItem(@CheckForNull Object itemId) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public boolean addContainerProperty(@CheckForNull Object propertyId,
+            @CheckForNull Class<?> type,
+            @CheckForNull Object defaultValue) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public boolean removeContainerProperty(@CheckForNull Object propertyId) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public boolean removeAllItems() {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public Object addItemAfter(@CheckForNull Object previousItemId) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public com.vaadin.v7.data.Item addItemAfter(@CheckForNull Object previousItemId,
+            @CheckForNull Object newItemId) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public Object addItemAt(int index) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    @Override
+    public com.vaadin.v7.data.Item addItemAt(int index, @CheckForNull Object newItemId) {
+        throw new UnsupportedOperationException("LinkkiLazyContainer is read-only");
+    }
+
+    /**
+     * Keeps the {@value LinkkiLazyContainer#MAX_CACHED_PAGES} most recently used pages.
+     */
+    private static class PageCache<T> extends LinkedHashMap<Integer, List<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        PageCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Entry<Integer, List<T>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+
+    }
+
+}
@@ -2,6 +2,8 @@ package org.linkki.core.ui.table.column;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.linkki.core.binding.Binding;
 import org.linkki.core.binding.BindingContext;
 import org.linkki.core.binding.descriptor.ElementDescriptor;
@@ -21,14 +23,28 @@ class FieldColumnGenerator implements com.vaadin.v7.ui.Table.ColumnGenerator {
 
     private final PropertyElementDescriptors elementDescriptors;
     private final BindingContext bindingContext;
+    private final boolean virtualized;
 
     @Nullable
     private Binding binding;
 
     public FieldColumnGenerator(PropertyElementDescriptors elementDescriptors,
             BindingContext bindingContext) {
+        this(elementDescriptors, bindingContext, false);
+    }
+
+    /**
+     * Creates a column generator. If {@code virtualized} is {@code true}, the generated cells are only
+     * bound while they are attached. A cell is bound when it is attached for the first time. Its binding
+     * is removed from the binding context while it is detached and added again when it is attached
+     * again. The {@link com.vaadin.v7.ui.Table Table} detaches the cells of rows that are no longer in
+     * its cache, thereby removing their bindings.
+     */
+    public FieldColumnGenerator(PropertyElementDescriptors elementDescriptors,
+            BindingContext bindingContext, boolean virtualized) {
         this.elementDescriptors = requireNonNull(elementDescriptors, "elementDescriptors must not be null");
         this.bindingContext = requireNonNull(bindingContext, "bindingContext must not be null");
+        this.virtualized = virtualized;
     }
 
     @Override
@@ -42,7 +58,26 @@ class FieldColumnGenerator implements com.vaadin.v7.ui.Table.ColumnGenerator {
         component.addStyleName(LinkkiTheme.TABLE_CELL);
         component.setWidthFull();
 
-        bindingContext.bind(itemId, elementDescriptor, new LabelComponentWrapper(component));
+        LabelComponentWrapper componentWrapper = new LabelComponentWrapper(component);
+        if (virtualized) {
+            // the cell is bound only once, so that the listeners of the aspects are not added again
+            // when the cell is attached again
+            AtomicReference<Binding> cellBinding = new AtomicReference<>();
+            component.addAttachListener($ -> {
+                Binding existingBinding = cellBinding.get();
+                if (existingBinding == null) {
+                    cellBinding.set(bindingContext.bind(itemId, elementDescriptor, componentWrapper));
+                } else {
+                    bindingContext.add(existingBinding, componentWrapper);
+                }
+            });
+            component.addDetachListener($ -> {
+                bindingContext.removeBindingsForComponent(component);
+                componentWrapper.unregisterBinding();
+            });
+        } else {
+            bindingContext.bind(itemId, elementDescriptor, componentWrapper);
+        }
 
         return component;
     }
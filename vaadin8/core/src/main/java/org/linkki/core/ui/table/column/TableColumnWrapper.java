@@ -131,7 +131,19 @@ public class TableColumnWrapper implements ComponentWrapper {
 
     public static com.vaadin.v7.ui.Table.ColumnGenerator createComponent(PropertyElementDescriptors elementDesc,
             BindingContext bindingContext) {
-        return new FieldColumnGenerator(elementDesc, bindingContext);
+        return createComponent(elementDesc, bindingContext, false);
+    }
+
+    /**
+     * Creates a column generator for the given element.
+     * 
+     * @param virtualized whether the generated cells should only be bound while they are attached, see
+     *            {@link org.linkki.core.defaults.columnbased.pmo.ContainerPmo#isVirtualized()}
+     */
+    public static com.vaadin.v7.ui.Table.ColumnGenerator createComponent(PropertyElementDescriptors elementDesc,
+            BindingContext bindingContext,
+            boolean virtualized) {
+        return new FieldColumnGenerator(elementDesc, bindingContext, virtualized);
     }
 
 }
@@ -20,7 +20,9 @@ import org.linkki.core.binding.wrapper.ComponentWrapperFactory;
 import org.linkki.core.uiframework.UiFrameworkExtension;
 import org.linkki.util.StreamUtil;
 
+import com.vaadin.ui.Component;
 import com.vaadin.ui.HasComponents;
+import com.vaadin.ui.TabSheet;
 import com.vaadin.ui.UI;
 
 /**
@@ -53,4 +55,33 @@ public class Vaadin8 implements UiFrameworkExtension {
         return Stream.empty();
     }
 
+    @Override
+    public boolean isAttached(Object uiComponent) {
+        return !(uiComponent instanceof Component) || ((Component)uiComponent).isAttached();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A component is hidden if any of its parents is invisible or if it is contained in a tab of a
+     * {@link TabSheet} that is not selected.
+     */
+    @Override
+    public boolean isHiddenByParent(Object uiComponent) {
+        if (!(uiComponent instanceof Component)) {
+            return false;
+        }
+        Component child = (Component)uiComponent;
+        HasComponents parent = child.getParent();
+        while (parent != null) {
+            if (!parent.isVisible()
+                    || (parent instanceof TabSheet && ((TabSheet)parent).getSelectedTab() != child)) {
+                return true;
+            }
+            child = parent;
+            parent = parent.getParent();
+        }
+        return false;
+    }
+
 }
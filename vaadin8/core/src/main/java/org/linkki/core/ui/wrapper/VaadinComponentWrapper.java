@@ -22,9 +22,11 @@ import org.linkki.core.binding.Binding;
 import org.linkki.core.binding.validation.message.Message;
 import org.linkki.core.binding.validation.message.MessageList;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
+import org.linkki.core.binding.wrapper.DisplayedValidationMessages;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.linkki.core.ui.validation.message.SeverityErrorLevelConverter;
 import org.linkki.util.HtmlSanitizer;
+import org.linkki.util.handler.Handler;
 
 import com.vaadin.server.AbstractErrorMessage.ContentMode;
 import com.vaadin.server.UserError;
@@ -44,6 +46,8 @@ public abstract class VaadinComponentWrapper implements ComponentWrapper {
 
     private final WrapperType type;
 
+    private final DisplayedValidationMessages displayedMessages = new DisplayedValidationMessages();
+
     public VaadinComponentWrapper(Component component, WrapperType type) {
         this.component = component;
         this.type = type;
@@ -72,6 +76,11 @@ public abstract class VaadinComponentWrapper implements ComponentWrapper {
         }
     }
 
+    @Override
+    public void addDetachHandler(Handler detachHandler) {
+        component.addDetachListener(e -> detachHandler.apply());
+    }
+
     @Override
     public Component getComponent() {
         return component;
@@ -81,7 +90,11 @@ public abstract class VaadinComponentWrapper implements ComponentWrapper {
     public void setValidationMessages(MessageList messagesForProperty) {
         if (component instanceof AbstractComponent) {
             AbstractComponent field = (AbstractComponent)component;
-            field.setComponentError(getErrorHandler(messagesForProperty));
+            if (!displayedMessages.isDisplayed(messagesForProperty, field.getComponentError())) {
+                UserError errorHandler = getErrorHandler(messagesForProperty);
+                field.setComponentError(errorHandler);
+                displayedMessages.displayed(messagesForProperty, errorHandler);
+            }
         }
     }
 
@@ -107,6 +120,13 @@ public abstract class VaadinComponentWrapper implements ComponentWrapper {
         ((AbstractComponent)component).setData(binding);
     }
 
+    @Override
+    public void unregisterBinding() {
+        if (((AbstractComponent)component).getData() instanceof Binding) {
+            ((AbstractComponent)component).setData(null);
+        }
+    }
+
     @Override
     public WrapperType getType() {
         return type;
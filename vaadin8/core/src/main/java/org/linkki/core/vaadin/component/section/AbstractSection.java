@@ -13,6 +13,8 @@
  */
 package org.linkki.core.vaadin.component.section;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +50,8 @@ public abstract class AbstractSection extends VerticalLayout {
     private final Label captionLabel;
     private final Button closeButton;
 
+    private final List<Handler> openHandlers = new ArrayList<>();
+
     private boolean open = true;
 
     /**
@@ -213,10 +217,20 @@ public abstract class AbstractSection extends VerticalLayout {
         switchOpenStatus();
     }
 
+    /**
+     * Adds a handler that is called after the section was opened.
+     */
+    public void addOpenHandler(Handler openHandler) {
+        openHandlers.add(requireNonNull(openHandler, "openHandler must not be null"));
+    }
+
     protected void switchOpenStatus() {
         open = !open;
         closeButton.setIcon(open ? VaadinIcons.ANGLE_DOWN : VaadinIcons.ANGLE_RIGHT);
         getSectionContent().setVisible(open);
+        if (open) {
+            openHandlers.forEach(Handler::apply);
+        }
     }
 
     /**
@@ -22,6 +22,8 @@ import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -212,4 +214,88 @@ public class AvailableValuesAspectDefinitionTest {
         assertThat(newDataProvider, is(not(dataProvider)));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRefresh_UnchangedItems() {
+        BiConsumer<HasItems<?>, ListDataProvider<Object>> dataProviderSetter = mock(BiConsumer.class);
+        AvailableValuesAspectDefinition<HasItems<?>> availableValuesAspectDefinition = new AvailableValuesAspectDefinition<>(
+                AvailableValuesType.DYNAMIC, dataProviderSetter);
+        PropertyDispatcher propertyDispatcher = mock(PropertyDispatcher.class);
+        when(propertyDispatcher.pull(any(Aspect.class))).thenReturn(Arrays.asList(TestEnum.ONE, TestEnum.THREE),
+                                                                    Arrays.asList(TestEnum.ONE, TestEnum.THREE));
+        ComboBox<Object> component = new ComboBox<>();
+        Handler uiUpdater = availableValuesAspectDefinition.createUiUpdater(propertyDispatcher,
+                                                                            new LabelComponentWrapper(component));
+        uiUpdater.apply();
+        Mockito.reset(dataProviderSetter);
+
+        uiUpdater.apply();
+
+        verify(dataProviderSetter, never()).accept(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRefresh_ChangedItems() {
+        BiConsumer<HasItems<?>, ListDataProvider<Object>> dataProviderSetter = mock(BiConsumer.class);
+        AvailableValuesAspectDefinition<HasItems<?>> availableValuesAspectDefinition = new AvailableValuesAspectDefinition<>(
+                AvailableValuesType.DYNAMIC, dataProviderSetter);
+        PropertyDispatcher propertyDispatcher = mock(PropertyDispatcher.class);
+        when(propertyDispatcher.pull(any(Aspect.class))).thenReturn(Arrays.asList(TestEnum.ONE, TestEnum.THREE),
+                                                                    Arrays.asList(TestEnum.ONE, TestEnum.TWO));
+        ComboBox<Object> component = new ComboBox<>();
+        Handler uiUpdater = availableValuesAspectDefinition.createUiUpdater(propertyDispatcher,
+                                                                            new LabelComponentWrapper(component));
+        uiUpdater.apply();
+        Mockito.reset(dataProviderSetter);
+
+        uiUpdater.apply();
+
+        ArgumentCaptor<ListDataProvider<?>> dataProviderCaptor = ArgumentCaptor.forClass(ListDataProvider.class);
+        verify(dataProviderSetter).accept(eq(component), (ListDataProvider<Object>)dataProviderCaptor.capture());
+        assertThat(dataProviderCaptor.getValue().getItems(), contains(TestEnum.ONE, TestEnum.TWO));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRefresh_ChangedCaptions() {
+        BiConsumer<HasItems<?>, ListDataProvider<Object>> dataProviderSetter = mock(BiConsumer.class);
+        AvailableValuesAspectDefinition<HasItems<?>> availableValuesAspectDefinition = new AvailableValuesAspectDefinition<>(
+                AvailableValuesType.DYNAMIC, dataProviderSetter);
+        PropertyDispatcher propertyDispatcher = mock(PropertyDispatcher.class);
+        when(propertyDispatcher.pull(any(Aspect.class))).thenReturn(Arrays.asList(TestEnum.ONE, TestEnum.THREE));
+        ComboBox<Object> component = new ComboBox<>();
+        Handler uiUpdater = availableValuesAspectDefinition.createUiUpdater(propertyDispatcher,
+                                                                            new LabelComponentWrapper(component));
+        uiUpdater.apply();
+        Mockito.reset(dataProviderSetter);
+        component.setItemCaptionGenerator(item -> "new " + item);
+
+        uiUpdater.apply();
+
+        verify(dataProviderSetter).accept(eq(component), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRefresh_StaticValuesAppliedOnce() {
+        BiConsumer<HasItems<?>, ListDataProvider<Object>> dataProviderSetter = mock(BiConsumer.class);
+        AvailableValuesAspectDefinition<HasItems<?>> availableValuesAspectDefinition = new AvailableValuesAspectDefinition<>(
+                AvailableValuesType.ENUM_VALUES_EXCL_NULL, dataProviderSetter);
+        PropertyDispatcher propertyDispatcher = mock(PropertyDispatcher.class);
+        Mockito.<Class<?>> when(propertyDispatcher.getValueClass()).thenReturn(TestEnum.class);
+        when(propertyDispatcher.pull(any(Aspect.class))).thenAnswer(i -> ((Aspect<?>)i.getArgument(0)).getValue());
+        ComboBox<Object> component = new ComboBox<>();
+        Handler uiUpdater = availableValuesAspectDefinition.createUiUpdater(propertyDispatcher,
+                                                                            new LabelComponentWrapper(component));
+        uiUpdater.apply();
+        Mockito.reset(dataProviderSetter);
+
+        component.setItemCaptionGenerator(item -> "new " + item);
+        uiUpdater.apply();
+
+        verify(propertyDispatcher, times(1)).pull(any(Aspect.class));
+        verify(dataProviderSetter, never()).accept(any(), any());
+    }
+
 }
@@ -16,8 +16,12 @@ package org.linkki.core.ui.converters;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Date;
+import java.util.Optional;
+
+import org.apache.commons.lang3.SerializationUtils;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -53,6 +57,49 @@ public class LinkkiConverterRegistryTest {
                    is(instanceOf(MyStringToDateConverter.class)));
     }
 
+    @Test
+    public void testFindConverter_Identity() {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+
+        assertThat(linkkiConverterRegistry.findConverter(String.class, Object.class)
+                .convertToPresentation("foo", new ValueContext()), is("foo"));
+    }
+
+    @Test
+    public void testFindConverter_IsCached() {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+
+        assertThat(linkkiConverterRegistry.findConverter(String.class, Integer.class),
+                   is(sameInstance(linkkiConverterRegistry.findConverter(String.class, int.class))));
+    }
+
+    @Test
+    public void testFindConverterIfPresent() {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+
+        assertThat(linkkiConverterRegistry.findConverterIfPresent(String.class, Date.class).get(),
+                   is(instanceOf(StringToDateConverter.class)));
+    }
+
+    @Test
+    public void testFindConverterIfPresent_NotFound() {
+        LinkkiConverterRegistry linkkiConverterRegistry = new LinkkiConverterRegistry();
+
+        assertThat(linkkiConverterRegistry.findConverterIfPresent(String.class, java.time.LocalDate.class),
+                   is(Optional.empty()));
+        assertThat(linkkiConverterRegistry.findConverterIfPresent(String.class, java.time.LocalDate.class),
+                   is(Optional.empty()));
+    }
+
+    @Test
+    public void testFindConverter_AfterDeserialization() {
+        LinkkiConverterRegistry linkkiConverterRegistry = SerializationUtils
+                .roundtrip(new LinkkiConverterRegistry(new MyStringToDateConverter()));
+
+        assertThat(linkkiConverterRegistry.findConverter(String.class, Date.class),
+                   is(instanceOf(MyStringToDateConverter.class)));
+    }
+
 
     public static class MyStringToDateConverter implements Converter<String, Date> {
 
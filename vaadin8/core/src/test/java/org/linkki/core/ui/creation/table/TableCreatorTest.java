@@ -16,6 +16,8 @@ package org.linkki.core.ui.creation.table;
 
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.util.Arrays;
@@ -28,8 +30,14 @@ import org.linkki.core.binding.descriptor.PropertyElementDescriptors;
 import org.linkki.core.binding.descriptor.UIElementAnnotationReader;
 import org.linkki.core.binding.descriptor.property.BoundProperty;
 import org.linkki.core.binding.wrapper.ComponentWrapper;
+import org.linkki.core.ui.mock.MockUi;
 import org.linkki.core.ui.table.column.annotation.UITableColumn;
 
+import com.vaadin.data.HasValue.ValueChangeEvent;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.TextField;
+import com.vaadin.ui.UI;
+
 @SuppressWarnings("deprecation")
 public class TableCreatorTest {
 
@@ -77,6 +85,91 @@ public class TableCreatorTest {
         assertThat(table.isColumnCollapsed("value3"), is(false));
     }
 
+    @Test
+    public void testCreateComponent_Virtualized() {
+        TableCreator creator = new TableCreator();
+
+        com.vaadin.v7.ui.Table table = (com.vaadin.v7.ui.Table)creator.createComponent(new TestTablePmo())
+                .getComponent();
+        com.vaadin.v7.ui.Table virtualizedTable = (com.vaadin.v7.ui.Table)creator
+                .createComponent(new VirtualizedTestTablePmo())
+                .getComponent();
+
+        assertThat(virtualizedTable.getCacheRate(), is(TableCreator.VIRTUALIZED_CACHE_RATE));
+        assertThat(table.getCacheRate(), is(not(TableCreator.VIRTUALIZED_CACHE_RATE)));
+    }
+
+    @Test
+    public void testInitColumn_BindsCellImmediately() {
+        BindingContext bindingContext = new BindingContext();
+        com.vaadin.v7.ui.Table table = createTableWithColumns(new TestTablePmo(), bindingContext);
+        ContainerBinding containerBinding = (ContainerBinding)bindingContext.getBindings().iterator().next();
+        int bindingCount = containerBinding.getBindings().size();
+
+        table.getColumnGenerator("value1").generateCell(table, new TestRowPmo(), "value1");
+
+        assertThat(containerBinding.getBindings().size(), is(bindingCount + 1));
+    }
+
+    @Test
+    public void testInitColumn_Virtualized_BindsCellOnlyWhileAttached() {
+        UI ui = MockUi.mockUi();
+        try {
+            BindingContext bindingContext = new BindingContext();
+            com.vaadin.v7.ui.Table table = createTableWithColumns(new VirtualizedTestTablePmo(), bindingContext);
+            ContainerBinding containerBinding = (ContainerBinding)bindingContext.getBindings().iterator().next();
+            int bindingCount = containerBinding.getBindings().size();
+
+            Component cell = (Component)table.getColumnGenerator("value1").generateCell(table, new TestRowPmo(),
+                                                                                         "value1");
+            assertThat(containerBinding.getBindings().size(), is(bindingCount));
+
+            cell.setParent(ui);
+            assertThat(containerBinding.getBindings().size(), is(bindingCount + 1));
+
+            cell.setParent(null);
+            assertThat(containerBinding.getBindings().size(), is(bindingCount));
+
+            cell.setParent(ui);
+            assertThat(containerBinding.getBindings().size(), is(bindingCount + 1));
+        } finally {
+            UI.setCurrent(null);
+        }
+    }
+
+    @Test
+    public void testInitColumn_Virtualized_DoesNotAddListenersOnReattach() {
+        UI ui = MockUi.mockUi();
+        try {
+            BindingContext bindingContext = new BindingContext();
+            com.vaadin.v7.ui.Table table = createTableWithColumns(new VirtualizedTestTablePmo(), bindingContext);
+            TextField cell = (TextField)table.getColumnGenerator("value1").generateCell(table, new TestRowPmo(),
+                                                                                         "value1");
+            cell.setParent(ui);
+            int listenerCount = cell.getListeners(ValueChangeEvent.class).size();
+
+            cell.setParent(null);
+            cell.setParent(ui);
+
+            assertThat(cell.getListeners(ValueChangeEvent.class).size(), is(listenerCount));
+            assertThat(cell.getData(), is(notNullValue()));
+        } finally {
+            UI.setCurrent(null);
+        }
+    }
+
+    private com.vaadin.v7.ui.Table createTableWithColumns(TestTablePmo containerPmo, BindingContext bindingContext) {
+        Stream<PropertyElementDescriptors> uiElements = new UIElementAnnotationReader(TestRowPmo.class).getUiElements();
+        TableCreator creator = new TableCreator();
+        ComponentWrapper componentWrapper = creator.createComponent(containerPmo);
+        ContainerBinding binding = bindingContext.bindContainer(containerPmo,
+                                                                BoundProperty.of(""), Arrays.asList(),
+                                                                componentWrapper);
+
+        uiElements.forEach(elementDesc -> creator.initColumn(containerPmo, componentWrapper, binding, elementDesc));
+        return (com.vaadin.v7.ui.Table)componentWrapper.getComponent();
+    }
+
     private com.vaadin.v7.ui.Table createTableWithColumns() {
         TestTablePmo containerPmo = new TestTablePmo();
         Stream<PropertyElementDescriptors> uiElements = new UIElementAnnotationReader(TestRowPmo.class).getUiElements();
@@ -93,4 +186,13 @@ public class TableCreatorTest {
         return (com.vaadin.v7.ui.Table)componentWrapper.getComponent();
     }
 
+    private static class VirtualizedTestTablePmo extends TestTablePmo {
+
+        @Override
+        public boolean isVirtualized() {
+            return true;
+        }
+
+    }
+
 }
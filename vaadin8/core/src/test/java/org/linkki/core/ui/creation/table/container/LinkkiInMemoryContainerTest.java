@@ -20,12 +20,15 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.Test;
 import org.linkki.core.defaults.columnbased.pmo.HierarchicalRowPmo;
+import org.mockito.Mockito;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
@@ -323,6 +326,164 @@ public class LinkkiInMemoryContainerTest {
         assertThat(itemIds.contains(child2), is(true));
     }
 
+    @Test
+    public void testUpdateItems_NewRoots() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        TestItem testItem = new TestItem(42);
+
+        boolean changed = container.updateItems(Collections.singletonList(testItem), item -> true);
+
+        assertThat(changed, is(true));
+        assertThat(container.rootItemIds(), contains(testItem));
+        assertThat(container.isRoot(testItem), is(true));
+        assertThat(container.containsId(testItem), is(true));
+    }
+
+    @Test
+    public void testUpdateItems_Unchanged() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem child = new MutableTestItem(6);
+        MutableTestItem testItem = new MutableTestItem(42, child);
+        container.updateItems(Collections.singletonList(testItem), item -> true);
+        com.vaadin.v7.data.Container.ItemSetChangeListener listener = Mockito
+                .mock(com.vaadin.v7.data.Container.ItemSetChangeListener.class);
+        container.addItemSetChangeListener(listener);
+
+        boolean changed = container.updateItems(Collections.singletonList(testItem), item -> true);
+
+        assertThat(changed, is(false));
+        Mockito.verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void testUpdateItems_RemovedRoot() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem child = new MutableTestItem(6);
+        MutableTestItem testItem = new MutableTestItem(42, child);
+        container.updateItems(Collections.singletonList(testItem), item -> true);
+
+        boolean changed = container.updateItems(Collections.emptyList(), item -> true);
+
+        assertThat(changed, is(true));
+        assertThat(container.isRoot(testItem), is(false));
+        assertThat(container.containsId(testItem), is(false));
+        assertThat(container.containsId(child), is(false));
+        assertThat(container.getParent(child), is(nullValue()));
+    }
+
+    @Test
+    public void testUpdateItems_InsertedAndRemovedChildren() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem subChild = new MutableTestItem(1);
+        MutableTestItem removedChild = new MutableTestItem(6, subChild);
+        MutableTestItem testItem = new MutableTestItem(42, removedChild);
+        container.updateItems(Collections.singletonList(testItem), item -> true);
+        MutableTestItem insertedChild = new MutableTestItem(9);
+        testItem.children.set(0, insertedChild);
+
+        boolean changed = container.updateItems(Collections.singletonList(testItem), item -> true);
+
+        assertThat(changed, is(true));
+        assertThat(container.getChildren(testItem), contains(insertedChild));
+        assertThat(container.containsId(insertedChild), is(true));
+        assertThat(container.getParent(insertedChild), is(testItem));
+        assertThat(container.containsId(removedChild), is(false));
+        assertThat(container.containsId(subChild), is(false));
+    }
+
+    @Test
+    public void testUpdateItems_MovedChild() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem movedChild = new MutableTestItem(1);
+        MutableTestItem parent1 = new MutableTestItem(6);
+        MutableTestItem parent2 = new MutableTestItem(9, movedChild);
+        container.updateItems(Arrays.asList(parent1, parent2), item -> true);
+        parent2.children.clear();
+        parent1.children.add(movedChild);
+
+        boolean changed = container.updateItems(Arrays.asList(parent1, parent2), item -> true);
+
+        assertThat(changed, is(true));
+        assertThat(container.containsId(movedChild), is(true));
+        assertThat(container.getParent(movedChild), is(parent1));
+        assertThat(container.getChildren(parent1), contains(movedChild));
+        assertThat(container.getChildren(parent2), is(empty()));
+    }
+
+    @Test
+    public void testUpdateItems_ChildWithSubtreeMovedToLaterParent() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem subChild = new MutableTestItem(1);
+        MutableTestItem movedChild = new MutableTestItem(2, subChild);
+        movedChild.version = OptionalLong.of(1);
+        MutableTestItem parent1 = new MutableTestItem(6, movedChild);
+        MutableTestItem parent2 = new MutableTestItem(9);
+        container.updateItems(Arrays.asList(parent1, parent2), item -> true);
+        parent1.children.clear();
+        parent2.children.add(movedChild);
+        movedChild.childRowsRead = 0;
+
+        boolean changed = container.updateItems(Arrays.asList(parent1, parent2), item -> true);
+
+        assertThat(changed, is(true));
+        assertThat(container.getParent(movedChild), is(parent2));
+        assertThat(container.getChildren(parent1), is(empty()));
+        assertThat(container.getChildren(parent2), contains(movedChild));
+        assertThat(container.containsId(movedChild), is(true));
+        assertThat(container.containsId(subChild), is(true));
+        assertThat(container.getParent(subChild), is(movedChild));
+        assertThat(container.getExistingChildren(movedChild), contains(subChild));
+        // the subtree is kept, so its unchanged version prevents reading it again
+        assertThat(movedChild.childRowsRead, is(0));
+    }
+
+    @Test
+    public void testUpdateItems_ChildMovedToRoot() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem movedChild = new MutableTestItem(1);
+        MutableTestItem testItem = new MutableTestItem(42, movedChild);
+        container.updateItems(Collections.singletonList(testItem), item -> true);
+        testItem.children.clear();
+
+        container.updateItems(Arrays.asList(testItem, movedChild), item -> true);
+
+        assertThat(container.isRoot(movedChild), is(true));
+        assertThat(container.containsId(movedChild), is(true));
+        assertThat(container.getParent(movedChild), is(nullValue()));
+    }
+
+    @Test
+    public void testUpdateItems_ChildrenOfCollapsedItemAreNotWalked() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem subChild = new MutableTestItem(1);
+        MutableTestItem child = new MutableTestItem(6, subChild);
+        MutableTestItem testItem = new MutableTestItem(42, child);
+        container.updateItems(Collections.singletonList(testItem), item -> true);
+        child.children.clear();
+
+        boolean changed = container.updateItems(Collections.singletonList(testItem), item -> item != testItem);
+
+        assertThat(changed, is(false));
+        // the dropped children are read again when the item is expanded
+        assertThat(container.containsId(subChild), is(false));
+        assertThat(container.getChildren(child), is(empty()));
+    }
+
+    @Test
+    public void testUpdateItems_UnchangedSubtreeVersion() {
+        LinkkiInMemoryContainer<TestItem> container = new LinkkiInMemoryContainer<>();
+        MutableTestItem child = new MutableTestItem(6);
+        MutableTestItem testItem = new MutableTestItem(42, child);
+        testItem.version = OptionalLong.of(1);
+        container.updateItems(Collections.singletonList(testItem), item -> true);
+        child.children.add(new MutableTestItem(1));
+
+        assertThat(container.updateItems(Collections.singletonList(testItem), item -> true), is(false));
+
+        testItem.version = OptionalLong.of(2);
+        assertThat(container.updateItems(Collections.singletonList(testItem), item -> true), is(true));
+        assertThat(container.getChildren(child), hasSize(1));
+    }
 
     private static class TestItem {
 
@@ -372,5 +533,30 @@ public class LinkkiInMemoryContainerTest {
 
     }
 
+    private static class MutableTestItem extends TestItem implements HierarchicalRowPmo<MutableTestItem> {
+
+        private final List<MutableTestItem> children;
+
+        private OptionalLong version = OptionalLong.empty();
+
+        private int childRowsRead;
+
+        public MutableTestItem(int meaningOfLife, MutableTestItem... children) {
+            super(meaningOfLife);
+            this.children = new ArrayList<>(Arrays.asList(children));
+        }
+
+        @Override
+        public List<? extends MutableTestItem> getChildRows() {
+            childRowsRead++;
+            return children;
+        }
+
+        @Override
+        public OptionalLong getSubtreeVersion() {
+            return version;
+        }
+
+    }
 
-}
\ No newline at end of file
+}
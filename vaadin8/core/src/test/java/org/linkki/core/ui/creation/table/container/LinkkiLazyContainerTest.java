@@ -0,0 +1,237 @@
+/*
+ * Copyright Faktor Zehn GmbH.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing permissions and limitations under the
+ * License.
+ */
+package org.linkki.core.ui.creation.table.container;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.linkki.core.defaults.columnbased.pmo.PagedContainerPmo;
+
+@SuppressWarnings("deprecation")
+public class LinkkiLazyContainerTest {
+
+    @Test
+    public void testSize() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+
+        assertThat(container.size(), is(120));
+        assertThat(containerPmo.loadedOffsets, hasSize(0));
+    }
+
+    @Test
+    public void testGetItemIds_LoadsOnlyRequestedPages() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+
+        assertThat(container.getItemIds(48, 4), contains(48, 49, 50, 51));
+        assertThat(containerPmo.loadedOffsets, contains(0, 50));
+
+        assertThat(container.getItemIds(110, 20), hasSize(10));
+        assertThat(containerPmo.loadedOffsets, contains(0, 50, 100));
+    }
+
+    @Test
+    public void testGetItemIds_PagesAreCached() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+
+        container.getItemIds(0, 10);
+        container.getItemIds(10, 10);
+
+        assertThat(containerPmo.loadedOffsets, contains(0));
+    }
+
+    @Test
+    public void testGetItemIds_LimitsCachedPages() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(1000);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 10);
+
+        container.getItemIds(0, 1000);
+        containerPmo.loadedOffsets.clear();
+        container.getItemIds(0, 10);
+
+        assertThat(containerPmo.loadedOffsets, contains(0));
+    }
+
+    @Test
+    public void testGetIdByIndex_OutOfBounds() {
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(new TestPagedContainerPmo(3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> container.getIdByIndex(3));
+    }
+
+    @Test
+    public void testIndexOfId() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+
+        assertThat(container.indexOfId(60), is(-1));
+
+        container.getIdByIndex(55);
+
+        assertThat(container.indexOfId(60), is(60));
+        assertThat(container.nextItemId(60), is(61));
+        assertThat(container.prevItemId(60), is(59));
+        assertThat(container.containsId(60), is(true));
+    }
+
+    @Test
+    public void testFirstAndLastItemId() {
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(new TestPagedContainerPmo(120), 50);
+
+        assertThat(container.firstItemId(), is(0));
+        assertThat(container.lastItemId(), is(119));
+        assertThat(container.isFirstId(0), is(true));
+        assertThat(container.isLastId(119), is(true));
+    }
+
+    @Test
+    public void testFirstItemId_Empty() {
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(new TestPagedContainerPmo(0));
+
+        assertThat(container.firstItemId(), is(nullValue()));
+        assertThat(container.lastItemId(), is(nullValue()));
+    }
+
+    @Test
+    public void testRefresh_NoChanges() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+        List<Object> events = new ArrayList<>();
+        container.addItemSetChangeListener(events::add);
+        container.getItemIds(0, 10);
+
+        assertThat(container.refresh(), is(false));
+        assertThat(events, hasSize(0));
+    }
+
+    @Test
+    public void testRefresh_SizeChanged() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+        List<Object> events = new ArrayList<>();
+        container.addItemSetChangeListener(events::add);
+        container.getItemIds(0, 10);
+
+        containerPmo.items.add(120);
+
+        assertThat(container.refresh(), is(true));
+        assertThat(events, hasSize(1));
+        assertThat(container.size(), is(121));
+    }
+
+    @Test
+    public void testRefresh_ItemInLoadedPageChanged() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+        List<Object> events = new ArrayList<>();
+        container.addItemSetChangeListener(events::add);
+        container.getItemIds(0, 10);
+
+        containerPmo.items.set(5, 42);
+
+        assertThat(container.refresh(), is(true));
+        assertThat(events, hasSize(1));
+        assertThat(container.getIdByIndex(5), is(42));
+    }
+
+    @Test
+    public void testRefresh_OnlyReloadsLoadedPages() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+        container.getItemIds(60, 10);
+        containerPmo.loadedOffsets.clear();
+
+        container.refresh();
+
+        assertThat(containerPmo.loadedOffsets, contains(50));
+    }
+
+    @Test
+    public void testSort() {
+        TestPagedContainerPmo containerPmo = new TestPagedContainerPmo(120);
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(containerPmo, 50);
+        List<Object> events = new ArrayList<>();
+        container.addItemSetChangeListener(events::add);
+        container.getItemIds(0, 10);
+
+        container.sort(new Object[] { "value" }, new boolean[] { false });
+
+        assertThat(events, hasSize(1));
+        assertThat(container.getItemIds(0, 3), contains(119, 118, 117));
+        assertThat(container.getSortableContainerPropertyIds(), contains("value"));
+    }
+
+    @Test
+    public void testAddItem_ReadOnly() {
+        LinkkiLazyContainer<Integer> container = new LinkkiLazyContainer<>(new TestPagedContainerPmo(1));
+
+        assertThrows(UnsupportedOperationException.class, () -> container.addItem());
+        assertThrows(UnsupportedOperationException.class, () -> container.removeAllItems());
+    }
+
+    private static class TestPagedContainerPmo implements PagedContainerPmo<Integer> {
+
+        private final List<Integer> items;
+
+        private final List<Integer> loadedOffsets = new ArrayList<>();
+
+        TestPagedContainerPmo(int size) {
+            items = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        }
+
+        @Override
+        public Class<? extends Integer> getItemPmoClass() {
+            return Integer.class;
+        }
+
+        @Override
+        public int getItemCount() {
+            return items.size();
+        }
+
+        @Override
+        public List<Integer> getItems(int offset, int limit) {
+            loadedOffsets.add(offset);
+            return new ArrayList<>(items.subList(offset, Math.min(offset + limit, items.size())));
+        }
+
+        @Override
+        public Set<String> getSortableProperties() {
+            return new HashSet<>(Arrays.asList("value"));
+        }
+
+        @Override
+        public void sortBy(String property, boolean ascending) {
+            items.sort(ascending ? Comparator.naturalOrder() : Comparator.reverseOrder());
+        }
+
+    }
+
+}
@@ -28,6 +28,8 @@ import com.vaadin.event.ShortcutAction.KeyCode;
 import com.vaadin.event.ShortcutAction.ModifierKey;
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.ui.Button;
+import com.vaadin.ui.Button.ClickEvent;
+import com.vaadin.ui.Button.ClickListener;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
@@ -72,6 +74,22 @@ public class UIButtonIntegrationTest extends ComponentAnnotationIntegrationTest<
         assertTrue(getDefaultPmo().isClicked());
     }
 
+    @Test
+    public void testButtonClick_EnabledAgainAfterDisableOnClick() {
+        getDefaultPmo().setEnabled(true);
+        modelChanged();
+        Button button = getDynamicComponent();
+        assertThat(button.isDisableOnClick(), is(true));
+
+        // the disableOnClick RPC disables the button on the server before the click is handled
+        button.setEnabled(false);
+        button.getListeners(ClickEvent.class)
+                .forEach(listener -> ((ClickListener)listener).buttonClick(new ClickEvent(button)));
+
+        assertTrue(getDefaultPmo().isClicked());
+        assertThat(button.isEnabled(), is(true));
+    }
+
     @Test
     public void testDerivedCaption() {
         Button button = getComponentById("doFoo");
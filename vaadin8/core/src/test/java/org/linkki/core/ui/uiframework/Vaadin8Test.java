@@ -31,6 +31,7 @@ import org.linkki.core.uiframework.UiFramework;
 import com.vaadin.ui.Component;
 import com.vaadin.ui.HasComponents;
 import com.vaadin.ui.Label;
+import com.vaadin.ui.TabSheet;
 import com.vaadin.ui.UI;
 import com.vaadin.ui.VerticalLayout;
 
@@ -67,6 +68,43 @@ public class Vaadin8Test {
         assertThat(UiFramework.get().getChildComponents(componentWithChildren).toArray(), is(arr));
     }
 
+    @Test
+    public void testIsAttached() {
+        assertThat(UiFramework.isAttached(new Label()), is(false));
+        assertThat(UiFramework.isAttached("no Component"), is(true));
+    }
+
+    @Test
+    public void testIsHiddenByParent() {
+        Label label = new Label();
+        VerticalLayout layout = new VerticalLayout(label);
+        VerticalLayout root = new VerticalLayout(layout);
+        assertThat(UiFramework.isHiddenByParent(label), is(false));
+
+        label.setVisible(false);
+        assertThat(UiFramework.isHiddenByParent(label), is(false));
+
+        root.setVisible(false);
+        assertThat(UiFramework.isHiddenByParent(label), is(true));
+        assertThat(UiFramework.isHiddenByParent(root), is(false));
+        assertThat(UiFramework.isHiddenByParent("no Component"), is(false));
+    }
+
+    @Test
+    public void testIsHiddenByParent_TabSheet() {
+        Label label1 = new Label();
+        Label label2 = new Label();
+        TabSheet tabSheet = new TabSheet(new VerticalLayout(label1), new VerticalLayout(label2));
+        tabSheet.setSelectedTab(0);
+
+        assertThat(UiFramework.isHiddenByParent(label1), is(false));
+        assertThat(UiFramework.isHiddenByParent(label2), is(true));
+
+        tabSheet.setSelectedTab(1);
+        assertThat(UiFramework.isHiddenByParent(label1), is(true));
+        assertThat(UiFramework.isHiddenByParent(label2), is(false));
+    }
+
     public void testGetChildComponents_noComponents() {
         String noComponent = "no Component";
         assertThat(UiFramework.get().getChildComponents(noComponent), is(Stream.empty()));
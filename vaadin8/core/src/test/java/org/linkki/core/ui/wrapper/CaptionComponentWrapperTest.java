@@ -26,6 +26,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import org.junit.jupiter.api.Test;
 import org.linkki.core.binding.validation.message.Message;
 import org.linkki.core.binding.validation.message.MessageList;
+import org.linkki.core.binding.wrapper.DisplayedValidationMessages;
 import org.linkki.core.binding.wrapper.WrapperType;
 import org.mockito.ArgumentCaptor;
 
@@ -183,6 +184,48 @@ public class CaptionComponentWrapperTest {
         verify(component).setComponentError(null);
     }
 
+    @Test
+    public void testSetValidationMessages_Unchanged() {
+        TextField component = new TextField();
+        CaptionComponentWrapper wrapper = new CaptionComponentWrapper("testID", component,
+                WrapperType.FIELD);
+        wrapper.setValidationMessages(new MessageList(Message.newError("e", "testError")));
+        ErrorMessage errorMessage = component.getComponentError();
+        long suppressedUpdates = DisplayedValidationMessages.getSuppressedUpdateCount();
+
+        wrapper.setValidationMessages(new MessageList(Message.newError("e", "testError")));
+
+        assertThat(component.getComponentError(), is(sameInstance(errorMessage)));
+        assertThat(DisplayedValidationMessages.getSuppressedUpdateCount(), is(suppressedUpdates + 1));
+    }
+
+    @Test
+    public void testSetValidationMessages_Changed() {
+        TextField component = new TextField();
+        CaptionComponentWrapper wrapper = new CaptionComponentWrapper("testID", component,
+                WrapperType.FIELD);
+        wrapper.setValidationMessages(new MessageList(Message.newError("e", "testError")));
+
+        wrapper.setValidationMessages(new MessageList());
+
+        assertThat(component.getComponentError(), is(nullValue()));
+    }
+
+    @Test
+    public void testSetValidationMessages_ComponentErrorChangedElsewhere() {
+        TextField component = new TextField();
+        CaptionComponentWrapper wrapper = new CaptionComponentWrapper("testID", component,
+                WrapperType.FIELD);
+        wrapper.setValidationMessages(new MessageList(Message.newError("e", "testError")));
+        component.setComponentError(null);
+
+        wrapper.setValidationMessages(new MessageList(Message.newError("e", "testError")));
+
+        @NonNull
+        ErrorMessage errorMessage = component.getComponentError();
+        assertThat(errorMessage.getFormattedHtmlMessage(), containsString("testError"));
+    }
+
     @Test
     public void testGetType() {
         Component component = mock(Component.class);
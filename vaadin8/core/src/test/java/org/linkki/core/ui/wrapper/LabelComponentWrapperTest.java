@@ -17,6 +17,8 @@ package org.linkki.core.ui.wrapper;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -41,12 +43,15 @@ import org.linkki.core.ui.bind.TestEnum;
 import org.linkki.util.handler.Handler;
 import org.mockito.ArgumentCaptor;
 
+import com.vaadin.server.ClientConnector.DetachEvent;
+import com.vaadin.server.ClientConnector.DetachListener;
 import com.vaadin.server.UserError;
 import com.vaadin.shared.ui.ContentMode;
 import com.vaadin.shared.ui.ErrorLevel;
 import com.vaadin.ui.AbstractComponent;
 import com.vaadin.ui.AbstractField;
 import com.vaadin.ui.ComboBox;
+import com.vaadin.ui.Component;
 import com.vaadin.ui.Label;
 import com.vaadin.ui.TextField;
 
@@ -184,4 +189,43 @@ public class LabelComponentWrapperTest {
 
         assertThat(label.getStyleName(), not(containsString(LinkkiTheme.REQUIRED_LABEL_COMPONENT_WRAPPER)));
     }
+
+    @Test
+    public void testAddDetachHandler() {
+        Component component = mock(Component.class);
+        LabelComponentWrapper wrapper = new LabelComponentWrapper(label, component);
+        Handler detachHandler = mock(Handler.class);
+
+        wrapper.addDetachHandler(detachHandler);
+        ArgumentCaptor<DetachListener> detachListener = ArgumentCaptor.forClass(DetachListener.class);
+        verify(component).addDetachListener(detachListener.capture());
+        detachListener.getValue().detach(new DetachEvent(component));
+
+        verify(detachHandler).apply();
+    }
+
+    @Test
+    public void testUnregisterBinding() {
+        TextField component = new TextField();
+        LabelComponentWrapper wrapper = new LabelComponentWrapper(component);
+        ElementBinding binding = mock(ElementBinding.class);
+        wrapper.registerBinding(binding);
+
+        wrapper.unregisterBinding();
+
+        assertThat(component.getData(), is(nullValue()));
+        wrapper.registerBinding(binding);
+        assertThat(component.getData(), is(binding));
+    }
+
+    @Test
+    public void testUnregisterBinding_KeepsOtherData() {
+        TextField component = new TextField();
+        component.setData("foo");
+        LabelComponentWrapper wrapper = new LabelComponentWrapper(component);
+
+        wrapper.unregisterBinding();
+
+        assertThat(component.getData(), is("foo"));
+    }
 }
@@ -17,10 +17,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.Test;
 import org.linkki.core.defaults.style.LinkkiTheme;
 import org.linkki.core.vaadin.component.ComponentFactory;
+import org.linkki.util.handler.Handler;
 
 import com.vaadin.ui.Button;
 import com.vaadin.ui.Component;
@@ -190,4 +194,29 @@ public class AbstractSectionTest {
         assertThat(button1.getStyleName(), containsString(LinkkiTheme.BUTTON_TEXT));
     }
 
+    @Test
+    public void testAddOpenHandler() {
+        Label content = new Label();
+        TestSection section = new TestSection("", true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Component getSectionContent() {
+                return content;
+            }
+
+        };
+        Handler openHandler = mock(Handler.class);
+        section.addOpenHandler(openHandler);
+
+        section.close();
+        verify(openHandler, never()).apply();
+        assertThat(content.isVisible(), is(false));
+
+        section.open();
+        verify(openHandler).apply();
+        assertThat(content.isVisible(), is(true));
+    }
+
 }